@@ -21,13 +21,18 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.kubernetes.commons.config.ConfigMapPropertySource;
+import org.springframework.cloud.kubernetes.commons.config.ConfigResourceCache;
+import org.springframework.cloud.kubernetes.commons.config.ConfigUtils;
 import org.springframework.core.env.Environment;
 
 /**
@@ -37,13 +42,27 @@ public class KubernetesClientConfigMapPropertySource extends ConfigMapPropertySo
 
 	private static final Log LOG = LogFactory.getLog(KubernetesClientConfigMapPropertySource.class);
 
+	private static final String KIND = "configmap";
+
 	public KubernetesClientConfigMapPropertySource(CoreV1Api coreV1Api, String name, String namespace,
 			Environment environment) {
-		super(getName(name, namespace), getData(coreV1Api, name, namespace, environment));
+		this(coreV1Api, name, namespace, environment, new ConfigResourceCache());
+	}
+
+	public KubernetesClientConfigMapPropertySource(CoreV1Api coreV1Api, String name, String namespace,
+			Environment environment, ConfigResourceCache cache) {
+		this(coreV1Api, name, namespace, environment, cache, null);
+	}
+
+	public KubernetesClientConfigMapPropertySource(CoreV1Api coreV1Api, String name, String namespace,
+			Environment environment, ConfigResourceCache cache,
+			KubernetesClientConfigInformers<V1ConfigMap, V1ConfigMapList> informers) {
+		super(getName(name, namespace), getData(coreV1Api, name, namespace, environment, cache, informers));
 	}
 
 	private static Map<String, Object> getData(CoreV1Api coreV1Api, String name, String namespace,
-			Environment environment) {
+			Environment environment, ConfigResourceCache cache,
+			KubernetesClientConfigInformers<V1ConfigMap, V1ConfigMapList> informers) {
 
 		try {
 			List<String> names = new ArrayList<>();
@@ -53,17 +72,46 @@ public class KubernetesClientConfigMapPropertySource extends ConfigMapPropertySo
 					names.add(name + "-" + activeProfile);
 				}
 			}
+			List<V1ConfigMap> maps = ConfigUtils.fetchConcurrently(names,
+					configMapName -> cache.getResource(KIND, namespace, configMapName,
+							() -> informers != null
+									? informers.get(namespace, configMapName,
+											() -> getConfigMap(coreV1Api, configMapName, namespace))
+									: getConfigMap(coreV1Api, configMapName, namespace)));
+
 			Map<String, Object> result = new LinkedHashMap<>();
-			coreV1Api.listNamespacedConfigMap(namespace, null, null, null, null, null, null, null, null, null, null)
-					.getItems().stream().filter(cm -> names.contains(cm.getMetadata().getName()))
-					.forEach(map -> result.putAll(processAllEntries(map.getData(), environment)));
+			for (int i = 0; i < maps.size(); i++) {
+				V1ConfigMap map = maps.get(i);
+				if (map != null) {
+					String resourceVersion = map.getMetadata() != null ? map.getMetadata().getResourceVersion() : null;
+					result.putAll(cache.getProperties(KIND, namespace, names.get(i), resourceVersion, environment,
+							() -> processAllEntries(map.getData(), environment)));
+				}
+			}
 
 			return result;
 		}
-		catch (ApiException e) {
-			LOG.warn("Unable to get ConfigMap " + name + " in namespace " + namespace, e);
+		catch (CompletionException e) {
+			LOG.warn("Unable to get ConfigMap " + name + " in namespace " + namespace, e.getCause());
 		}
 		return Collections.emptyMap();
 	}
 
+	/**
+	 * Lists the ConfigMaps of the namespace with a field selector on their name, so only
+	 * the ConfigMap named is returned by the API server, while the same permission to
+	 * list ConfigMaps is needed.
+	 */
+	private static V1ConfigMap getConfigMap(CoreV1Api coreV1Api, String name, String namespace) {
+		try {
+			return coreV1Api
+					.listNamespacedConfigMap(namespace, null, null, null, "metadata.name=" + name, null, null, null,
+							null, null, null)
+					.getItems().stream().filter(cm -> name.equals(cm.getMetadata().getName())).findFirst().orElse(null);
+		}
+		catch (ApiException e) {
+			throw new CompletionException(e);
+		}
+	}
+
 }
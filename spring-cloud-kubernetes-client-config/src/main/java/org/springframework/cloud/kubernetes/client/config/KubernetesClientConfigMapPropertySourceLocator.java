@@ -16,21 +16,31 @@
 
 package org.springframework.cloud.kubernetes.client.config;
 
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.util.CallGeneratorParams;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.kubernetes.commons.KubernetesClientProperties;
 import org.springframework.cloud.kubernetes.commons.KubernetesNamespaceProvider;
 import org.springframework.cloud.kubernetes.commons.config.ConfigMapConfigProperties;
 import org.springframework.cloud.kubernetes.commons.config.ConfigMapPropertySourceLocator;
+import org.springframework.cloud.kubernetes.commons.config.ConfigResourceCache;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 
+import static org.springframework.cloud.kubernetes.client.KubernetesClientUtils.kubernetesApiClient;
 import static org.springframework.cloud.kubernetes.client.config.KubernetesClientConfigUtils.getNamespace;
 
 /**
  * @author Ryan Baxter
  */
-public class KubernetesClientConfigMapPropertySourceLocator extends ConfigMapPropertySourceLocator {
+public class KubernetesClientConfigMapPropertySourceLocator extends ConfigMapPropertySourceLocator
+		implements DisposableBean {
 
 	private CoreV1Api coreV1Api;
 
@@ -38,11 +48,14 @@ public class KubernetesClientConfigMapPropertySourceLocator extends ConfigMapPro
 
 	private KubernetesNamespaceProvider kubernetesNamespaceProvider;
 
+	private KubernetesClientConfigInformers<V1ConfigMap, V1ConfigMapList> informers;
+
 	public KubernetesClientConfigMapPropertySourceLocator(CoreV1Api coreV1Api, ConfigMapConfigProperties properties,
 			KubernetesClientProperties kubernetesClientProperties) {
 		super(properties);
 		this.coreV1Api = coreV1Api;
 		this.kubernetesClientProperties = kubernetesClientProperties;
+		this.informers = informers(properties);
 	}
 
 	public KubernetesClientConfigMapPropertySourceLocator(CoreV1Api coreV1Api, ConfigMapConfigProperties properties,
@@ -50,16 +63,46 @@ public class KubernetesClientConfigMapPropertySourceLocator extends ConfigMapPro
 		super(properties);
 		this.coreV1Api = coreV1Api;
 		this.kubernetesNamespaceProvider = kubernetesNamespaceProvider;
+		this.informers = informers(properties);
 	}
 
 	@Override
 	protected MapPropertySource getMapPropertySource(String name,
 			ConfigMapConfigProperties.NormalizedSource normalizedSource, String configurationTarget,
 			ConfigurableEnvironment environment) {
+		return getMapPropertySource(name, normalizedSource, configurationTarget, environment, this.cache.newPass());
+	}
+
+	@Override
+	protected MapPropertySource getMapPropertySource(String name,
+			ConfigMapConfigProperties.NormalizedSource normalizedSource, String configurationTarget,
+			ConfigurableEnvironment environment, ConfigResourceCache cache) {
 		String fallbackNamespace = kubernetesNamespaceProvider != null ? kubernetesNamespaceProvider.getNamespace()
 				: kubernetesClientProperties.getNamespace();
 		return new KubernetesClientConfigMapPropertySource(coreV1Api, name,
-				getNamespace(normalizedSource, fallbackNamespace), environment);
+				getNamespace(normalizedSource, fallbackNamespace), environment, cache, this.informers);
+	}
+
+	@Override
+	public void destroy() {
+		if (this.informers != null) {
+			this.informers.destroy();
+		}
+	}
+
+	private static KubernetesClientConfigInformers<V1ConfigMap, V1ConfigMapList> informers(
+			ConfigMapConfigProperties properties) {
+		if (!properties.isEnableInformer()) {
+			return null;
+		}
+		// the watches of the informers stay open until they time out on the server side
+		ApiClient apiClient = kubernetesApiClient();
+		apiClient.setHttpClient(apiClient.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build());
+		CoreV1Api api = new CoreV1Api(apiClient);
+		return new KubernetesClientConfigInformers<>(apiClient, V1ConfigMap.class, V1ConfigMapList.class,
+				namespace -> (CallGeneratorParams params) -> api.listNamespacedConfigMapCall(namespace, null, null,
+						null, null, null, null, params.resourceVersion, null, params.timeoutSeconds, params.watch,
+						null));
 	}
 
 }
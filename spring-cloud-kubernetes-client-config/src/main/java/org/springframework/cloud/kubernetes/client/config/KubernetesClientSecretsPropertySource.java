@@ -18,14 +18,18 @@ package org.springframework.cloud.kubernetes.client.config;
 
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.cloud.kubernetes.commons.config.ConfigResourceCache;
 import org.springframework.cloud.kubernetes.commons.config.SecretsPropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.util.StringUtils;
@@ -37,47 +41,51 @@ public class KubernetesClientSecretsPropertySource extends SecretsPropertySource
 
 	private static final Log LOG = LogFactory.getLog(KubernetesClientSecretsPropertySource.class);
 
+	private static final String KIND = "secret";
+
 	private CoreV1Api coreV1Api;
 
 	public KubernetesClientSecretsPropertySource(CoreV1Api coreV1Api, String name, String namespace,
 			Environment environment, Map<String, String> labels) {
-		super(getSourceName(name, namespace), getSourceData(coreV1Api, environment, name, namespace, labels));
+		this(coreV1Api, name, namespace, environment, labels, new ConfigResourceCache());
+	}
+
+	public KubernetesClientSecretsPropertySource(CoreV1Api coreV1Api, String name, String namespace,
+			Environment environment, Map<String, String> labels, ConfigResourceCache cache) {
+		this(coreV1Api, name, namespace, environment, labels, cache, null);
+	}
 
+	public KubernetesClientSecretsPropertySource(CoreV1Api coreV1Api, String name, String namespace,
+			Environment environment, Map<String, String> labels, ConfigResourceCache cache,
+			KubernetesClientConfigInformers<V1Secret, V1SecretList> informers) {
+		super(getSourceName(name, namespace),
+				getSourceData(coreV1Api, environment, name, namespace, labels, cache, informers));
 	}
 
 	private static Map<String, Object> getSourceData(CoreV1Api api, Environment env, String name, String namespace,
-			Map<String, String> labels) {
+			Map<String, String> labels, ConfigResourceCache cache,
+			KubernetesClientConfigInformers<V1Secret, V1SecretList> informers) {
 		Map<String, Object> result = new HashMap<>();
 
 		try {
 			// Read for secrets api (named)
 			if (StringUtils.hasText(name)) {
-				Optional<V1Secret> secret;
-				if (!StringUtils.hasText(namespace)) {
+				V1Secret secret = cache.getResource(KIND, namespace, name,
+						() -> informers != null ? informers.get(namespace, name, () -> getSecret(api, name, namespace))
+								: getSecret(api, name, namespace));
 
-					// There could technically be more than one, just return the first
-					secret = api.listSecretForAllNamespaces(null, null, null, null, null, null, null, null, null, null)
-							.getItems().stream().filter(s -> name.equals(s.getMetadata().getName())).findFirst();
-				}
-				else {
-					secret = api
-							.listNamespacedSecret(namespace, null, null, null, null, null, null, null, null, null, null)
-							.getItems().stream().filter(s -> name.equals(s.getMetadata().getName())).findFirst();
+				if (secret != null) {
+					putAll(secret, result);
 				}
-
-				secret.ifPresent(s -> putAll(s, result));
 			}
 
 			// Read for secrets api (label)
 			if (labels != null && !labels.isEmpty()) {
-				if (!StringUtils.hasText(namespace)) {
-					api.listSecretForAllNamespaces(null, null, null, createLabelsSelector(labels), null, null, null,
-							null, null, null).getItems().forEach(s -> putAll(s, result));
-				}
-				else {
-					api.listNamespacedSecret(namespace, null, null, null, null, createLabelsSelector(labels), null,
-							null, null, null, null).getItems().forEach(s -> putAll(s, result));
-				}
+				List<V1Secret> secrets = cache.getResource(KIND, namespace, "labels:" + labels,
+						() -> informers != null
+								? informers.list(namespace, labels, () -> getSecrets(api, labels, namespace))
+								: getSecrets(api, labels, namespace));
+				secrets.forEach(s -> putAll(s, result));
 			}
 		}
 		catch (Exception e) {
@@ -88,6 +96,34 @@ public class KubernetesClientSecretsPropertySource extends SecretsPropertySource
 		return result;
 	}
 
+	private static V1Secret getSecret(CoreV1Api api, String name, String namespace) {
+		try {
+			// There could technically be more than one, just return the first
+			List<V1Secret> secrets = !StringUtils.hasText(namespace)
+					? api.listSecretForAllNamespaces(null, null, null, null, null, null, null, null, null, null)
+							.getItems()
+					: api.listNamespacedSecret(namespace, null, null, null, null, null, null, null, null, null, null)
+							.getItems();
+			return secrets.stream().filter(s -> name.equals(s.getMetadata().getName())).findFirst().orElse(null);
+		}
+		catch (ApiException e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	private static List<V1Secret> getSecrets(CoreV1Api api, Map<String, String> labels, String namespace) {
+		try {
+			return !StringUtils.hasText(namespace)
+					? api.listSecretForAllNamespaces(null, null, null, createLabelsSelector(labels), null, null, null,
+							null, null, null).getItems()
+					: api.listNamespacedSecret(namespace, null, null, null, null, createLabelsSelector(labels), null,
+							null, null, null, null).getItems();
+		}
+		catch (ApiException e) {
+			throw new CompletionException(e);
+		}
+	}
+
 	private static String createLabelsSelector(Map<String, String> labels) {
 		StringBuilder selectorString = new StringBuilder();
 		for (String key : labels.keySet()) {
@@ -16,22 +16,32 @@
 
 package org.springframework.cloud.kubernetes.client.config;
 
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
+import io.kubernetes.client.util.CallGeneratorParams;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.kubernetes.commons.KubernetesClientProperties;
 import org.springframework.cloud.kubernetes.commons.KubernetesNamespaceProvider;
+import org.springframework.cloud.kubernetes.commons.config.ConfigResourceCache;
 import org.springframework.cloud.kubernetes.commons.config.SecretsConfigProperties;
 import org.springframework.cloud.kubernetes.commons.config.SecretsPropertySourceLocator;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 
+import static org.springframework.cloud.kubernetes.client.KubernetesClientUtils.kubernetesApiClient;
 import static org.springframework.cloud.kubernetes.client.config.KubernetesClientConfigUtils.getNamespace;
 import static org.springframework.cloud.kubernetes.commons.config.ConfigUtils.getApplicationName;
 
 /**
  * @author Ryan Baxter
  */
-public class KubernetesClientSecretsPropertySourceLocator extends SecretsPropertySourceLocator {
+public class KubernetesClientSecretsPropertySourceLocator extends SecretsPropertySourceLocator
+		implements DisposableBean {
 
 	private CoreV1Api coreV1Api;
 
@@ -39,11 +49,14 @@ public class KubernetesClientSecretsPropertySourceLocator extends SecretsPropert
 
 	private KubernetesNamespaceProvider kubernetesNamespaceProvider;
 
+	private KubernetesClientConfigInformers<V1Secret, V1SecretList> informers;
+
 	public KubernetesClientSecretsPropertySourceLocator(CoreV1Api coreV1Api,
 			KubernetesClientProperties kubernetesClientProperties, SecretsConfigProperties secretsConfigProperties) {
 		super(secretsConfigProperties);
 		this.coreV1Api = coreV1Api;
 		this.kubernetesClientProperties = kubernetesClientProperties;
+		this.informers = informers(secretsConfigProperties);
 	}
 
 	public KubernetesClientSecretsPropertySourceLocator(CoreV1Api coreV1Api,
@@ -51,16 +64,46 @@ public class KubernetesClientSecretsPropertySourceLocator extends SecretsPropert
 		super(secretsConfigProperties);
 		this.coreV1Api = coreV1Api;
 		this.kubernetesNamespaceProvider = kubernetesNamespaceProvider;
+		this.informers = informers(secretsConfigProperties);
 	}
 
 	@Override
 	protected MapPropertySource getPropertySource(ConfigurableEnvironment environment,
 			SecretsConfigProperties.NormalizedSource normalizedSource, String configurationTarget) {
+		return getPropertySource(environment, normalizedSource, configurationTarget, this.cache.newPass());
+	}
+
+	@Override
+	protected MapPropertySource getPropertySource(ConfigurableEnvironment environment,
+			SecretsConfigProperties.NormalizedSource normalizedSource, String configurationTarget,
+			ConfigResourceCache cache) {
 		String fallbackNamespace = kubernetesNamespaceProvider != null ? kubernetesNamespaceProvider.getNamespace()
 				: kubernetesClientProperties.getNamespace();
 		return new KubernetesClientSecretsPropertySource(coreV1Api,
 				getApplicationName(environment, normalizedSource.getName(), configurationTarget),
-				getNamespace(normalizedSource, fallbackNamespace), environment, normalizedSource.getLabels());
+				getNamespace(normalizedSource, fallbackNamespace), environment, normalizedSource.getLabels(), cache,
+				this.informers);
+	}
+
+	@Override
+	public void destroy() {
+		if (this.informers != null) {
+			this.informers.destroy();
+		}
+	}
+
+	private static KubernetesClientConfigInformers<V1Secret, V1SecretList> informers(
+			SecretsConfigProperties properties) {
+		if (!properties.isEnableInformer()) {
+			return null;
+		}
+		// the watches of the informers stay open until they time out on the server side
+		ApiClient apiClient = kubernetesApiClient();
+		apiClient.setHttpClient(apiClient.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build());
+		CoreV1Api api = new CoreV1Api(apiClient);
+		return new KubernetesClientConfigInformers<>(apiClient, V1Secret.class, V1SecretList.class,
+				namespace -> (CallGeneratorParams params) -> api.listNamespacedSecretCall(namespace, null, null, null,
+						null, null, null, params.resourceVersion, null, params.timeoutSeconds, params.watch, null));
 	}
 
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.client.config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapBuilder;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ListMetaBuilder;
+import io.kubernetes.client.openapi.models.V1ObjectMetaBuilder;
+import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.ClientBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KubernetesClientConfigInformersTests {
+
+	private static final String API = "/api/v1/namespaces/default/configmaps";
+
+	private static WireMockServer wireMockServer;
+
+	private static ApiClient apiClient;
+
+	@BeforeAll
+	public static void setup() {
+		wireMockServer = new WireMockServer(options().dynamicPort());
+		wireMockServer.start();
+		WireMock.configureFor("localhost", wireMockServer.port());
+		apiClient = new ClientBuilder().setBasePath("http://localhost:" + wireMockServer.port()).build();
+		apiClient.setHttpClient(apiClient.getHttpClient().newBuilder().readTimeout(Duration.ZERO).build());
+	}
+
+	@AfterAll
+	public static void after() {
+		wireMockServer.stop();
+	}
+
+	@AfterEach
+	public void afterEach() {
+		WireMock.reset();
+	}
+
+	@Test
+	void configMapsShouldBeReadFromTheInformerOnceLoaded() throws Exception {
+		V1ConfigMapList list = new V1ConfigMapList().metadata(new V1ListMetaBuilder().withResourceVersion("1").build())
+				.addItemsItem(configMap("app", "a")).addItemsItem(configMap("other", "b"));
+		stubFor(get(urlPathEqualTo(API)).withQueryParam("watch", equalTo("false"))
+				.willReturn(aResponse().withStatus(200).withBody(new JSON().serialize(list))));
+		stubFor(get(urlPathEqualTo(API)).withQueryParam("watch", equalTo("true"))
+				.willReturn(aResponse().withStatus(200).withFixedDelay(1000)));
+
+		CoreV1Api api = new CoreV1Api(apiClient);
+		KubernetesClientConfigInformers<V1ConfigMap, V1ConfigMapList> informers = new KubernetesClientConfigInformers<>(
+				apiClient, V1ConfigMap.class, V1ConfigMapList.class,
+				namespace -> (CallGeneratorParams params) -> api.listNamespacedConfigMapCall(namespace, null, null,
+						null, null, null, null, params.resourceVersion, null, params.timeoutSeconds, params.watch,
+						null));
+		try {
+			await(() -> informers.get("default", "app", () -> null) != null);
+			assertThat(informers.get("default", "app", () -> {
+				throw new IllegalStateException("read from the API server");
+			}).getData()).containsEntry("value", "a");
+			assertThat(informers.get("default", "missing", () -> null)).isNull();
+			assertThat(informers.list("default", Collections.singletonMap("app", "other"), Collections::emptyList))
+					.extracting(configMap -> configMap.getMetadata().getName()).containsExactly("other");
+		}
+		finally {
+			informers.destroy();
+		}
+	}
+
+	private static V1ConfigMap configMap(String name, String value) {
+		return new V1ConfigMapBuilder().withMetadata(new V1ObjectMetaBuilder().withName(name).withNamespace("default")
+				.withResourceVersion("1").addToLabels("app", name).build()).addToData("value", value).build();
+	}
+
+	private static void await(Supplier<Boolean> condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!condition.get()) {
+			assertThat(System.nanoTime()).as("condition met in time").isLessThan(deadline);
+			TimeUnit.MILLISECONDS.sleep(100);
+		}
+	}
+
+}
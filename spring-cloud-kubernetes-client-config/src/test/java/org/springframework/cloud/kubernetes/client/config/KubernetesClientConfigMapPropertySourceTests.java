@@ -34,10 +34,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.mock.env.MockEnvironment;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -94,11 +96,11 @@ class KubernetesClientConfigMapPropertySourceTests {
 	@Test
 	public void propertiesFile() {
 		CoreV1Api api = new CoreV1Api();
-		stubFor(get(API)
+		stubFor(get(urlPathEqualTo(API)).withQueryParam("fieldSelector", equalTo("metadata.name=bootstrap-640"))
 				.willReturn(aResponse().withStatus(200).withBody(new JSON().serialize(PROPERTIES_CONFIGMAP_LIST))));
 		KubernetesClientConfigMapPropertySource propertySource = new KubernetesClientConfigMapPropertySource(api,
 				"bootstrap-640", "default", new MockEnvironment());
-		verify(getRequestedFor(urlEqualTo(API)));
+		verify(getRequestedFor(urlEqualTo(API + "?fieldSelector=metadata.name%3Dbootstrap-640")));
 		assertThat(propertySource.containsProperty("spring.cloud.kubernetes.configuration.watcher.refreshDelay"))
 				.isTrue();
 		assertThat(propertySource.getProperty("spring.cloud.kubernetes.configuration.watcher.refreshDelay"))
@@ -111,10 +113,11 @@ class KubernetesClientConfigMapPropertySourceTests {
 	@Test
 	public void yamlFile() {
 		CoreV1Api api = new CoreV1Api();
-		stubFor(get(API).willReturn(aResponse().withStatus(200).withBody(new JSON().serialize(YAML_CONFIGMAP_LIST))));
+		stubFor(get(urlPathEqualTo(API)).withQueryParam("fieldSelector", equalTo("metadata.name=bootstrap-641"))
+				.willReturn(aResponse().withStatus(200).withBody(new JSON().serialize(YAML_CONFIGMAP_LIST))));
 		KubernetesClientConfigMapPropertySource propertySource = new KubernetesClientConfigMapPropertySource(api,
 				"bootstrap-641", "default", new MockEnvironment());
-		verify(getRequestedFor(urlEqualTo(API)));
+		verify(getRequestedFor(urlEqualTo(API + "?fieldSelector=metadata.name%3Dbootstrap-641")));
 		assertThat(propertySource.containsProperty("dummy.property.string2")).isTrue();
 		assertThat(propertySource.getProperty("dummy.property.string2")).isEqualTo("a");
 		assertThat(propertySource.containsProperty("dummy.property.int2")).isTrue();
@@ -124,4 +127,27 @@ class KubernetesClientConfigMapPropertySourceTests {
 
 	}
 
+	@Test
+	public void profileConfigMapShouldOverrideTheApplicationConfigMap() {
+		CoreV1Api api = new CoreV1Api();
+		stubFor(get(urlPathEqualTo(API)).withQueryParam("fieldSelector", equalTo("metadata.name=app-dev")).willReturn(
+				aResponse().withStatus(200).withBody(new JSON().serialize(configMapList("app-dev", "dev")))));
+		stubFor(get(urlPathEqualTo(API)).withQueryParam("fieldSelector", equalTo("metadata.name=app"))
+				.willReturn(aResponse().withStatus(200).withBody(new JSON().serialize(configMapList("app", "base")))));
+		stubFor(get(urlPathEqualTo(API)).withQueryParam("fieldSelector", equalTo("metadata.name=app-k8s"))
+				.willReturn(aResponse().withStatus(200).withBody(new JSON().serialize(new V1ConfigMapList()))));
+		MockEnvironment environment = new MockEnvironment();
+		environment.setActiveProfiles("dev", "k8s");
+		KubernetesClientConfigMapPropertySource propertySource = new KubernetesClientConfigMapPropertySource(api, "app",
+				"default", environment);
+		assertThat(propertySource.getProperty("value")).isEqualTo("dev");
+		verify(0, getRequestedFor(urlEqualTo(API)));
+	}
+
+	private static V1ConfigMapList configMapList(String name, String value) {
+		return new V1ConfigMapList().addItemsItem(new V1ConfigMapBuilder()
+				.withMetadata(new V1ObjectMetaBuilder().withName(name).withNamespace("default").build())
+				.addToData("value", value).build());
+	}
+
 }
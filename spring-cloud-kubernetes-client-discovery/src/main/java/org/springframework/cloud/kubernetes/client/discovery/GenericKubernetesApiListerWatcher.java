@@ -0,0 +1,144 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.client.discovery;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ListerWatcher;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.Namespaces;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import io.kubernetes.client.util.generic.GenericKubernetesApi;
+import io.kubernetes.client.util.generic.options.ListOptions;
+
+/**
+ * {@link ListerWatcher} of the resources of a namespace, or of all namespaces, passing
+ * the resource version and timeout requested by the informer on to both the list and the
+ * watch, along with the selectors restricting the resources the API server sends. The
+ * listed and watched resources go through a transformation before they are handed to the
+ * informer, so they can be trimmed before entering its cache.
+ *
+ * @param <T> the type of the resources
+ * @param <L> the type of the resource lists
+ */
+class GenericKubernetesApiListerWatcher<T extends KubernetesObject, L extends KubernetesListObject>
+		implements ListerWatcher<T, L> {
+
+	private final GenericKubernetesApi<T, L> api;
+
+	private final String namespace;
+
+	private final String labelSelector;
+
+	private final String fieldSelector;
+
+	private final UnaryOperator<T> transform;
+
+	/**
+	 * @param api the API of the resources
+	 * @param namespace the namespace of the resources, {@link Namespaces#NAMESPACE_ALL}
+	 * for all of them
+	 * @param labelSelector the label selector passed to the API server, may be null
+	 * @param fieldSelector the field selector passed to the API server, may be null
+	 * @param transform the transformation applied to the resources
+	 */
+	GenericKubernetesApiListerWatcher(GenericKubernetesApi<T, L> api, String namespace, String labelSelector,
+			String fieldSelector, UnaryOperator<T> transform) {
+		this.api = api;
+		this.namespace = namespace;
+		this.labelSelector = labelSelector;
+		this.fieldSelector = fieldSelector;
+		this.transform = transform;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public L list(CallGeneratorParams params) throws ApiException {
+		ListOptions listOptions = listOptions(params);
+		L list = (Namespaces.NAMESPACE_ALL.equals(this.namespace) ? this.api.list(listOptions)
+				: this.api.list(this.namespace, listOptions)).throwsApiException().getObject();
+		if (list != null && list.getItems() != null) {
+			((List<T>) list.getItems()).replaceAll(this.transform);
+		}
+		return list;
+	}
+
+	@Override
+	public Watchable<T> watch(CallGeneratorParams params) throws ApiException {
+		ListOptions listOptions = listOptions(params);
+		Watchable<T> watch = Namespaces.NAMESPACE_ALL.equals(this.namespace) ? this.api.watch(listOptions)
+				: this.api.watch(this.namespace, listOptions);
+		return new TransformingWatchable<>(watch, this.transform);
+	}
+
+	private ListOptions listOptions(CallGeneratorParams params) {
+		ListOptions listOptions = new ListOptions();
+		listOptions.setResourceVersion(params.resourceVersion);
+		listOptions.setTimeoutSeconds(params.timeoutSeconds);
+		listOptions.setLabelSelector(this.labelSelector);
+		listOptions.setFieldSelector(this.fieldSelector);
+		return listOptions;
+	}
+
+	/**
+	 * Applies the transformation to the resources of the events of a watch.
+	 */
+	private static final class TransformingWatchable<T> implements Watchable<T> {
+
+		private final Watchable<T> delegate;
+
+		private final UnaryOperator<T> transform;
+
+		private TransformingWatchable(Watchable<T> delegate, UnaryOperator<T> transform) {
+			this.delegate = delegate;
+			this.transform = transform;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.delegate.hasNext();
+		}
+
+		@Override
+		public Watch.Response<T> next() {
+			Watch.Response<T> response = this.delegate.next();
+			if (response != null && response.object != null) {
+				response.object = this.transform.apply(response.object);
+			}
+			return response;
+		}
+
+		@Override
+		public Iterator<Watch.Response<T>> iterator() {
+			return this;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.delegate.close();
+		}
+
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.kubernetes.client.discovery;
 
+import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.informer.cache.Lister;
@@ -24,16 +25,20 @@ import io.kubernetes.client.openapi.models.V1Endpoints;
 import io.kubernetes.client.openapi.models.V1EndpointsList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSlice;
 import io.kubernetes.client.spring.extended.controller.annotation.GroupVersionResource;
 import io.kubernetes.client.spring.extended.controller.annotation.KubernetesInformer;
 import io.kubernetes.client.spring.extended.controller.annotation.KubernetesInformers;
 import io.kubernetes.client.spring.extended.controller.config.KubernetesInformerAutoConfiguration;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.client.CommonsClientAutoConfiguration;
 import org.springframework.cloud.client.ConditionalOnBlockingDiscoveryEnabled;
@@ -77,6 +82,55 @@ public class KubernetesDiscoveryClientAutoConfiguration {
 	@ConditionalOnBlockingDiscoveryEnabled
 	public static class KubernetesInformerDiscoveryConfiguration {
 
+		@Bean
+		@ConditionalOnMissingBean
+		public KubernetesInformerDiscoveryClient kubernetesInformerDiscoveryClient(
+				KubernetesNamespaceProvider kubernetesNamespaceProvider,
+				KubernetesDiscoveryInformerConfiguration.CatalogSharedInformerFactory sharedInformerFactory,
+				Lister<V1Service> serviceLister, ObjectProvider<Lister<V1Endpoints>> endpointsLister,
+				SharedInformer<V1Service> serviceInformer,
+				ObjectProvider<SharedInformer<V1Endpoints>> endpointsInformer,
+				ObjectProvider<SharedInformer<V1beta1EndpointSlice>> endpointSliceInformer,
+				KubernetesDiscoveryProperties properties) {
+			// SpringCloudKubernetesInformerFactoryProcessor registers shared index
+			// informers
+			if (properties.isUseEndpointSlices()) {
+				return new KubernetesInformerDiscoveryClient(kubernetesNamespaceProvider.getNamespace(),
+						sharedInformerFactory, serviceLister, serviceInformer,
+						(SharedIndexInformer<V1beta1EndpointSlice>) endpointSliceInformer.getObject(), properties);
+			}
+			return new KubernetesInformerDiscoveryClient(kubernetesNamespaceProvider.getNamespace(),
+					sharedInformerFactory, serviceLister, endpointsLister.getObject(), serviceInformer,
+					endpointsInformer.getObject(), properties);
+		}
+
+		/**
+		 * Reports the discovery cache as out of service until it is loaded when it is
+		 * loaded in the background, so it can gate the readiness of the application.
+		 */
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass({ HealthIndicator.class })
+		@ConditionalOnProperty("spring.cloud.kubernetes.discovery.load-cache-in-background")
+		public static class KubernetesDiscoveryCacheHealthIndicatorConfiguration {
+
+			@Bean
+			@ConditionalOnMissingBean(name = "kubernetesDiscoveryCacheHealthIndicator")
+			public HealthIndicator kubernetesDiscoveryCacheHealthIndicator(
+					KubernetesInformerDiscoveryClient discoveryClient) {
+				return () -> discoveryClient.isCacheLoaded() ? Health.up().build() : Health.outOfService().build();
+			}
+
+		}
+
+	}
+
+	/**
+	 * Registers the informers read by both the blocking and the reactive discovery
+	 * clients.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	public static class KubernetesDiscoveryInformerConfiguration {
+
 		@Bean
 		@ConditionalOnMissingBean
 		public SpringCloudKubernetesInformerFactoryProcessor discoveryInformerConfigurer(
@@ -93,18 +147,6 @@ public class KubernetesDiscoveryClientAutoConfiguration {
 			return new CatalogSharedInformerFactory();
 		}
 
-		@Bean
-		@ConditionalOnMissingBean
-		public KubernetesInformerDiscoveryClient kubernetesInformerDiscoveryClient(
-				KubernetesNamespaceProvider kubernetesNamespaceProvider,
-				CatalogSharedInformerFactory sharedInformerFactory, Lister<V1Service> serviceLister,
-				Lister<V1Endpoints> endpointsLister, SharedInformer<V1Service> serviceInformer,
-				SharedInformer<V1Endpoints> endpointsInformer, KubernetesDiscoveryProperties properties) {
-			return new KubernetesInformerDiscoveryClient(kubernetesNamespaceProvider.getNamespace(),
-					sharedInformerFactory, serviceLister, endpointsLister, serviceInformer, endpointsInformer,
-					properties);
-		}
-
 		@KubernetesInformers({
 				@KubernetesInformer(apiTypeClass = V1Service.class, apiListTypeClass = V1ServiceList.class,
 						groupVersionResource = @GroupVersionResource(apiGroup = "", apiVersion = "v1",
@@ -18,29 +18,49 @@ package org.springframework.cloud.kubernetes.client.discovery;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.extended.wait.Wait;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.informer.cache.Indexer;
 import io.kubernetes.client.informer.cache.Lister;
 import io.kubernetes.client.openapi.models.V1EndpointAddress;
 import io.kubernetes.client.openapi.models.V1EndpointPort;
 import io.kubernetes.client.openapi.models.V1Endpoints;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1beta1Endpoint;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSlice;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceFilter;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstanceMetadata;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -50,7 +70,7 @@ import org.springframework.util.StringUtils;
  * @author Ryan Baxter
  * @author Tim Yysewyn
  */
-public class KubernetesInformerDiscoveryClient implements DiscoveryClient, InitializingBean {
+public class KubernetesInformerDiscoveryClient implements DiscoveryClient, InitializingBean, DisposableBean {
 
 	private static final Log log = LogFactory.getLog(KubernetesInformerDiscoveryClient.class);
 
@@ -60,6 +80,15 @@ public class KubernetesInformerDiscoveryClient implements DiscoveryClient, Initi
 
 	private static final String HTTP_PORT_NAME = "http";
 
+	private static final String SERVICE_NAME_INDEX = "spring-cloud-kubernetes-service-name";
+
+	private static final String ENDPOINT_SLICE_SERVICE_INDEX = "spring-cloud-kubernetes-endpoint-slice-service";
+
+	/**
+	 * Label linking an EndpointSlice to the Service it belongs to.
+	 */
+	static final String ENDPOINT_SLICE_SERVICE_NAME_LABEL = "kubernetes.io/service-name";
+
 	private final SharedInformerFactory sharedInformerFactory;
 
 	private final Lister<V1Service> serviceLister;
@@ -68,10 +97,48 @@ public class KubernetesInformerDiscoveryClient implements DiscoveryClient, Initi
 
 	private final Lister<V1Endpoints> endpointsLister;
 
+	private final Lister<V1beta1EndpointSlice> endpointSliceLister;
+
+	/**
+	 * Cache of the EndpointSlice informer indexed by the namespace and name of the owning
+	 * Service. Null when the informer does not expose its cache.
+	 */
+	private final Indexer<V1beta1EndpointSlice> endpointSliceIndexer;
+
 	private final KubernetesDiscoveryProperties properties;
 
 	private final String namespace;
 
+	/**
+	 * Instances of each service keyed by namespace and name. An entry is built on the
+	 * first lookup and evicted whenever the informers report a change of the Service or
+	 * its Endpoints (or EndpointSlices), so lookups in between are a single map read.
+	 */
+	private final Map<String, List<ServiceInstance>> instancesCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Cache of the service informer carrying an index on the service name, used to find a
+	 * service across all namespaces without scanning every cached service. Null when the
+	 * informer does not expose its cache, lookups then fall back to the lister.
+	 */
+	private final Indexer<V1Service> serviceIndexer;
+
+	private final List<Consumer<String>> instancesChangeListeners = new CopyOnWriteArrayList<>();
+
+	private final KubernetesServiceFilter<V1Service> serviceFilter;
+
+	/**
+	 * Informers watching several namespaces. They are not registered with the shared
+	 * informer factory, so they are started along with it.
+	 */
+	private final List<SharedInformer<?>> multiNamespaceInformers;
+
+	/**
+	 * Released once the cache is loaded when it is loaded in the background, null when it
+	 * is loaded on startup.
+	 */
+	private volatile CountDownLatch cacheLoadedLatch;
+
 	public KubernetesInformerDiscoveryClient(String namespace, SharedInformerFactory sharedInformerFactory,
 			Lister<V1Service> serviceLister, Lister<V1Endpoints> endpointsLister,
 			SharedInformer<V1Service> serviceInformer, SharedInformer<V1Endpoints> endpointsInformer,
@@ -81,9 +148,79 @@ public class KubernetesInformerDiscoveryClient implements DiscoveryClient, Initi
 
 		this.serviceLister = serviceLister;
 		this.endpointsLister = endpointsLister;
+		this.endpointSliceLister = null;
+		this.endpointSliceIndexer = null;
 		this.informersReadyFunc = () -> serviceInformer.hasSynced() && endpointsInformer.hasSynced();
 
 		this.properties = properties;
+		this.serviceIndexer = serviceNameIndexer(serviceInformer);
+		this.serviceFilter = serviceFilter(properties);
+		this.multiNamespaceInformers = multiNamespaceInformers(serviceInformer, endpointsInformer);
+
+		if (serviceInformer != null) {
+			serviceInformer.addEventHandler(new InstancesCacheEvictingHandler<>(svc -> svc.getMetadata().getName()));
+		}
+		if (endpointsInformer != null) {
+			endpointsInformer.addEventHandler(new InstancesCacheEvictingHandler<>(ep -> ep.getMetadata().getName()));
+		}
+	}
+
+	/**
+	 * Creates a discovery client that reads the addresses of services from EndpointSlices
+	 * instead of Endpoints. A change of a single pod then only updates the slice holding
+	 * it instead of the Endpoints object listing every pod of the service.
+	 * @param namespace the namespace to discover services in
+	 * @param sharedInformerFactory the factory the informers are registered with
+	 * @param serviceLister lister of the cached Services
+	 * @param serviceInformer informer of the Services
+	 * @param endpointSliceInformer informer of the EndpointSlices, its cache gets indexed
+	 * by service
+	 * @param properties the discovery properties
+	 */
+	public KubernetesInformerDiscoveryClient(String namespace, SharedInformerFactory sharedInformerFactory,
+			Lister<V1Service> serviceLister, SharedInformer<V1Service> serviceInformer,
+			SharedIndexInformer<V1beta1EndpointSlice> endpointSliceInformer, KubernetesDiscoveryProperties properties) {
+		this.namespace = namespace;
+		this.sharedInformerFactory = sharedInformerFactory;
+
+		this.serviceLister = serviceLister;
+		this.endpointsLister = null;
+		this.endpointSliceLister = new Lister<>(endpointSliceInformer.getIndexer());
+		this.informersReadyFunc = () -> serviceInformer.hasSynced() && endpointSliceInformer.hasSynced();
+
+		this.properties = properties;
+		this.serviceIndexer = serviceNameIndexer(serviceInformer);
+		this.serviceFilter = serviceFilter(properties);
+		this.endpointSliceIndexer = endpointSliceServiceIndexer(endpointSliceInformer);
+		this.multiNamespaceInformers = multiNamespaceInformers(serviceInformer, endpointSliceInformer);
+
+		if (serviceInformer != null) {
+			serviceInformer.addEventHandler(new InstancesCacheEvictingHandler<>(svc -> svc.getMetadata().getName()));
+		}
+		endpointSliceInformer
+				.addEventHandler(new InstancesCacheEvictingHandler<>(KubernetesInformerDiscoveryClient::serviceName));
+	}
+
+	/**
+	 * Registers a listener that is called with the name of a service each time the
+	 * informers report a change of that Service or its Endpoints. The cached instances of
+	 * the service are already evicted when the listener runs, so a later call to
+	 * {@link #getInstances(String)} returns the new state. Listeners run on the informer
+	 * notification thread and must not block, they should hand the lookup over to another
+	 * thread since {@link #getInstances(String)} waits for the cache while it is loaded
+	 * in the background.
+	 * @param listener the listener to add
+	 */
+	public void addInstancesChangeListener(Consumer<String> listener) {
+		this.instancesChangeListeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener registered with {@link #addInstancesChangeListener(Consumer)}.
+	 * @param listener the listener to remove
+	 */
+	public void removeInstancesChangeListener(Consumer<String> listener) {
+		this.instancesChangeListeners.remove(listener);
 	}
 
 	@Override
@@ -94,19 +231,80 @@ public class KubernetesInformerDiscoveryClient implements DiscoveryClient, Initi
 	@Override
 	public List<ServiceInstance> getInstances(String serviceId) {
 		Assert.notNull(serviceId, "[Assertion failed] - the object argument must not be null");
+		awaitCacheLoaded();
 
 		if (!StringUtils.hasText(namespace) && !properties.isAllNamespaces()) {
 			log.warn("Namespace is null or empty, this may cause issues looking up services");
 		}
 
-		V1Service service = properties.isAllNamespaces() ? this.serviceLister.list().stream()
-				.filter(svc -> serviceId.equals(svc.getMetadata().getName())).findFirst().orElse(null)
-				: this.serviceLister.namespace(this.namespace).get(serviceId);
+		if (watchesSeveralNamespaces()) {
+			// a service with the same name may exist in several namespaces, return all of
+			// them
+			List<V1Service> services = findServicesByName(serviceId);
+			if (services.size() == 1) {
+				return getInstances(services.get(0), serviceId);
+			}
+			List<ServiceInstance> instances = new ArrayList<>();
+			services.forEach(service -> instances.addAll(getInstances(service, serviceId)));
+			return instances;
+		}
+
+		V1Service service = this.serviceLister.namespace(this.namespace).get(serviceId);
 		if (service == null) {
 			// no such service present in the cluster
 			return new ArrayList<>();
 		}
+		return getInstances(service, serviceId);
+	}
+
+	/**
+	 * Returns the instances of several services at once. The services are read from the
+	 * informer caches in a single pass and their instances are served from the same cache
+	 * as {@link #getInstances(String)}.
+	 * @param serviceIds the names of the services
+	 * @return the instances keyed by service name, in the order of the given names
+	 */
+	public Map<String, List<ServiceInstance>> getInstances(Collection<String> serviceIds) {
+		Assert.notNull(serviceIds, "[Assertion failed] - the object argument must not be null");
+		awaitCacheLoaded();
+
+		Map<String, List<ServiceInstance>> instances = new LinkedHashMap<>();
+		serviceIds.forEach(serviceId -> instances.put(serviceId, new ArrayList<>()));
+		for (V1Service service : findServicesByNames(instances.keySet())) {
+			String serviceId = service.getMetadata().getName();
+			instances.get(serviceId).addAll(getInstances(service, serviceId));
+		}
+		return instances;
+	}
+
+	private List<V1Service> findServicesByNames(Set<String> serviceIds) {
+		if (!watchesSeveralNamespaces()) {
+			Lister<V1Service> namespaceLister = this.serviceLister.namespace(this.namespace);
+			return serviceIds.stream().map(namespaceLister::get).filter(Objects::nonNull).collect(Collectors.toList());
+		}
+		if (this.serviceIndexer != null) {
+			return serviceIds.stream().flatMap(id -> this.serviceIndexer.byIndex(SERVICE_NAME_INDEX, id).stream())
+					.collect(Collectors.toList());
+		}
+		return this.serviceLister.list().stream().filter(svc -> serviceIds.contains(svc.getMetadata().getName()))
+				.collect(Collectors.toList());
+	}
+
+	private List<V1Service> findServicesByName(String serviceId) {
+		if (this.serviceIndexer != null) {
+			return this.serviceIndexer.byIndex(SERVICE_NAME_INDEX, serviceId);
+		}
+		return this.serviceLister.list().stream().filter(svc -> serviceId.equals(svc.getMetadata().getName()))
+				.collect(Collectors.toList());
+	}
 
+	private List<ServiceInstance> getInstances(V1Service service, String serviceId) {
+		return this.instancesCache.computeIfAbsent(
+				cacheKey(service.getMetadata().getNamespace(), service.getMetadata().getName()),
+				key -> Collections.unmodifiableList(createInstances(service, serviceId)));
+	}
+
+	private List<ServiceInstance> createInstances(V1Service service, String serviceId) {
 		Map<String, String> svcMetadata = new HashMap<>();
 		if (this.properties.getMetadata() != null) {
 			if (this.properties.getMetadata().isAddLabels()) {
@@ -129,6 +327,12 @@ public class KubernetesInformerDiscoveryClient implements DiscoveryClient, Initi
 			}
 		}
 
+		// the instances of the service share the metadata map
+		Map<String, String> sharedMetadata = KubernetesServiceInstanceMetadata.shared(svcMetadata);
+		if (this.endpointSliceLister != null) {
+			return createInstancesFromEndpointSlices(service, serviceId, sharedMetadata);
+		}
+
 		V1Endpoints ep = this.endpointsLister.namespace(service.getMetadata().getNamespace())
 				.get(service.getMetadata().getName());
 		if (ep == null || ep.getSubsets() == null) {
@@ -136,37 +340,154 @@ public class KubernetesInformerDiscoveryClient implements DiscoveryClient, Initi
 			return new ArrayList<>();
 		}
 
-		Optional<String> discoveredPrimaryPortName = Optional.empty();
-		if (service.getMetadata() != null && service.getMetadata().getLabels() != null) {
-			discoveredPrimaryPortName = Optional
-					.ofNullable(service.getMetadata().getLabels().get(PRIMARY_PORT_NAME_LABEL_KEY));
-		}
-		final String primaryPortName = discoveredPrimaryPortName.orElse(this.properties.getPrimaryPortName());
-
+		final String primaryPortName = primaryPortName(service);
 		return ep.getSubsets().stream().filter(subset -> subset.getPorts() != null && subset.getPorts().size() > 0) // safeguard
 				.flatMap(subset -> {
-					Map<String, String> metadata = new HashMap<>(svcMetadata);
 					List<V1EndpointPort> endpointPorts = subset.getPorts();
-					if (this.properties.getMetadata() != null && this.properties.getMetadata().isAddPorts()) {
-						endpointPorts.forEach(p -> metadata.put(p.getName(), Integer.toString(p.getPort())));
-					}
-					List<V1EndpointAddress> addresses = subset.getAddresses();
-					if (addresses == null) {
-						addresses = new ArrayList<>();
-					}
+					Map<String, String> metadata = KubernetesServiceInstanceMetadata.overlay(sharedMetadata,
+							portMetadata(endpointPorts));
+					// copy the addresses, the subset belongs to the informer cache
+					List<V1EndpointAddress> addresses = subset.getAddresses() != null
+							? new ArrayList<>(subset.getAddresses()) : new ArrayList<>();
 					if (this.properties.isIncludeNotReadyAddresses()
 							&& !CollectionUtils.isEmpty(subset.getNotReadyAddresses())) {
 						addresses.addAll(subset.getNotReadyAddresses());
 					}
 
 					final int port = findEndpointPort(endpointPorts, primaryPortName, serviceId);
-					return addresses.stream()
-							.map(addr -> new KubernetesServiceInstance(
-									addr.getTargetRef() != null ? addr.getTargetRef().getUid() : "", serviceId,
-									addr.getIp(), port, metadata, false));
+					// addresses on the same node share their metadata
+					Map<String, Map<String, String>> metadataByNode = new HashMap<>();
+					return addresses.stream().map(addr -> {
+						Map<String, String> instanceMetadata = addr.getNodeName() == null ? metadata : metadataByNode
+								.computeIfAbsent(addr.getNodeName(), node -> KubernetesServiceInstanceMetadata.overlay(
+										metadata,
+										Collections.singletonMap(KubernetesServiceInstance.NODE_METADATA_KEY, node)));
+						return new KubernetesServiceInstance(
+								addr.getTargetRef() != null ? addr.getTargetRef().getUid() : "", serviceId,
+								addr.getIp(), port, instanceMetadata, false);
+					});
 				}).collect(Collectors.toList());
 	}
 
+	private List<ServiceInstance> createInstancesFromEndpointSlices(V1Service service, String serviceId,
+			Map<String, String> svcMetadata) {
+		List<ServiceInstance> instances = new ArrayList<>();
+		String primaryPortName = null;
+		for (V1beta1EndpointSlice slice : findEndpointSlices(service.getMetadata().getNamespace(),
+				service.getMetadata().getName())) {
+			if (slice.getPorts() == null || slice.getPorts().isEmpty() || slice.getEndpoints() == null) {
+				continue;
+			}
+			if (primaryPortName == null) {
+				primaryPortName = primaryPortName(service);
+			}
+			List<V1EndpointPort> endpointPorts = slice.getPorts().stream()
+					.map(p -> new V1EndpointPort().name(p.getName()).port(p.getPort()).protocol(p.getProtocol()))
+					.collect(Collectors.toList());
+			Map<String, String> metadata = KubernetesServiceInstanceMetadata.overlay(svcMetadata,
+					portMetadata(endpointPorts));
+			int port = findEndpointPort(endpointPorts, primaryPortName, serviceId);
+			// endpoints in the same zone share their metadata
+			Map<Map<String, String>, Map<String, String>> metadataByTopology = new HashMap<>();
+
+			for (V1beta1Endpoint endpoint : slice.getEndpoints()) {
+				// a missing ready condition has to be interpreted as ready
+				boolean ready = endpoint.getConditions() == null || endpoint.getConditions().getReady() == null
+						|| endpoint.getConditions().getReady();
+				if ((!ready && !this.properties.isIncludeNotReadyAddresses())
+						|| CollectionUtils.isEmpty(endpoint.getAddresses())) {
+					continue;
+				}
+				Map<String, String> instanceMetadata = metadata;
+				if (!CollectionUtils.isEmpty(endpoint.getTopology())) {
+					instanceMetadata = metadataByTopology.computeIfAbsent(endpoint.getTopology(),
+							topology -> KubernetesServiceInstanceMetadata.overlay(metadata, topology));
+				}
+				// all addresses of an endpoint are fungible, consumers use the first one
+				instances.add(new KubernetesServiceInstance(
+						endpoint.getTargetRef() != null ? endpoint.getTargetRef().getUid() : "", serviceId,
+						endpoint.getAddresses().get(0), port, instanceMetadata, false));
+			}
+		}
+		return instances;
+	}
+
+	private Map<String, String> portMetadata(List<V1EndpointPort> endpointPorts) {
+		if (this.properties.getMetadata() == null || !this.properties.getMetadata().isAddPorts()) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> ports = new HashMap<>();
+		endpointPorts.forEach(p -> ports.put(p.getName(), Integer.toString(p.getPort())));
+		return ports;
+	}
+
+	private String primaryPortName(V1Service service) {
+		Optional<String> discoveredPrimaryPortName = Optional.empty();
+		if (service.getMetadata() != null && service.getMetadata().getLabels() != null) {
+			discoveredPrimaryPortName = Optional
+					.ofNullable(service.getMetadata().getLabels().get(PRIMARY_PORT_NAME_LABEL_KEY));
+		}
+		return discoveredPrimaryPortName.orElse(this.properties.getPrimaryPortName());
+	}
+
+	private List<V1beta1EndpointSlice> findEndpointSlices(String namespace, String serviceName) {
+		if (this.endpointSliceIndexer != null) {
+			return this.endpointSliceIndexer.byIndex(ENDPOINT_SLICE_SERVICE_INDEX, cacheKey(namespace, serviceName));
+		}
+		return this.endpointSliceLister.namespace(namespace).list().stream()
+				.filter(slice -> serviceName.equals(serviceName(slice))).collect(Collectors.toList());
+	}
+
+	private static String serviceName(V1beta1EndpointSlice slice) {
+		return slice.getMetadata() != null && slice.getMetadata().getLabels() != null
+				? slice.getMetadata().getLabels().get(ENDPOINT_SLICE_SERVICE_NAME_LABEL) : null;
+	}
+
+	private static String cacheKey(String namespace, String name) {
+		return namespace + "/" + name;
+	}
+
+	private static Indexer<V1Service> serviceNameIndexer(SharedInformer<V1Service> serviceInformer) {
+		if (!(serviceInformer instanceof SharedIndexInformer)) {
+			return null;
+		}
+		SharedIndexInformer<V1Service> indexInformer = (SharedIndexInformer<V1Service>) serviceInformer;
+		if (!indexInformer.getIndexer().getIndexers().containsKey(SERVICE_NAME_INDEX)) {
+			try {
+				indexInformer.addIndexers(Collections.singletonMap(SERVICE_NAME_INDEX,
+						service -> service.getMetadata() != null && service.getMetadata().getName() != null
+								? Collections.singletonList(service.getMetadata().getName())
+								: Collections.emptyList()));
+			}
+			catch (IllegalStateException e) {
+				// indexers can only be added before the informer is started
+				log.warn("Could not index services by name, lookups across namespaces will scan all services", e);
+				return null;
+			}
+		}
+		return indexInformer.getIndexer();
+	}
+
+	private static Indexer<V1beta1EndpointSlice> endpointSliceServiceIndexer(
+			SharedIndexInformer<V1beta1EndpointSlice> indexInformer) {
+		if (!indexInformer.getIndexer().getIndexers().containsKey(ENDPOINT_SLICE_SERVICE_INDEX)) {
+			try {
+				indexInformer.addIndexers(Collections.singletonMap(ENDPOINT_SLICE_SERVICE_INDEX,
+						slice -> serviceName(slice) != null
+								? Collections
+										.singletonList(cacheKey(slice.getMetadata().getNamespace(), serviceName(slice)))
+								: Collections.emptyList()));
+			}
+			catch (IllegalStateException e) {
+				// indexers can only be added before the informer is started
+				log.warn("Could not index endpoint slices by service, lookups will scan the slices of the namespace",
+						e);
+				return null;
+			}
+		}
+		return indexInformer.getIndexer();
+	}
+
 	private int findEndpointPort(List<V1EndpointPort> endpointPorts, String primaryPortName, String serviceId) {
 		if (endpointPorts.size() == 1) {
 			return endpointPorts.get(0).getPort();
@@ -203,20 +524,60 @@ public class KubernetesInformerDiscoveryClient implements DiscoveryClient, Initi
 
 	@Override
 	public List<String> getServices() {
-		List<V1Service> services = this.properties.isAllNamespaces() ? this.serviceLister.list()
+		awaitCacheLoaded();
+		List<V1Service> services = watchesSeveralNamespaces() ? this.serviceLister.list()
 				: this.serviceLister.namespace(this.namespace).list();
 		return services.stream().filter(s -> s.getMetadata() != null) // safeguard
-				.map(s -> s.getMetadata().getName()).collect(Collectors.toList());
+				.filter(this.serviceFilter.predicate()).map(s -> s.getMetadata().getName())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Whether the informers watch more than the namespace of the client, in which case
+	 * services are looked up across their caches.
+	 */
+	private boolean watchesSeveralNamespaces() {
+		return this.properties.isAllNamespaces() || !this.properties.getNamespaces().isEmpty();
+	}
+
+	private static List<SharedInformer<?>> multiNamespaceInformers(SharedInformer<?>... informers) {
+		List<SharedInformer<?>> result = new ArrayList<>();
+		for (SharedInformer<?> informer : informers) {
+			if (informer instanceof MultiNamespaceSharedIndexInformer) {
+				result.add(informer);
+			}
+		}
+		return result;
+	}
+
+	private static KubernetesServiceFilter<V1Service> serviceFilter(KubernetesDiscoveryProperties properties) {
+		return new KubernetesServiceFilter<>(V1Service.class, properties, service -> service.getMetadata().getLabels(),
+				service -> service.getMetadata().getAnnotations());
 	}
 
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		this.sharedInformerFactory.startAllRegisteredInformers();
-		if (!Wait.poll(Duration.ofSeconds(1), Duration.ofSeconds(this.properties.getCacheLoadingTimeoutSeconds()),
-				() -> {
-					log.info("Waiting for the cache of informers to be fully loaded..");
-					return this.informersReadyFunc.get();
-				})) {
+		this.multiNamespaceInformers.forEach(SharedInformer::run);
+		if (this.properties.isLoadCacheInBackground()) {
+			CountDownLatch latch = new CountDownLatch(1);
+			this.cacheLoadedLatch = latch;
+			Thread loader = new Thread(() -> {
+				try {
+					if (!waitForCacheLoaded()) {
+						log.warn("Timeout waiting for informers cache to be ready, lookups are served from the cache "
+								+ "as it is loaded");
+					}
+				}
+				finally {
+					latch.countDown();
+				}
+			}, "kubernetes-discovery-cache-loader");
+			loader.setDaemon(true);
+			loader.start();
+			return;
+		}
+		if (!waitForCacheLoaded()) {
 			if (this.properties.isWaitCacheReady()) {
 				throw new IllegalStateException(
 						"Timeout waiting for informers cache to be ready, is the kubernetes service up?");
@@ -226,8 +587,92 @@ public class KubernetesInformerDiscoveryClient implements DiscoveryClient, Initi
 						"Timeout waiting for informers cache to be ready, ignoring the failure because waitForInformerCacheReady property is false");
 			}
 		}
-		log.info("Cache fully loaded (total " + serviceLister.list().size()
-				+ " services) , discovery client is now available");
+	}
+
+	/**
+	 * Stops the informers started by {@link #afterPropertiesSet()}, along with the
+	 * threads of the informers watching several namespaces.
+	 */
+	@Override
+	public void destroy() {
+		this.multiNamespaceInformers.forEach(SharedInformer::stop);
+		this.sharedInformerFactory.stopAllRegisteredInformers();
+	}
+
+	/**
+	 * Whether the informer caches are loaded, lookups are only complete once they are.
+	 * @return true when all informers have synced
+	 */
+	public boolean isCacheLoaded() {
+		return this.informersReadyFunc.get();
+	}
+
+	private boolean waitForCacheLoaded() {
+		boolean loaded = Wait.poll(Duration.ofSeconds(1),
+				Duration.ofSeconds(this.properties.getCacheLoadingTimeoutSeconds()), () -> {
+					log.info("Waiting for the cache of informers to be fully loaded..");
+					return this.informersReadyFunc.get();
+				});
+		if (loaded) {
+			log.info("Cache fully loaded (total " + serviceLister.list().size()
+					+ " services) , discovery client is now available");
+		}
+		return loaded;
+	}
+
+	/**
+	 * Holds lookups arriving while the cache is loaded in the background until it is
+	 * loaded or the loading times out.
+	 */
+	private void awaitCacheLoaded() {
+		CountDownLatch latch = this.cacheLoadedLatch;
+		if (latch == null || latch.getCount() == 0) {
+			return;
+		}
+		try {
+			latch.await(this.properties.getCacheLoadingTimeoutSeconds(), TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Evicts the cached instances of a service when its Service, Endpoints or
+	 * EndpointSlices change, the next lookup rebuilds them from the informer caches.
+	 * Registered instances change listeners are notified afterwards.
+	 */
+	private class InstancesCacheEvictingHandler<T extends KubernetesObject> implements ResourceEventHandler<T> {
+
+		private final Function<T, String> serviceName;
+
+		InstancesCacheEvictingHandler(Function<T, String> serviceName) {
+			this.serviceName = serviceName;
+		}
+
+		@Override
+		public void onAdd(T obj) {
+			evict(obj);
+		}
+
+		@Override
+		public void onUpdate(T oldObj, T newObj) {
+			evict(newObj);
+		}
+
+		@Override
+		public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+			evict(obj);
+		}
+
+		private void evict(T obj) {
+			String name = obj != null && obj.getMetadata() != null ? serviceName.apply(obj) : null;
+			if (name != null) {
+				instancesCache.remove(cacheKey(obj.getMetadata().getNamespace(), name));
+				instancesChangeListeners.forEach(listener -> listener.accept(name));
+			}
+		}
+
 	}
 
 }
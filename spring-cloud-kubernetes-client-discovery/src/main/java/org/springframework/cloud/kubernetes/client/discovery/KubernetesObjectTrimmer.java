@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.client.discovery;
+
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+
+/**
+ * Drops the fields of the resources received by the informers that discovery never reads,
+ * before they enter the informer caches.
+ * <p>
+ * The managed fields and the configuration last applied by kubectl are always dropped,
+ * they usually make up most of the size of a resource. The slim projection also drops the
+ * status of Services, the spec fields other than the ports, type, cluster IP and
+ * selector, and the metadata other than the name, namespace, uid, resource version,
+ * labels and annotations.
+ */
+final class KubernetesObjectTrimmer {
+
+	static final String LAST_APPLIED_CONFIGURATION_ANNOTATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+	private KubernetesObjectTrimmer() {
+		throw new IllegalStateException("Can't instantiate a utility class");
+	}
+
+	/**
+	 * Returns the function trimming the resources received by an informer. They are
+	 * trimmed in place, as they are freshly deserialized and not shared yet.
+	 * @param slim if only the fields read by discovery should be kept
+	 * @param <T> the type of the resources
+	 * @return the trimming function
+	 */
+	static <T extends KubernetesObject> UnaryOperator<T> trimmer(boolean slim) {
+		return resource -> {
+			if (resource == null) {
+				return null;
+			}
+			trimMetadata(resource.getMetadata(), slim);
+			if (slim && resource instanceof V1Service) {
+				slimService((V1Service) resource);
+			}
+			return resource;
+		};
+	}
+
+	private static void trimMetadata(V1ObjectMeta metadata, boolean slim) {
+		if (metadata == null) {
+			return;
+		}
+		metadata.setManagedFields(null);
+		if (metadata.getAnnotations() != null) {
+			metadata.getAnnotations().remove(LAST_APPLIED_CONFIGURATION_ANNOTATION);
+		}
+		if (slim) {
+			metadata.setOwnerReferences(null);
+			metadata.setFinalizers(null);
+			metadata.setCreationTimestamp(null);
+			metadata.setGenerateName(null);
+			metadata.setSelfLink(null);
+		}
+	}
+
+	private static void slimService(V1Service service) {
+		service.setStatus(null);
+		V1ServiceSpec spec = service.getSpec();
+		if (spec != null) {
+			service.setSpec(new V1ServiceSpec().ports(spec.getPorts()).type(spec.getType())
+					.clusterIP(spec.getClusterIP()).selector(spec.getSelector()));
+		}
+	}
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.client.discovery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.cache.Indexer;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * {@link SharedIndexInformer} watching several namespaces, with one informer per
+ * namespace. The informers are started in parallel, so the cache is synced as soon as the
+ * slowest namespace is. Its indexer is a read only view over the caches of all
+ * namespaces.
+ * <p>
+ * The informers of the namespaces are not registered with a
+ * {@link io.kubernetes.client.informer.SharedInformerFactory}, which only holds one
+ * informer per type, so {@link #run()} has to be called to start them. Unlike the
+ * informers it delegates to, it returns once they have been started.
+ *
+ * @param <T> the type of the watched resources
+ */
+class MultiNamespaceSharedIndexInformer<T extends KubernetesObject> implements SharedIndexInformer<T> {
+
+	private final Map<String, SharedIndexInformer<T>> informers;
+
+	private final Indexer<T> indexer;
+
+	private ExecutorService executor;
+
+	/**
+	 * @param informers the informers keyed by the namespace they watch
+	 */
+	MultiNamespaceSharedIndexInformer(Map<String, SharedIndexInformer<T>> informers) {
+		this.informers = new LinkedHashMap<>(informers);
+		this.indexer = new MultiNamespaceIndexer<>(this.informers);
+	}
+
+	@Override
+	public void addIndexers(Map<String, Function<T, List<String>>> indexers) {
+		this.informers.values().forEach(informer -> informer.addIndexers(indexers));
+	}
+
+	@Override
+	public Indexer<T> getIndexer() {
+		return this.indexer;
+	}
+
+	@Override
+	public void addEventHandler(ResourceEventHandler<T> handler) {
+		this.informers.values().forEach(informer -> informer.addEventHandler(handler));
+	}
+
+	@Override
+	public void addEventHandlerWithResyncPeriod(ResourceEventHandler<T> handler, long resyncPeriod) {
+		this.informers.values().forEach(informer -> informer.addEventHandlerWithResyncPeriod(handler, resyncPeriod));
+	}
+
+	@Override
+	public synchronized void run() {
+		if (this.executor != null) {
+			return;
+		}
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("namespace-informer-");
+		threadFactory.setDaemon(true);
+		this.executor = Executors.newFixedThreadPool(this.informers.size(), threadFactory);
+		this.informers.values().forEach(informer -> this.executor.execute(informer::run));
+	}
+
+	@Override
+	public synchronized void stop() {
+		this.informers.values().forEach(SharedIndexInformer::stop);
+		if (this.executor != null) {
+			this.executor.shutdown();
+			this.executor = null;
+		}
+	}
+
+	@Override
+	public boolean hasSynced() {
+		return this.informers.values().stream().allMatch(SharedIndexInformer::hasSynced);
+	}
+
+	/**
+	 * Resource versions are only meaningful per namespace.
+	 * @return always null
+	 */
+	@Override
+	public String lastSyncResourceVersion() {
+		return null;
+	}
+
+	/**
+	 * Read only view over the indexers of the informers of several namespaces.
+	 */
+	private static final class MultiNamespaceIndexer<T extends KubernetesObject> implements Indexer<T> {
+
+		private final Map<String, SharedIndexInformer<T>> informers;
+
+		private MultiNamespaceIndexer(Map<String, SharedIndexInformer<T>> informers) {
+			this.informers = informers;
+		}
+
+		private Indexer<T> indexer(String namespace) {
+			SharedIndexInformer<T> informer = this.informers.get(namespace);
+			return informer == null ? null : informer.getIndexer();
+		}
+
+		private <R> List<R> collect(Function<Indexer<T>, List<R>> read) {
+			List<R> result = new ArrayList<>();
+			this.informers.values().forEach(informer -> result.addAll(read.apply(informer.getIndexer())));
+			return result;
+		}
+
+		@Override
+		public List<T> index(String indexName, T obj) {
+			return collect(indexer -> indexer.index(indexName, obj));
+		}
+
+		@Override
+		public List<String> indexKeys(String indexName, String indexKey) {
+			return collect(indexer -> indexer.indexKeys(indexName, indexKey));
+		}
+
+		@Override
+		public List<T> byIndex(String indexName, String indexKey) {
+			return collect(indexer -> indexer.byIndex(indexName, indexKey));
+		}
+
+		@Override
+		public Map<String, Function<T, List<String>>> getIndexers() {
+			return this.informers.values().iterator().next().getIndexer().getIndexers();
+		}
+
+		@Override
+		public void addIndexers(Map<String, Function<T, List<String>>> indexers) {
+			this.informers.values().forEach(informer -> informer.getIndexer().addIndexers(indexers));
+		}
+
+		@Override
+		public List<String> listKeys() {
+			return collect(Indexer::listKeys);
+		}
+
+		@Override
+		public Object get(T obj) {
+			Indexer<T> indexer = obj.getMetadata() == null ? null : indexer(obj.getMetadata().getNamespace());
+			return indexer == null ? null : indexer.get(obj);
+		}
+
+		@Override
+		public T getByKey(String key) {
+			// keys of namespaced resources are <namespace>/<name>
+			int slash = key.indexOf('/');
+			Indexer<T> indexer = slash < 0 ? null : indexer(key.substring(0, slash));
+			return indexer == null ? null : indexer.getByKey(key);
+		}
+
+		@Override
+		public List<T> list() {
+			return collect(Indexer::list);
+		}
+
+		@Override
+		public void add(T obj) {
+			throw new UnsupportedOperationException("read only view of the caches of several namespaces");
+		}
+
+		@Override
+		public void update(T obj) {
+			throw new UnsupportedOperationException("read only view of the caches of several namespaces");
+		}
+
+		@Override
+		public void delete(T obj) {
+			throw new UnsupportedOperationException("read only view of the caches of several namespaces");
+		}
+
+		@Override
+		public void replace(List<T> list, String resourceVersion) {
+			throw new UnsupportedOperationException("read only view of the caches of several namespaces");
+		}
+
+		@Override
+		public void resync() {
+			throw new UnsupportedOperationException("read only view of the caches of several namespaces");
+		}
+
+	}
+
+}
@@ -17,12 +17,26 @@
 package org.springframework.cloud.kubernetes.client.discovery;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.informer.cache.Lister;
+import io.kubernetes.client.informer.impl.DefaultSharedIndexInformer;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSlice;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSliceList;
 import io.kubernetes.client.spring.extended.controller.KubernetesInformerFactoryProcessor;
 import io.kubernetes.client.spring.extended.controller.annotation.KubernetesInformer;
 import io.kubernetes.client.spring.extended.controller.annotation.KubernetesInformers;
@@ -40,6 +54,7 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.cloud.kubernetes.commons.KubernetesNamespaceProvider;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
 import org.springframework.core.ResolvableType;
+import org.springframework.util.StringUtils;
 
 /**
  * @author Ryan Baxter
@@ -48,6 +63,10 @@ class SpringCloudKubernetesInformerFactoryProcessor extends KubernetesInformerFa
 
 	private static final Logger log = LoggerFactory.getLogger(SpringCloudKubernetesInformerFactoryProcessor.class);
 
+	private static final String NAME_FIELD = "metadata.name";
+
+	private static final String SERVICE_NAME_LABEL = "kubernetes.io/service-name";
+
 	private BeanDefinitionRegistry beanDefinitionRegistry;
 
 	private final ApiClient apiClient;
@@ -83,36 +102,118 @@ class SpringCloudKubernetesInformerFactoryProcessor extends KubernetesInformerFa
 			log.info("No informers registered in the sharedInformerFactory..");
 			return;
 		}
+		Set<String> namespaces = kubernetesDiscoveryProperties.isAllNamespaces() ? Collections.emptySet()
+				: kubernetesDiscoveryProperties.getNamespaces();
 		for (KubernetesInformer kubernetesInformer : kubernetesInformers.value()) {
-			final GenericKubernetesApi api = new GenericKubernetesApi(kubernetesInformer.apiTypeClass(),
-					kubernetesInformer.apiListTypeClass(), kubernetesInformer.groupVersionResource().apiGroup(),
+			Set<String> informerNamespaces = kubernetesInformer.namespace().equals(Namespaces.NAMESPACE_ALL)
+					? namespaces.isEmpty() ? Collections.singleton(namespace) : namespaces
+					: Collections.singleton(kubernetesInformer.namespace());
+			if (kubernetesDiscoveryProperties.isUseEndpointSlices()
+					&& V1Endpoints.class.equals(kubernetesInformer.apiTypeClass())) {
+				// EndpointSlices replace the Endpoints, so only one of them is watched
+				registerInformer(beanFactory, V1beta1EndpointSlice.class, V1beta1EndpointSliceList.class,
+						"discovery.k8s.io", "v1beta1", "endpointslices", kubernetesInformer.resyncPeriodMillis(),
+						informerNamespaces);
+				continue;
+			}
+			registerInformer(beanFactory, kubernetesInformer.apiTypeClass(), kubernetesInformer.apiListTypeClass(),
+					kubernetesInformer.groupVersionResource().apiGroup(),
 					kubernetesInformer.groupVersionResource().apiVersion(),
-					kubernetesInformer.groupVersionResource().resourcePlural(), apiClient);
-			SharedIndexInformer sharedIndexInformer = sharedInformerFactory.sharedIndexInformerFor(api,
-					kubernetesInformer.apiTypeClass(), kubernetesInformer.resyncPeriodMillis(),
-					kubernetesInformer.namespace().equals(Namespaces.NAMESPACE_ALL) ? namespace
-							: kubernetesInformer.namespace());
-			ResolvableType informerType = ResolvableType.forClassWithGenerics(SharedInformer.class,
-					kubernetesInformer.apiTypeClass());
-			RootBeanDefinition informerBean = new RootBeanDefinition();
-			informerBean.setTargetType(informerType);
-			informerBean.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
-			informerBean.setAutowireCandidate(true);
-			String informerBeanName = informerType.toString();
-			this.beanDefinitionRegistry.registerBeanDefinition(informerBeanName, informerBean);
-			beanFactory.registerSingleton(informerBeanName, sharedIndexInformer);
-
-			Lister lister = new Lister(sharedIndexInformer.getIndexer());
-			ResolvableType listerType = ResolvableType.forClassWithGenerics(Lister.class,
-					kubernetesInformer.apiTypeClass());
-			RootBeanDefinition listerBean = new RootBeanDefinition();
-			listerBean.setTargetType(listerType);
-			listerBean.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
-			listerBean.setAutowireCandidate(true);
-			String listerBeanName = listerType.toString();
-			this.beanDefinitionRegistry.registerBeanDefinition(listerBeanName, listerBean);
-			beanFactory.registerSingleton(listerBeanName, lister);
+					kubernetesInformer.groupVersionResource().resourcePlural(), kubernetesInformer.resyncPeriodMillis(),
+					informerNamespaces);
+		}
+	}
+
+	private void registerInformer(ConfigurableListableBeanFactory beanFactory, Class apiTypeClass,
+			Class apiListTypeClass, String apiGroup, String apiVersion, String resourcePlural, long resyncPeriodMillis,
+			Set<String> namespaces) {
+		final GenericKubernetesApi api = new GenericKubernetesApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion,
+				resourcePlural, apiClient);
+		// trim the resources before they enter the caches
+		UnaryOperator transform = KubernetesObjectTrimmer.trimmer(kubernetesDiscoveryProperties.isSlimInformerCache());
+		String labelSelector = labelSelector(apiTypeClass, kubernetesDiscoveryProperties.getServiceLabels(),
+				kubernetesDiscoveryProperties.getServiceFieldSelector());
+		String fieldSelector = fieldSelector(apiTypeClass, kubernetesDiscoveryProperties.getServiceFieldSelector());
+		SharedIndexInformer sharedIndexInformer;
+		if (namespaces.size() == 1) {
+			sharedIndexInformer = sharedInformerFactory
+					.sharedIndexInformerFor(new GenericKubernetesApiListerWatcher(api, namespaces.iterator().next(),
+							labelSelector, fieldSelector, transform), apiTypeClass, resyncPeriodMillis);
+		}
+		else {
+			// the factory holds a single informer per type, so the informers of the
+			// namespaces are combined into one that the discovery client starts
+			Map<String, SharedIndexInformer> informers = new LinkedHashMap<>();
+			for (String namespace : namespaces) {
+				informers.put(namespace, new DefaultSharedIndexInformer(apiTypeClass,
+						new GenericKubernetesApiListerWatcher(api, namespace, labelSelector, fieldSelector, transform),
+						resyncPeriodMillis));
+			}
+			sharedIndexInformer = new MultiNamespaceSharedIndexInformer(informers);
+		}
+		ResolvableType informerType = ResolvableType.forClassWithGenerics(SharedInformer.class, apiTypeClass);
+		RootBeanDefinition informerBean = new RootBeanDefinition();
+		informerBean.setTargetType(informerType);
+		informerBean.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
+		informerBean.setAutowireCandidate(true);
+		String informerBeanName = informerType.toString();
+		this.beanDefinitionRegistry.registerBeanDefinition(informerBeanName, informerBean);
+		beanFactory.registerSingleton(informerBeanName, sharedIndexInformer);
+
+		Lister lister = new Lister(sharedIndexInformer.getIndexer());
+		ResolvableType listerType = ResolvableType.forClassWithGenerics(Lister.class, apiTypeClass);
+		RootBeanDefinition listerBean = new RootBeanDefinition();
+		listerBean.setTargetType(listerType);
+		listerBean.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
+		listerBean.setAutowireCandidate(true);
+		String listerBeanName = listerType.toString();
+		this.beanDefinitionRegistry.registerBeanDefinition(listerBeanName, listerBean);
+		beanFactory.registerSingleton(listerBeanName, lister);
+	}
+
+	/**
+	 * Endpoints and EndpointSlices carry the labels of their Service, so the service
+	 * labels select all of them. EndpointSlices are not named after their Service, so the
+	 * terms of the service field selector on its name select them by their
+	 * {@value #SERVICE_NAME_LABEL} label instead.
+	 */
+	static String labelSelector(Class<?> apiTypeClass, Map<String, String> serviceLabels, String serviceFieldSelector) {
+		List<String> terms = new ArrayList<>();
+		if (serviceLabels != null) {
+			serviceLabels.forEach((key, value) -> terms.add(key + "=" + value));
+		}
+		if (V1beta1EndpointSlice.class.equals(apiTypeClass)) {
+			nameTerms(serviceFieldSelector)
+					.forEach(term -> terms.add(SERVICE_NAME_LABEL + term.substring(NAME_FIELD.length())));
+		}
+		return terms.isEmpty() ? null : String.join(",", terms);
+	}
+
+	/**
+	 * The service field selector applies to Services. Endpoints share the name of their
+	 * Service, so only its terms on the name apply to them, and none to EndpointSlices.
+	 */
+	static String fieldSelector(Class<?> apiTypeClass, String serviceFieldSelector) {
+		if (!StringUtils.hasText(serviceFieldSelector)) {
+			return null;
+		}
+		if (V1Service.class.equals(apiTypeClass)) {
+			return serviceFieldSelector;
+		}
+		if (V1Endpoints.class.equals(apiTypeClass)) {
+			List<String> terms = nameTerms(serviceFieldSelector);
+			return terms.isEmpty() ? null : String.join(",", terms);
+		}
+		return null;
+	}
+
+	private static List<String> nameTerms(String fieldSelector) {
+		if (!StringUtils.hasText(fieldSelector)) {
+			return Collections.emptyList();
 		}
+		return Arrays.stream(fieldSelector.split(",")).map(String::trim)
+				.filter(term -> term.startsWith(NAME_FIELD + "=") || term.startsWith(NAME_FIELD + "!="))
+				.collect(Collectors.toList());
 	}
 
 	@Override
@@ -16,14 +16,25 @@
 
 package org.springframework.cloud.kubernetes.client.discovery.reactive;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.informer.cache.Lister;
 import io.kubernetes.client.openapi.models.V1Endpoints;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSlice;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
 import org.springframework.cloud.kubernetes.client.discovery.KubernetesInformerDiscoveryClient;
@@ -35,7 +46,8 @@ import org.springframework.util.Assert;
 /**
  * @author Ryan Baxter
  */
-public class KubernetesInformerReactiveDiscoveryClient implements ReactiveDiscoveryClient {
+public class KubernetesInformerReactiveDiscoveryClient
+		implements ReactiveDiscoveryClient, InitializingBean, DisposableBean {
 
 	private KubernetesInformerDiscoveryClient kubernetesDiscoveryClient;
 
@@ -58,6 +70,15 @@ public class KubernetesInformerReactiveDiscoveryClient implements ReactiveDiscov
 				serviceInformer, endpointsInformer, properties);
 	}
 
+	public KubernetesInformerReactiveDiscoveryClient(KubernetesNamespaceProvider kubernetesNamespaceProvider,
+			SharedInformerFactory sharedInformerFactory, Lister<V1Service> serviceLister,
+			SharedInformer<V1Service> serviceInformer, SharedIndexInformer<V1beta1EndpointSlice> endpointSliceInformer,
+			KubernetesDiscoveryProperties properties) {
+		this.kubernetesDiscoveryClient = new KubernetesInformerDiscoveryClient(
+				kubernetesNamespaceProvider.getNamespace(), sharedInformerFactory, serviceLister, serviceInformer,
+				endpointSliceInformer, properties);
+	}
+
 	@Override
 	public String description() {
 		return "Kubernetes Reactive Discovery Client";
@@ -70,6 +91,55 @@ public class KubernetesInformerReactiveDiscoveryClient implements ReactiveDiscov
 				.subscribeOn(Schedulers.boundedElastic());
 	}
 
+	/**
+	 * Returns the instances of several services at once, read from the informer caches in
+	 * a single pass.
+	 * @param serviceIds the names of the services
+	 * @return the instances keyed by service name, in the order of the given names
+	 */
+	public Mono<Map<String, List<ServiceInstance>>> getInstances(Collection<String> serviceIds) {
+		Assert.notNull(serviceIds, "[Assertion failed] - the object argument must not be null");
+		return Mono.fromCallable(() -> kubernetesDiscoveryClient.getInstances(serviceIds))
+				.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Emits the current instances of a service on subscription and a new list each time
+	 * the informers report a change of the Service or its Endpoints. The lists are read
+	 * from the informer caches off the informer notification thread, a slow subscriber
+	 * only receives the latest list and lists equal to the previous one are skipped.
+	 * @param serviceId the name of the service
+	 * @return a never completing stream of the instances of the service
+	 */
+	public Flux<List<ServiceInstance>> watchInstances(String serviceId) {
+		Assert.notNull(serviceId, "[Assertion failed] - the object argument must not be null");
+		return Flux.<String>create(sink -> {
+			Consumer<String> listener = name -> {
+				if (serviceId.equals(name)) {
+					sink.next(name);
+				}
+			};
+			kubernetesDiscoveryClient.addInstancesChangeListener(listener);
+			sink.onDispose(() -> kubernetesDiscoveryClient.removeInstancesChangeListener(listener));
+			sink.next(serviceId);
+		}, FluxSink.OverflowStrategy.LATEST).publishOn(Schedulers.boundedElastic(), 1)
+				.map(kubernetesDiscoveryClient::getInstances).distinctUntilChanged();
+	}
+
+	/**
+	 * Starts the informers and waits for their caches as the blocking discovery client
+	 * does, reactive only applications do not have one.
+	 */
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		this.kubernetesDiscoveryClient.afterPropertiesSet();
+	}
+
+	@Override
+	public void destroy() {
+		this.kubernetesDiscoveryClient.destroy();
+	}
+
 	@Override
 	public Flux<String> getServices() {
 		return Flux.defer(() -> Flux.fromIterable(kubernetesDiscoveryClient.getServices()))
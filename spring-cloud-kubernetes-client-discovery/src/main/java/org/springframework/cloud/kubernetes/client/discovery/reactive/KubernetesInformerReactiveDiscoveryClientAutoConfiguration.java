@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.kubernetes.client.discovery.reactive;
 
+import io.kubernetes.client.informer.SharedIndexInformer;
 import io.kubernetes.client.informer.SharedInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.informer.cache.Lister;
@@ -23,10 +24,12 @@ import io.kubernetes.client.openapi.models.V1Endpoints;
 import io.kubernetes.client.openapi.models.V1EndpointsList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSlice;
 import io.kubernetes.client.spring.extended.controller.annotation.GroupVersionResource;
 import io.kubernetes.client.spring.extended.controller.annotation.KubernetesInformer;
 import io.kubernetes.client.spring.extended.controller.annotation.KubernetesInformers;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -68,11 +71,18 @@ public class KubernetesInformerReactiveDiscoveryClientAutoConfiguration {
 	@ConditionalOnMissingBean
 	public KubernetesInformerReactiveDiscoveryClient kubernetesReactiveDiscoveryClient(
 			KubernetesNamespaceProvider kubernetesNamespaceProvider, SharedInformerFactory sharedInformerFactory,
-			Lister<V1Service> serviceLister, Lister<V1Endpoints> endpointsLister,
-			SharedInformer<V1Service> serviceInformer, SharedInformer<V1Endpoints> endpointsInformer,
+			Lister<V1Service> serviceLister, ObjectProvider<Lister<V1Endpoints>> endpointsLister,
+			SharedInformer<V1Service> serviceInformer, ObjectProvider<SharedInformer<V1Endpoints>> endpointsInformer,
+			ObjectProvider<SharedInformer<V1beta1EndpointSlice>> endpointSliceInformer,
 			KubernetesDiscoveryProperties properties) {
+		// SpringCloudKubernetesInformerFactoryProcessor registers shared index informers
+		if (properties.isUseEndpointSlices()) {
+			return new KubernetesInformerReactiveDiscoveryClient(kubernetesNamespaceProvider, sharedInformerFactory,
+					serviceLister, serviceInformer,
+					(SharedIndexInformer<V1beta1EndpointSlice>) endpointSliceInformer.getObject(), properties);
+		}
 		return new KubernetesInformerReactiveDiscoveryClient(kubernetesNamespaceProvider, sharedInformerFactory,
-				serviceLister, endpointsLister, serviceInformer, endpointsInformer, properties);
+				serviceLister, endpointsLister.getObject(), serviceInformer, endpointsInformer.getObject(), properties);
 	}
 
 	@Bean
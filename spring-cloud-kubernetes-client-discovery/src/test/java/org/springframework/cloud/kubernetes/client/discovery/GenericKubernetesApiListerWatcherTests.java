@@ -0,0 +1,118 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.client.discovery;
+
+import java.util.Collections;
+
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.openapi.models.V1ServiceStatus;
+import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import io.kubernetes.client.util.generic.GenericKubernetesApi;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GenericKubernetesApiListerWatcherTests {
+
+	@Mock
+	private GenericKubernetesApi<V1Service, V1ServiceList> api;
+
+	@Test
+	public void listedServicesShouldBeTrimmed() throws Exception {
+		when(api.list(eq("namespace1"), any(ListOptions.class)))
+				.thenReturn(new KubernetesApiResponse<>(new V1ServiceList().addItemsItem(service())));
+
+		V1ServiceList list = new GenericKubernetesApiListerWatcher<>(api, "namespace1", null, null,
+				KubernetesObjectTrimmer.<V1Service>trimmer(false)).list(new CallGeneratorParams(false, "42", 300));
+
+		V1Service service = list.getItems().get(0);
+		assertThat(service.getMetadata().getManagedFields()).isNull();
+		assertThat(service.getMetadata().getAnnotations()).containsOnlyKeys("spring-boot");
+		assertThat(service.getMetadata().getOwnerReferences()).hasSize(1);
+		assertThat(service.getStatus()).isNotNull();
+		assertThat(service.getSpec().getExternalIPs()).containsExactly("1.2.3.4");
+
+		ArgumentCaptor<ListOptions> listOptions = ArgumentCaptor.forClass(ListOptions.class);
+		verify(api).list(eq("namespace1"), listOptions.capture());
+		assertThat(listOptions.getValue().getResourceVersion()).isEqualTo("42");
+		assertThat(listOptions.getValue().getTimeoutSeconds()).isEqualTo(300);
+		assertThat(listOptions.getValue().getLabelSelector()).isNull();
+		assertThat(listOptions.getValue().getFieldSelector()).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void watchedServicesShouldBeSelectedAndSlimmed() throws Exception {
+		Watchable<V1Service> watch = mock(Watchable.class);
+		when(watch.hasNext()).thenReturn(true);
+		when(watch.next()).thenReturn(new Watch.Response<>("ADDED", service()));
+		when(api.watch(any(ListOptions.class))).thenReturn(watch);
+
+		Watchable<V1Service> trimmed = new GenericKubernetesApiListerWatcher<>(api, "", "app=store",
+				"metadata.name!=kubernetes", KubernetesObjectTrimmer.<V1Service>trimmer(true))
+						.watch(new CallGeneratorParams(true, "42", 300));
+
+		assertThat(trimmed.hasNext()).isTrue();
+		V1Service service = trimmed.next().object;
+		assertThat(service.getMetadata().getName()).isEqualTo("service1");
+		assertThat(service.getMetadata().getLabels()).containsEntry("app", "store");
+		assertThat(service.getMetadata().getAnnotations()).containsOnlyKeys("spring-boot");
+		assertThat(service.getMetadata().getManagedFields()).isNull();
+		assertThat(service.getMetadata().getOwnerReferences()).isNull();
+		assertThat(service.getStatus()).isNull();
+		assertThat(service.getSpec().getPorts()).hasSize(1);
+		assertThat(service.getSpec().getExternalIPs()).isNull();
+
+		ArgumentCaptor<ListOptions> listOptions = ArgumentCaptor.forClass(ListOptions.class);
+		verify(api).watch(listOptions.capture());
+		assertThat(listOptions.getValue().getResourceVersion()).isEqualTo("42");
+		assertThat(listOptions.getValue().getLabelSelector()).isEqualTo("app=store");
+		assertThat(listOptions.getValue().getFieldSelector()).isEqualTo("metadata.name!=kubernetes");
+	}
+
+	private static V1Service service() {
+		return new V1Service()
+				.metadata(new V1ObjectMeta().name("service1").namespace("namespace1").putLabelsItem("app", "store")
+						.putAnnotationsItem("spring-boot", "true")
+						.putAnnotationsItem(KubernetesObjectTrimmer.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{}")
+						.addManagedFieldsItem(new V1ManagedFieldsEntry().manager("kubectl"))
+						.ownerReferences(Collections.singletonList(new V1OwnerReference().name("owner"))))
+				.spec(new V1ServiceSpec().addPortsItem(new V1ServicePort().port(8080)).addExternalIPsItem("1.2.3.4"))
+				.status(new V1ServiceStatus());
+	}
+
+}
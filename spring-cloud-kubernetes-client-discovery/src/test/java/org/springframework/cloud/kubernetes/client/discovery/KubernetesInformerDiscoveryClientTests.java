@@ -16,8 +16,21 @@
 
 package org.springframework.cloud.kubernetes.client.discovery;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.informer.cache.Cache;
 import io.kubernetes.client.informer.cache.Lister;
@@ -29,16 +42,27 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.openapi.models.V1ServiceStatus;
+import io.kubernetes.client.openapi.models.V1beta1Endpoint;
+import io.kubernetes.client.openapi.models.V1beta1EndpointConditions;
+import io.kubernetes.client.openapi.models.V1beta1EndpointPort;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSlice;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +75,12 @@ public class KubernetesInformerDiscoveryClientTests {
 	@Mock
 	private KubernetesDiscoveryProperties kubernetesDiscoveryProperties;
 
+	@Mock
+	private SharedInformer<V1Service> serviceInformer;
+
+	@Mock
+	private SharedInformer<V1Endpoints> endpointsInformer;
+
 	private static final V1Service testService1 = new V1Service()
 			.metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace1"))
 			.spec(new V1ServiceSpec().loadBalancerIP("1.1.1.1")).status(new V1ServiceStatus());
@@ -120,6 +150,25 @@ public class KubernetesInformerDiscoveryClientTests {
 		verify(kubernetesDiscoveryProperties, times(1)).isAllNamespaces();
 	}
 
+	@Test
+	public void testDiscoveryGetServicesShouldApplyFilters() {
+		V1Service springBootService = new V1Service().metadata(new V1ObjectMeta().name("spring-svc")
+				.namespace("namespace1").putLabelsItem("app", "store").putAnnotationsItem("spring-boot", "true"));
+		V1Service otherService = new V1Service()
+				.metadata(new V1ObjectMeta().name("other-svc").namespace("namespace1").putLabelsItem("app", "store"));
+		Lister<V1Service> serviceLister = setupServiceLister(testService1, springBootService, otherService);
+
+		when(kubernetesDiscoveryProperties.isAllNamespaces()).thenReturn(false);
+		when(kubernetesDiscoveryProperties.getFilter()).thenReturn("metadata.name.endsWith('-svc')");
+		when(kubernetesDiscoveryProperties.getLabelFilter()).thenReturn("app=store");
+		when(kubernetesDiscoveryProperties.getAnnotationFilter()).thenReturn("spring-boot");
+
+		KubernetesInformerDiscoveryClient discoveryClient = new KubernetesInformerDiscoveryClient("namespace1",
+				sharedInformerFactory, serviceLister, null, null, null, kubernetesDiscoveryProperties);
+
+		assertThat(discoveryClient.getServices()).containsExactly("spring-svc");
+	}
+
 	@Test
 	public void testDiscoveryGetInstanceAllNamespaceShouldWork() {
 		Lister<V1Service> serviceLister = setupServiceLister(testService1, testService2);
@@ -153,6 +202,24 @@ public class KubernetesInformerDiscoveryClientTests {
 		verify(kubernetesDiscoveryProperties, times(1)).getPrimaryPortName();
 	}
 
+	@Test
+	public void testDiscoveryGetInstanceShouldAddTheNodeOfTheAddress() {
+		Lister<V1Service> serviceLister = setupServiceLister(testService1);
+		Lister<V1Endpoints> endpointsLister = setupEndpointsLister(
+				new V1Endpoints().metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace1"))
+						.addSubsetsItem(new V1EndpointSubset().addPortsItem(new V1EndpointPort().port(8080))
+								.addAddressesItem(new V1EndpointAddress().ip("2.2.2.2").nodeName("node1"))
+								.addAddressesItem(new V1EndpointAddress().ip("3.3.3.3"))));
+
+		KubernetesInformerDiscoveryClient discoveryClient = new KubernetesInformerDiscoveryClient("namespace1",
+				sharedInformerFactory, serviceLister, endpointsLister, null, null, kubernetesDiscoveryProperties);
+
+		assertThat(discoveryClient.getInstances("test-svc-1")).containsOnly(
+				new KubernetesServiceInstance("", "test-svc-1", "2.2.2.2", 8080,
+						Collections.singletonMap(KubernetesServiceInstance.NODE_METADATA_KEY, "node1"), false),
+				new KubernetesServiceInstance("", "test-svc-1", "3.3.3.3", 8080, new HashMap<>(), false));
+	}
+
 	@Test
 	public void testDiscoveryGetInstanceWithoutReadyAddressesShouldWork() {
 		Lister<V1Service> serviceLister = setupServiceLister(testService1);
@@ -336,6 +403,251 @@ public class KubernetesInformerDiscoveryClientTests {
 		verify(kubernetesDiscoveryProperties, times(1)).getPrimaryPortName();
 	}
 
+	@Test
+	public void instancesShouldBeCachedUntilEndpointsChange() {
+		Lister<V1Service> serviceLister = setupServiceLister(testService1);
+		Cache<V1Endpoints> endpointsCache = new Cache<>();
+		endpointsCache.add(testEndpoints1);
+		Lister<V1Endpoints> endpointsLister = new Lister<>(endpointsCache);
+
+		when(kubernetesDiscoveryProperties.isAllNamespaces()).thenReturn(false);
+
+		KubernetesInformerDiscoveryClient discoveryClient = new KubernetesInformerDiscoveryClient("namespace1",
+				sharedInformerFactory, serviceLister, endpointsLister, serviceInformer, endpointsInformer,
+				kubernetesDiscoveryProperties);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<ResourceEventHandler<V1Endpoints>> handler = ArgumentCaptor.forClass(ResourceEventHandler.class);
+		verify(endpointsInformer).addEventHandler(handler.capture());
+
+		List<ServiceInstance> instances = discoveryClient.getInstances("test-svc-1");
+		assertThat(instances)
+				.containsOnly(new KubernetesServiceInstance("", "test-svc-1", "2.2.2.2", 8080, new HashMap<>(), false));
+		assertThat(discoveryClient.getInstances("test-svc-1")).isSameAs(instances);
+		verify(kubernetesDiscoveryProperties, times(1)).getPrimaryPortName();
+
+		V1Endpoints updatedEndpoints = new V1Endpoints()
+				.metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace1"))
+				.addSubsetsItem(new V1EndpointSubset().addPortsItem(new V1EndpointPort().port(8080))
+						.addAddressesItem(new V1EndpointAddress().ip("3.3.3.3")));
+		endpointsCache.update(updatedEndpoints);
+		handler.getValue().onUpdate(testEndpoints1, updatedEndpoints);
+
+		assertThat(discoveryClient.getInstances("test-svc-1"))
+				.containsOnly(new KubernetesServiceInstance("", "test-svc-1", "3.3.3.3", 8080, new HashMap<>(), false));
+		verify(kubernetesDiscoveryProperties, times(2)).getPrimaryPortName();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testDiscoveryGetInstanceAllNamespaceShouldUseNameIndexAndReturnAllMatches() {
+		Cache<V1Service> serviceCache = new Cache<>();
+		SharedIndexInformer<V1Service> serviceIndexInformer = mock(SharedIndexInformer.class);
+		when(serviceIndexInformer.getIndexer()).thenReturn(serviceCache);
+		doAnswer(invocation -> {
+			serviceCache.addIndexers(invocation.getArgument(0));
+			return null;
+		}).when(serviceIndexInformer).addIndexers(any());
+		Lister<V1Service> serviceLister = mock(Lister.class);
+
+		V1Endpoints testEndpoints2 = new V1Endpoints()
+				.metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace2"))
+				.addSubsetsItem(new V1EndpointSubset().addPortsItem(new V1EndpointPort().port(8080))
+						.addAddressesItem(new V1EndpointAddress().ip("3.3.3.3")));
+		Lister<V1Endpoints> endpointsLister = setupEndpointsLister(testEndpoints1, testEndpoints2);
+
+		when(kubernetesDiscoveryProperties.isAllNamespaces()).thenReturn(true);
+
+		KubernetesInformerDiscoveryClient discoveryClient = new KubernetesInformerDiscoveryClient("",
+				sharedInformerFactory, serviceLister, endpointsLister, serviceIndexInformer, endpointsInformer,
+				kubernetesDiscoveryProperties);
+		serviceCache.add(testService1);
+		serviceCache.add(testService2);
+
+		assertThat(discoveryClient.getInstances("test-svc-1")).containsOnly(
+				new KubernetesServiceInstance("", "test-svc-1", "2.2.2.2", 8080, new HashMap<>(), false),
+				new KubernetesServiceInstance("", "test-svc-1", "3.3.3.3", 8080, new HashMap<>(), false));
+		assertThat(discoveryClient.getInstances("test-svc-2")).isEmpty();
+		verify(serviceLister, never()).list();
+	}
+
+	@Test
+	public void testDiscoveryGetInstancesOfSeveralServicesShouldWork() {
+		V1Service testService3 = new V1Service()
+				.metadata(new V1ObjectMeta().name("test-svc-3").namespace("namespace1"));
+		V1Endpoints testEndpoints2 = new V1Endpoints()
+				.metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace2"))
+				.addSubsetsItem(new V1EndpointSubset().addPortsItem(new V1EndpointPort().port(8080))
+						.addAddressesItem(new V1EndpointAddress().ip("3.3.3.3")));
+		Lister<V1Service> serviceLister = setupServiceLister(testService1, testService2, testService3);
+		Lister<V1Endpoints> endpointsLister = setupEndpointsLister(testEndpoints1, testEndpoints2);
+
+		when(kubernetesDiscoveryProperties.isAllNamespaces()).thenReturn(true);
+
+		KubernetesInformerDiscoveryClient discoveryClient = new KubernetesInformerDiscoveryClient("",
+				sharedInformerFactory, serviceLister, endpointsLister, null, null, kubernetesDiscoveryProperties);
+
+		Map<String, List<ServiceInstance>> instances = discoveryClient
+				.getInstances(Arrays.asList("test-svc-3", "test-svc-1", "test-svc-2"));
+
+		assertThat(instances.keySet()).containsExactly("test-svc-3", "test-svc-1", "test-svc-2");
+		assertThat(instances.get("test-svc-1")).containsOnly(
+				new KubernetesServiceInstance("", "test-svc-1", "2.2.2.2", 8080, new HashMap<>(), false),
+				new KubernetesServiceInstance("", "test-svc-1", "3.3.3.3", 8080, new HashMap<>(), false));
+		assertThat(instances.get("test-svc-2")).isEmpty();
+		assertThat(instances.get("test-svc-3")).isEmpty();
+		assertThat(instances.get("test-svc-1")).isEqualTo(discoveryClient.getInstances("test-svc-1"));
+	}
+
+	@Test
+	public void testDiscoveryOfSeveralNamespacesShouldMergeTheirCaches() {
+		Cache<V1Service> serviceCache1 = new Cache<>();
+		Cache<V1Service> serviceCache2 = new Cache<>();
+		Cache<V1Endpoints> endpointsCache1 = new Cache<>();
+		Cache<V1Endpoints> endpointsCache2 = new Cache<>();
+		Map<String, SharedIndexInformer<V1Service>> serviceInformers = new LinkedHashMap<>();
+		serviceInformers.put("namespace1", namespaceInformer(serviceCache1));
+		serviceInformers.put("namespace2", namespaceInformer(serviceCache2));
+		Map<String, SharedIndexInformer<V1Endpoints>> endpointsInformers = new LinkedHashMap<>();
+		endpointsInformers.put("namespace1", namespaceInformer(endpointsCache1));
+		endpointsInformers.put("namespace2", namespaceInformer(endpointsCache2));
+		MultiNamespaceSharedIndexInformer<V1Service> serviceInformer = new MultiNamespaceSharedIndexInformer<>(
+				serviceInformers);
+		MultiNamespaceSharedIndexInformer<V1Endpoints> endpointsInformer = new MultiNamespaceSharedIndexInformer<>(
+				endpointsInformers);
+
+		when(kubernetesDiscoveryProperties.getNamespaces())
+				.thenReturn(new LinkedHashSet<>(Arrays.asList("namespace1", "namespace2")));
+
+		KubernetesInformerDiscoveryClient discoveryClient = new KubernetesInformerDiscoveryClient("namespace1",
+				sharedInformerFactory, new Lister<>(serviceInformer.getIndexer()),
+				new Lister<>(endpointsInformer.getIndexer()), serviceInformer, endpointsInformer,
+				kubernetesDiscoveryProperties);
+
+		serviceCache1.add(new V1Service().metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace1")));
+		serviceCache2.add(new V1Service().metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace2")));
+		serviceCache2.add(new V1Service().metadata(new V1ObjectMeta().name("test-svc-2").namespace("namespace2")));
+		endpointsCache1.add(new V1Endpoints().metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace1"))
+				.addSubsetsItem(new V1EndpointSubset().addPortsItem(new V1EndpointPort().port(8080))
+						.addAddressesItem(new V1EndpointAddress().ip("2.2.2.2"))));
+		endpointsCache2.add(new V1Endpoints().metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace2"))
+				.addSubsetsItem(new V1EndpointSubset().addPortsItem(new V1EndpointPort().port(8080))
+						.addAddressesItem(new V1EndpointAddress().ip("3.3.3.3"))));
+
+		assertThat(discoveryClient.getServices()).containsExactlyInAnyOrder("test-svc-1", "test-svc-1", "test-svc-2");
+		assertThat(discoveryClient.getInstances("test-svc-1")).containsOnly(
+				new KubernetesServiceInstance("", "test-svc-1", "2.2.2.2", 8080, new HashMap<>(), false),
+				new KubernetesServiceInstance("", "test-svc-1", "3.3.3.3", 8080, new HashMap<>(), false));
+		assertThat(serviceInformer.getIndexer().getByKey("namespace2/test-svc-2")).isNotNull();
+		assertThat(serviceInformer.getIndexer().getByKey("namespace1/test-svc-2")).isNull();
+	}
+
+	@Test
+	public void informersOfSeveralNamespacesShouldBeStoppedWithTheClient() {
+		SharedIndexInformer<V1Service> serviceInformer1 = namespaceInformer(new Cache<>());
+		SharedIndexInformer<V1Service> serviceInformer2 = namespaceInformer(new Cache<>());
+		Map<String, SharedIndexInformer<V1Service>> serviceInformers = new LinkedHashMap<>();
+		serviceInformers.put("namespace1", serviceInformer1);
+		serviceInformers.put("namespace2", serviceInformer2);
+		MultiNamespaceSharedIndexInformer<V1Service> serviceInformer = new MultiNamespaceSharedIndexInformer<>(
+				serviceInformers);
+
+		KubernetesInformerDiscoveryClient discoveryClient = new KubernetesInformerDiscoveryClient("namespace1",
+				sharedInformerFactory, new Lister<>(serviceInformer.getIndexer()), setupEndpointsLister(),
+				serviceInformer, endpointsInformer, kubernetesDiscoveryProperties);
+		serviceInformer.run();
+		verify(serviceInformer1, timeout(5000)).run();
+		verify(serviceInformer2, timeout(5000)).run();
+
+		discoveryClient.destroy();
+		verify(serviceInformer1).stop();
+		verify(serviceInformer2).stop();
+		verify(sharedInformerFactory).stopAllRegisteredInformers();
+	}
+
+	@Test
+	public void lookupsShouldWaitForTheCacheLoadedInBackground() throws Exception {
+		Lister<V1Service> serviceLister = setupServiceLister(
+				new V1Service().metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace1")));
+		Lister<V1Endpoints> endpointsLister = setupEndpointsLister();
+		AtomicBoolean synced = new AtomicBoolean();
+		when(serviceInformer.hasSynced()).thenAnswer(invocation -> synced.get());
+		when(endpointsInformer.hasSynced()).thenAnswer(invocation -> synced.get());
+		when(kubernetesDiscoveryProperties.isLoadCacheInBackground()).thenReturn(true);
+		when(kubernetesDiscoveryProperties.getCacheLoadingTimeoutSeconds()).thenReturn(10L);
+
+		KubernetesInformerDiscoveryClient discoveryClient = new KubernetesInformerDiscoveryClient("namespace1",
+				sharedInformerFactory, serviceLister, endpointsLister, serviceInformer, endpointsInformer,
+				kubernetesDiscoveryProperties);
+		discoveryClient.afterPropertiesSet();
+		assertThat(discoveryClient.isCacheLoaded()).isFalse();
+
+		CompletableFuture<List<String>> services = CompletableFuture.supplyAsync(discoveryClient::getServices);
+		Thread.sleep(200);
+		assertThat(services).isNotDone();
+
+		synced.set(true);
+		assertThat(services.get(5, TimeUnit.SECONDS)).containsOnly("test-svc-1");
+		assertThat(discoveryClient.isCacheLoaded()).isTrue();
+		verify(sharedInformerFactory).startAllRegisteredInformers();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends KubernetesObject> SharedIndexInformer<T> namespaceInformer(Cache<T> cache) {
+		SharedIndexInformer<T> informer = mock(SharedIndexInformer.class);
+		when(informer.getIndexer()).thenReturn(cache);
+		doAnswer(invocation -> {
+			cache.addIndexers(invocation.getArgument(0));
+			return null;
+		}).when(informer).addIndexers(any());
+		return informer;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testDiscoveryGetInstanceFromEndpointSlicesShouldWork() {
+		Lister<V1Service> serviceLister = setupServiceLister(testService1);
+		Cache<V1beta1EndpointSlice> endpointSliceCache = new Cache<>();
+		when(kubernetesDiscoveryProperties.isAllNamespaces()).thenReturn(false);
+
+		SharedIndexInformer<V1beta1EndpointSlice> endpointSliceInformer = mock(SharedIndexInformer.class);
+		when(endpointSliceInformer.getIndexer()).thenReturn(endpointSliceCache);
+		doAnswer(invocation -> {
+			endpointSliceCache.addIndexers(invocation.getArgument(0));
+			return null;
+		}).when(endpointSliceInformer).addIndexers(any());
+
+		KubernetesInformerDiscoveryClient discoveryClient = new KubernetesInformerDiscoveryClient("namespace1",
+				sharedInformerFactory, serviceLister, null, endpointSliceInformer, kubernetesDiscoveryProperties);
+
+		endpointSliceCache.add(endpointSlice("test-svc-1-abcde", "test-svc-1",
+				new V1beta1Endpoint().addAddressesItem("2.2.2.2")
+						.conditions(new V1beta1EndpointConditions().ready(true))
+						.topology(Collections.singletonMap("topology.kubernetes.io/zone", "zone-a")),
+				new V1beta1Endpoint().addAddressesItem("3.3.3.3")
+						.conditions(new V1beta1EndpointConditions().ready(false))));
+		endpointSliceCache.add(
+				endpointSlice("test-svc-1-fghij", "test-svc-1", new V1beta1Endpoint().addAddressesItem("4.4.4.4")));
+		endpointSliceCache.add(
+				endpointSlice("test-svc-2-abcde", "test-svc-2", new V1beta1Endpoint().addAddressesItem("5.5.5.5")));
+
+		assertThat(discoveryClient.getInstances("test-svc-1")).containsOnly(
+				new KubernetesServiceInstance("", "test-svc-1", "2.2.2.2", 8080,
+						Collections.singletonMap("topology.kubernetes.io/zone", "zone-a"), false),
+				new KubernetesServiceInstance("", "test-svc-1", "4.4.4.4", 8080, new HashMap<>(), false));
+	}
+
+	private static V1beta1EndpointSlice endpointSlice(String name, String serviceName, V1beta1Endpoint... endpoints) {
+		V1beta1EndpointSlice slice = new V1beta1EndpointSlice()
+				.metadata(new V1ObjectMeta().name(name).namespace("namespace1").putLabelsItem(
+						KubernetesInformerDiscoveryClient.ENDPOINT_SLICE_SERVICE_NAME_LABEL, serviceName))
+				.addressType("IPv4").addPortsItem(new V1beta1EndpointPort().port(8080));
+		for (V1beta1Endpoint endpoint : endpoints) {
+			slice.addEndpointsItem(endpoint);
+		}
+		return slice;
+	}
+
 	private Lister<V1Service> setupServiceLister(V1Service... services) {
 		Cache<V1Service> serviceCache = new Cache<>();
 		Lister<V1Service> serviceLister = new Lister<>(serviceCache);
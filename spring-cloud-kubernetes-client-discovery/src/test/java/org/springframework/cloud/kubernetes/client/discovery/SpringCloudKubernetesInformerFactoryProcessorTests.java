@@ -0,0 +1,56 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.client.discovery;
+
+import java.util.Collections;
+
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1beta1EndpointSlice;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpringCloudKubernetesInformerFactoryProcessorTests {
+
+	private static final String SELECTOR = "metadata.name!=kubernetes,spec.type=ClusterIP";
+
+	@Test
+	public void serviceFieldSelectorShouldOnlyApplyToServices() {
+		assertThat(SpringCloudKubernetesInformerFactoryProcessor.fieldSelector(V1Service.class, SELECTOR))
+				.isEqualTo(SELECTOR);
+		assertThat(SpringCloudKubernetesInformerFactoryProcessor.fieldSelector(V1Endpoints.class, SELECTOR))
+				.isEqualTo("metadata.name!=kubernetes");
+		assertThat(
+				SpringCloudKubernetesInformerFactoryProcessor.fieldSelector(V1Endpoints.class, "spec.type=ClusterIP"))
+						.isNull();
+		assertThat(SpringCloudKubernetesInformerFactoryProcessor.fieldSelector(V1beta1EndpointSlice.class, SELECTOR))
+				.isNull();
+	}
+
+	@Test
+	public void endpointSlicesShouldBeSelectedByTheNameOfTheirService() {
+		assertThat(SpringCloudKubernetesInformerFactoryProcessor.labelSelector(V1beta1EndpointSlice.class,
+				Collections.singletonMap("app", "store"), SELECTOR))
+						.isEqualTo("app=store,kubernetes.io/service-name!=kubernetes");
+		assertThat(SpringCloudKubernetesInformerFactoryProcessor.labelSelector(V1Service.class,
+				Collections.singletonMap("app", "store"), SELECTOR)).isEqualTo("app=store");
+		assertThat(SpringCloudKubernetesInformerFactoryProcessor.labelSelector(V1Endpoints.class,
+				Collections.emptyMap(), SELECTOR)).isNull();
+	}
+
+}
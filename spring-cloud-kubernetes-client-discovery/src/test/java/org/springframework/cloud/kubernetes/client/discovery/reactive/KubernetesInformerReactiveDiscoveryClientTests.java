@@ -16,8 +16,11 @@
 
 package org.springframework.cloud.kubernetes.client.discovery.reactive;
 
+import java.util.Collections;
 import java.util.HashMap;
 
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedInformer;
 import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.informer.cache.Cache;
 import io.kubernetes.client.informer.cache.Lister;
@@ -31,6 +34,7 @@ import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.openapi.models.V1ServiceStatus;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import reactor.test.StepVerifier;
@@ -40,6 +44,7 @@ import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscover
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
 import org.springframework.mock.env.MockEnvironment;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -142,6 +147,95 @@ public class KubernetesInformerReactiveDiscoveryClientTests {
 		verify(kubernetesDiscoveryProperties, times(1)).isAllNamespaces();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void watchInstancesShouldEmitOnEndpointsChanges() {
+		Lister<V1Service> serviceLister = setupServiceLister(testService1);
+		Cache<V1Endpoints> endpointsCache = new Cache<>();
+		endpointsCache.add(testEndpoints1);
+		SharedInformer<V1Service> serviceInformer = mock(SharedInformer.class);
+		SharedInformer<V1Endpoints> endpointsInformer = mock(SharedInformer.class);
+
+		when(kubernetesDiscoveryProperties.isAllNamespaces()).thenReturn(false);
+		KubernetesNamespaceProvider kubernetesNamespaceProvider = mock(KubernetesNamespaceProvider.class);
+		when(kubernetesNamespaceProvider.getNamespace()).thenReturn("namespace1");
+		KubernetesInformerReactiveDiscoveryClient discoveryClient = new KubernetesInformerReactiveDiscoveryClient(
+				kubernetesNamespaceProvider, sharedInformerFactory, serviceLister, new Lister<>(endpointsCache),
+				serviceInformer, endpointsInformer, kubernetesDiscoveryProperties);
+
+		ArgumentCaptor<ResourceEventHandler<V1Endpoints>> handler = ArgumentCaptor.forClass(ResourceEventHandler.class);
+		verify(endpointsInformer).addEventHandler(handler.capture());
+
+		V1Endpoints updatedEndpoints = new V1Endpoints()
+				.metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace1"))
+				.addSubsetsItem(new V1EndpointSubset().addPortsItem(new V1EndpointPort().port(8080))
+						.addAddressesItem(new V1EndpointAddress().ip("3.3.3.3")));
+		V1Endpoints otherEndpoints = new V1Endpoints()
+				.metadata(new V1ObjectMeta().name("test-svc-2").namespace("namespace1"));
+
+		StepVerifier.create(discoveryClient.watchInstances("test-svc-1"))
+				.expectNext(Collections.singletonList(
+						new KubernetesServiceInstance("", "test-svc-1", "2.2.2.2", 8080, new HashMap<>(), false)))
+				.then(() -> handler.getValue().onAdd(otherEndpoints))
+				.then(() -> handler.getValue().onUpdate(testEndpoints1, testEndpoints1)).then(() -> {
+					endpointsCache.update(updatedEndpoints);
+					handler.getValue().onUpdate(testEndpoints1, updatedEndpoints);
+				})
+				.expectNext(Collections.singletonList(
+						new KubernetesServiceInstance("", "test-svc-1", "3.3.3.3", 8080, new HashMap<>(), false)))
+				.thenCancel().verify();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void watchInstancesShouldNotLookUpInstancesOnTheInformerThread() {
+		Cache<V1Endpoints> endpointsCache = new Cache<>();
+		endpointsCache.add(testEndpoints1);
+		SharedInformer<V1Service> serviceInformer = mock(SharedInformer.class);
+		SharedInformer<V1Endpoints> endpointsInformer = mock(SharedInformer.class);
+
+		when(kubernetesDiscoveryProperties.isAllNamespaces()).thenReturn(false);
+		KubernetesNamespaceProvider kubernetesNamespaceProvider = mock(KubernetesNamespaceProvider.class);
+		when(kubernetesNamespaceProvider.getNamespace()).thenReturn("namespace1");
+		KubernetesInformerReactiveDiscoveryClient discoveryClient = new KubernetesInformerReactiveDiscoveryClient(
+				kubernetesNamespaceProvider, sharedInformerFactory, setupServiceLister(testService1),
+				new Lister<>(endpointsCache), serviceInformer, endpointsInformer, kubernetesDiscoveryProperties);
+
+		ArgumentCaptor<ResourceEventHandler<V1Endpoints>> handler = ArgumentCaptor.forClass(ResourceEventHandler.class);
+		verify(endpointsInformer).addEventHandler(handler.capture());
+
+		V1Endpoints updatedEndpoints = new V1Endpoints()
+				.metadata(new V1ObjectMeta().name("test-svc-1").namespace("namespace1"))
+				.addSubsetsItem(new V1EndpointSubset().addPortsItem(new V1EndpointPort().port(8080))
+						.addAddressesItem(new V1EndpointAddress().ip("3.3.3.3")));
+		Thread informerThread = Thread.currentThread();
+
+		StepVerifier.create(discoveryClient.watchInstances("test-svc-1").map(instances -> Thread.currentThread()))
+				.assertNext(thread -> assertThat(thread).isNotSameAs(informerThread)).then(() -> {
+					endpointsCache.update(updatedEndpoints);
+					handler.getValue().onUpdate(testEndpoints1, updatedEndpoints);
+				}).assertNext(thread -> assertThat(thread).isNotSameAs(informerThread)).thenCancel().verify();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void informersShouldBeStartedAndStoppedWithTheClient() throws Exception {
+		SharedInformer<V1Service> serviceInformer = mock(SharedInformer.class);
+		SharedInformer<V1Endpoints> endpointsInformer = mock(SharedInformer.class);
+		when(serviceInformer.hasSynced()).thenReturn(true);
+		when(endpointsInformer.hasSynced()).thenReturn(true);
+		when(kubernetesDiscoveryProperties.getCacheLoadingTimeoutSeconds()).thenReturn(5L);
+
+		KubernetesInformerReactiveDiscoveryClient discoveryClient = new KubernetesInformerReactiveDiscoveryClient(
+				new KubernetesNamespaceProvider(new MockEnvironment()), sharedInformerFactory, setupServiceLister(),
+				setupEndpointsLister(), serviceInformer, endpointsInformer, kubernetesDiscoveryProperties);
+		discoveryClient.afterPropertiesSet();
+		verify(sharedInformerFactory).startAllRegisteredInformers();
+
+		discoveryClient.destroy();
+		verify(sharedInformerFactory).stopAllRegisteredInformers();
+	}
+
 	private Lister<V1Service> setupServiceLister(V1Service... services) {
 		Cache<V1Service> serviceCache = new Cache<>();
 		Lister<V1Service> serviceLister = new Lister<>(serviceCache);
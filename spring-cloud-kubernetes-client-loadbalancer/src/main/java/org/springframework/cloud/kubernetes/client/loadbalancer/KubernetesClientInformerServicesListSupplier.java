@@ -0,0 +1,123 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.client.loadbalancer;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.util.CallGeneratorParams;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.KubernetesNamespaceProvider;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesInformerServicesListSupplier;
+import org.springframework.core.env.Environment;
+
+/**
+ * {@link KubernetesInformerServicesListSupplier} backed by a Kubernetes Java Client
+ * informer watching the services named after the load balanced service, in the namespace
+ * of the application or in all namespaces.
+ */
+public class KubernetesClientInformerServicesListSupplier extends KubernetesInformerServicesListSupplier {
+
+	private final CoreV1Api coreV1Api;
+
+	private final KubernetesNamespaceProvider kubernetesNamespaceProvider;
+
+	private volatile SharedInformerFactory sharedInformerFactory;
+
+	private volatile SharedIndexInformer<V1Service> informer;
+
+	public KubernetesClientInformerServicesListSupplier(Environment environment,
+			KubernetesClientServiceInstanceMapper mapper, KubernetesDiscoveryProperties discoveryProperties,
+			CoreV1Api coreV1Api, KubernetesNamespaceProvider kubernetesNamespaceProvider) {
+		super(environment, mapper, discoveryProperties);
+		this.coreV1Api = coreV1Api;
+		this.kubernetesNamespaceProvider = kubernetesNamespaceProvider;
+	}
+
+	@Override
+	protected void startInformer() {
+		// the watches of the informer stay open until they time out on the server side
+		ApiClient apiClient = this.coreV1Api.getApiClient();
+		apiClient.setHttpClient(apiClient.getHttpClient().newBuilder().readTimeout(Duration.ZERO).build());
+
+		String fieldSelector = "metadata.name=" + getServiceId();
+		String namespace = this.kubernetesNamespaceProvider.getNamespace();
+		this.sharedInformerFactory = new SharedInformerFactory(apiClient);
+		this.informer = this.sharedInformerFactory.sharedIndexInformerFor(
+				(CallGeneratorParams params) -> discoveryProperties.isAllNamespaces()
+						? this.coreV1Api.listServiceForAllNamespacesCall(null, null, fieldSelector, null, null, null,
+								params.resourceVersion, null, params.timeoutSeconds, params.watch, null)
+						: this.coreV1Api.listNamespacedServiceCall(namespace, null, null, null, fieldSelector, null,
+								null, params.resourceVersion, null, params.timeoutSeconds, params.watch, null),
+				V1Service.class, V1ServiceList.class);
+		this.informer.addEventHandler(new ResourceEventHandler<V1Service>() {
+			@Override
+			public void onAdd(V1Service service) {
+				refresh();
+			}
+
+			@Override
+			public void onUpdate(V1Service oldService, V1Service newService) {
+				refresh();
+			}
+
+			@Override
+			public void onDelete(V1Service service, boolean deletedFinalStateUnknown) {
+				refresh();
+			}
+		});
+		this.sharedInformerFactory.startAllRegisteredInformers();
+	}
+
+	@Override
+	protected boolean hasSynced() {
+		return this.informer != null && this.informer.hasSynced();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected List<ServiceInstance> instances() {
+		if (this.informer == null) {
+			return Collections.emptyList();
+		}
+		List<V1Service> services = this.informer.getIndexer().list().stream()
+				.sorted(Comparator.comparing(service -> service.getMetadata().getNamespace(),
+						Comparator.nullsFirst(Comparator.naturalOrder())))
+				.collect(Collectors.toList());
+		return (List<ServiceInstance>) mapper.mapAll(getServiceId(), services);
+	}
+
+	@Override
+	protected void stopInformer() {
+		if (this.sharedInformerFactory != null) {
+			this.sharedInformerFactory.stopAllRegisteredInformers();
+		}
+	}
+
+}
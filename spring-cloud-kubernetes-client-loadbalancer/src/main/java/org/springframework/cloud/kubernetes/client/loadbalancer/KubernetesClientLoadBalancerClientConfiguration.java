@@ -16,27 +16,153 @@
 
 package org.springframework.cloud.kubernetes.client.loadbalancer;
 
+import java.util.List;
+
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Node;
+import io.kubernetes.client.openapi.models.V1Pod;
 
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.client.discovery.reactive.KubernetesInformerReactiveDiscoveryClient;
 import org.springframework.cloud.kubernetes.commons.KubernetesNamespaceProvider;
+import org.springframework.cloud.kubernetes.commons.PodUtils;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.ConditionalOnKubernetesPodsListSupplier;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLeastOutstandingRequestsLoadBalancer;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerMode;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesOutlierDetectionServiceInstanceListSupplier;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesOutlierDetector;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesOutlierDetectorMetrics;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesPodsListSupplier;
 import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesServicesListSupplier;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesWeightedLoadBalancer;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesZonePreferenceServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
 
 /**
  * @author Ryan Baxter
  */
 public class KubernetesClientLoadBalancerClientConfiguration {
 
+	private static final boolean MICROMETER_PRESENT = ClassUtils.isPresent(
+			"io.micrometer.core.instrument.MeterRegistry",
+			KubernetesClientLoadBalancerClientConfiguration.class.getClassLoader());
+
 	@Bean
 	@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.mode", havingValue = "SERVICE")
 	KubernetesServicesListSupplier kubernetesServicesListSupplier(Environment environment, CoreV1Api coreV1Api,
 			KubernetesClientServiceInstanceMapper mapper, KubernetesDiscoveryProperties discoveryProperties,
 			KubernetesNamespaceProvider kubernetesNamespaceProvider) {
-		return new KubernetesClientServicesListSupplier(environment, mapper, discoveryProperties, coreV1Api,
+		return new KubernetesClientInformerServicesListSupplier(environment, mapper, discoveryProperties, coreV1Api,
 				kubernetesNamespaceProvider);
 	}
 
+	@Bean
+	@ConditionalOnKubernetesPodsListSupplier
+	@ConditionalOnBean(KubernetesInformerReactiveDiscoveryClient.class)
+	ServiceInstanceListSupplier kubernetesPodsListSupplier(Environment environment,
+			KubernetesInformerReactiveDiscoveryClient discoveryClient, KubernetesLoadBalancerProperties properties,
+			ConfigurableApplicationContext context, ObjectProvider<PodUtils<V1Pod>> podUtils, CoreV1Api coreV1Api,
+			ObjectProvider<KubernetesOutlierDetector> outlierDetector) {
+		ServiceInstanceListSupplier supplier = properties.isWatchInstances()
+				? new KubernetesPodsListSupplier(environment, discoveryClient::watchInstances)
+				: ServiceInstanceListSupplier.builder().withDiscoveryClient().withCaching().build(context);
+		KubernetesOutlierDetector detector = outlierDetector.getIfAvailable();
+		if (detector != null) {
+			supplier = new KubernetesOutlierDetectionServiceInstanceListSupplier(supplier, detector);
+		}
+		if (!properties.getZonePreference().isEnabled()) {
+			return supplier;
+		}
+		return new KubernetesZonePreferenceServiceInstanceListSupplier(supplier, properties.getZonePreference(),
+				() -> localNode(podUtils.getIfAvailable()), node -> nodeZone(coreV1Api, node));
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.algorithm",
+			havingValue = "LEAST_OUTSTANDING_REQUESTS")
+	KubernetesLeastOutstandingRequestsLoadBalancer kubernetesLeastOutstandingRequestsLoadBalancer(
+			Environment environment, LoadBalancerClientFactory loadBalancerClientFactory) {
+		String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		return new KubernetesLeastOutstandingRequestsLoadBalancer(
+				loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), name);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.algorithm", havingValue = "WEIGHTED")
+	KubernetesWeightedLoadBalancer kubernetesWeightedLoadBalancer(Environment environment,
+			LoadBalancerClientFactory loadBalancerClientFactory, KubernetesLoadBalancerProperties properties,
+			CoreV1Api coreV1Api, KubernetesNamespaceProvider kubernetesNamespaceProvider) {
+		String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		String weightKey = properties.getWeightMetadataKey();
+		return new KubernetesWeightedLoadBalancer(
+				loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), name, weightKey,
+				properties.getMode() == KubernetesLoadBalancerMode.POD
+						? instance -> podAnnotation(coreV1Api, kubernetesNamespaceProvider, instance, weightKey)
+						: null);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.outlier-detection.enabled",
+			havingValue = "true")
+	KubernetesOutlierDetector kubernetesOutlierDetector(Environment environment,
+			KubernetesLoadBalancerProperties properties, BeanFactory beanFactory) {
+		KubernetesOutlierDetector outlierDetector = new KubernetesOutlierDetector(
+				environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME), properties.getOutlierDetection());
+		if (MICROMETER_PRESENT) {
+			KubernetesOutlierDetectorMetrics.bind(outlierDetector, beanFactory);
+		}
+		return outlierDetector;
+	}
+
+	private static String localNode(PodUtils<V1Pod> podUtils) {
+		V1Pod pod = podUtils != null ? podUtils.currentPod().get() : null;
+		return pod != null && pod.getSpec() != null ? pod.getSpec().getNodeName() : null;
+	}
+
+	private static String podAnnotation(CoreV1Api coreV1Api, KubernetesNamespaceProvider namespaceProvider,
+			ServiceInstance instance, String annotation) {
+		String namespace = instance.getMetadata() != null
+				? instance.getMetadata().get(KubernetesServiceInstance.NAMESPACE_METADATA_KEY) : null;
+		if (namespace == null) {
+			namespace = namespaceProvider.getNamespace();
+		}
+		try {
+			List<V1Pod> pods = coreV1Api.listNamespacedPod(namespace, null, null, null,
+					"status.podIP=" + instance.getHost(), null, null, null, null, null, null).getItems();
+			return pods.stream()
+					.filter(pod -> pod.getMetadata() != null
+							&& instance.getInstanceId().equals(pod.getMetadata().getUid())
+							&& pod.getMetadata().getAnnotations() != null)
+					.findFirst().map(pod -> pod.getMetadata().getAnnotations().get(annotation)).orElse(null);
+		}
+		catch (ApiException e) {
+			throw new IllegalStateException(
+					"Could not read the pod of instance " + instance.getInstanceId() + ": " + e.getResponseBody(), e);
+		}
+	}
+
+	private static String nodeZone(CoreV1Api coreV1Api, String nodeName) {
+		try {
+			V1Node node = coreV1Api.readNode(nodeName, null, null, null);
+			return node.getMetadata() != null && node.getMetadata().getLabels() != null
+					? node.getMetadata().getLabels().get(KubernetesServiceInstance.ZONE_METADATA_KEY) : null;
+		}
+		catch (ApiException e) {
+			throw new IllegalStateException("Could not read node " + nodeName + ": " + e.getResponseBody(), e);
+		}
+	}
+
 }
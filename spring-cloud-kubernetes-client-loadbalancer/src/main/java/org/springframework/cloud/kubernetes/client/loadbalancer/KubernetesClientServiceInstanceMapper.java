@@ -16,10 +16,14 @@
 
 package org.springframework.cloud.kubernetes.client.loadbalancer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -28,6 +32,7 @@ import io.kubernetes.client.openapi.models.V1ServicePort;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
 import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesServiceInstanceCache;
 import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesServiceInstanceMapper;
 import org.springframework.util.StringUtils;
 
@@ -40,6 +45,8 @@ public class KubernetesClientServiceInstanceMapper implements KubernetesServiceI
 
 	private KubernetesDiscoveryProperties discoveryProperties;
 
+	private final KubernetesServiceInstanceCache cache = new KubernetesServiceInstanceCache();
+
 	public KubernetesClientServiceInstanceMapper(KubernetesLoadBalancerProperties properties,
 			KubernetesDiscoveryProperties discoveryProperties) {
 		this.properties = properties;
@@ -48,29 +55,80 @@ public class KubernetesClientServiceInstanceMapper implements KubernetesServiceI
 
 	@Override
 	public KubernetesServiceInstance map(V1Service service) {
+		List<KubernetesServiceInstance> instances = mapAll(service);
+		return instances.size() == 1 ? instances.get(0) : null;
+	}
+
+	@Override
+	public List<KubernetesServiceInstance> mapAll(V1Service service) {
 		final V1ObjectMeta meta = service.getMetadata();
+		return this.cache.get(meta.getName(), meta.getUid(), meta.getResourceVersion(), () -> mapService(service));
+	}
 
+	@Override
+	public List<KubernetesServiceInstance> mapAll(String serviceName, Collection<V1Service> services) {
+		this.cache.retain(serviceName,
+				services.stream().map(service -> service.getMetadata().getUid()).collect(Collectors.toSet()));
+		return KubernetesServiceInstanceMapper.super.mapAll(serviceName, services);
+	}
+
+	private List<KubernetesServiceInstance> mapService(V1Service service) {
+		final V1ObjectMeta meta = service.getMetadata();
 		final List<V1ServicePort> ports = service.getSpec().getPorts();
-		V1ServicePort port = null;
+		if (ports == null || ports.isEmpty()) {
+			return Collections.emptyList();
+		}
+		final Map<String, String> serviceMetadata = getServiceMetadata(service);
+		final V1ServicePort port = getPreferredPort(ports, meta.getAnnotations());
+		if (port != null) {
+			return Collections.singletonList(
+					createInstance(service, port, meta.getUid(), Collections.unmodifiableMap(serviceMetadata)));
+		}
+		if (!this.properties.isExpandPorts()) {
+			return Collections.emptyList();
+		}
+		final List<KubernetesServiceInstance> instances = new ArrayList<>(ports.size());
+		for (V1ServicePort it : ports) {
+			final String portName = it.getName() != null ? it.getName() : String.valueOf(it.getPort());
+			final Map<String, String> portMetadata = new HashMap<>(serviceMetadata);
+			portMetadata.put(KubernetesServiceInstanceMapper.PORT_NAME_METADATA_KEY, portName);
+			instances.add(createInstance(service, it, meta.getUid() + "-" + portName,
+					Collections.unmodifiableMap(portMetadata)));
+		}
+		return Collections.unmodifiableList(instances);
+	}
+
+	private V1ServicePort getPreferredPort(List<V1ServicePort> ports, Map<String, String> annotations) {
+		final String annotatedPortName = annotations != null
+				? annotations.get(KubernetesServiceInstanceMapper.PORT_NAME_ANNOTATION) : null;
+		if (StringUtils.hasText(annotatedPortName)) {
+			Optional<V1ServicePort> optPort = ports.stream().filter(it -> annotatedPortName.equals(it.getName()))
+					.findAny();
+			if (optPort.isPresent()) {
+				return optPort.get();
+			}
+		}
 		if (ports.size() == 1) {
-			port = ports.get(0);
+			return ports.get(0);
 		}
-		else if (ports.size() > 1 && StringUtils.hasText(this.properties.getPortName())) {
+		if (StringUtils.hasText(this.properties.getPortName())) {
 			Optional<V1ServicePort> optPort = ports.stream()
-					.filter(it -> properties.getPortName().endsWith(it.getName())).findAny();
+					.filter(it -> it.getName() != null && properties.getPortName().endsWith(it.getName())).findAny();
 			if (optPort.isPresent()) {
-				port = optPort.get();
+				return optPort.get();
 			}
 		}
-		if (port == null) {
-			return null;
-		}
+		return null;
+	}
+
+	private KubernetesServiceInstance createInstance(V1Service service, V1ServicePort port, String instanceId,
+			Map<String, String> metadata) {
 		final String host = KubernetesServiceInstanceMapper.createHost(service.getMetadata().getName(),
 				service.getMetadata().getNamespace(), properties.getClusterDomain());
 		final boolean secure = KubernetesServiceInstanceMapper.isSecure(service.getMetadata().getLabels(),
 				service.getMetadata().getAnnotations(), port.getName(), port.getPort());
-		return new KubernetesServiceInstance(meta.getUid(), meta.getName(), host, port.getPort(),
-				getServiceMetadata(service), secure);
+		return new KubernetesServiceInstance(instanceId, service.getMetadata().getName(), host, port.getPort(),
+				metadata, secure);
 	}
 
 	private Map<String, String> getServiceMetadata(V1Service service) {
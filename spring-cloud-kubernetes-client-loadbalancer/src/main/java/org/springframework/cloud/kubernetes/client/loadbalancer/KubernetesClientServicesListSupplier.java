@@ -71,7 +71,6 @@ public class KubernetesClientServicesListSupplier extends KubernetesServicesList
 
 	@Override
 	public Flux<List<ServiceInstance>> get() {
-		LOG.info("Getting services with id " + this.getServiceId());
 		List<ServiceInstance> result = new ArrayList<>();
 		List<V1Service> services = null;
 		try {
@@ -83,12 +82,14 @@ public class KubernetesClientServicesListSupplier extends KubernetesServicesList
 				services = coreV1Api.listNamespacedService(getNamespace(), null, null, null,
 						"metadata.name=" + this.getServiceId(), null, null, null, null, null, null).getItems();
 			}
-			services.forEach(service -> result.add(mapper.map(service)));
+			result.addAll(mapper.mapAll(this.getServiceId(), services));
 		}
 		catch (ApiException e) {
 			LOG.warn("Error retrieving service with name " + this.getServiceId(), e);
 		}
-		LOG.info("Returning services: " + result);
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Returning services: " + result);
+		}
 		return Flux.defer(() -> Flux.just(result));
 	}
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.client.loadbalancer;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMetaBuilder;
+import io.kubernetes.client.openapi.models.V1ServiceBuilder;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1ServicePortBuilder;
+import io.kubernetes.client.openapi.models.V1ServiceSpecBuilder;
+import io.kubernetes.client.util.ClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.KubernetesNamespaceProvider;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerProperties;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KubernetesClientInformerServicesListSupplierTests {
+
+	private static final V1ServiceList SERVICE_LIST = new V1ServiceList()
+			.metadata(new V1ListMeta().resourceVersion("1"))
+			.addItemsItem(new V1ServiceBuilder()
+					.withMetadata(new V1ObjectMetaBuilder().withName("service1").withNamespace("default")
+							.withResourceVersion("1").withUid("0").build())
+					.withSpec(new V1ServiceSpecBuilder()
+							.addToPorts(new V1ServicePortBuilder().withPort(80).withName("http").build()).build())
+					.build());
+
+	private WireMockServer wireMockServer;
+
+	private KubernetesClientInformerServicesListSupplier supplier;
+
+	@BeforeEach
+	void setup() {
+		wireMockServer = new WireMockServer(options().dynamicPort());
+		wireMockServer.start();
+		WireMock.configureFor("localhost", wireMockServer.port());
+
+		stubFor(get(urlMatching("^/api/v1/namespaces/default/services\\?.*watch=false.*"))
+				.willReturn(aResponse().withStatus(200).withBody(new JSON().serialize(SERVICE_LIST))));
+		stubFor(get(urlMatching("^/api/v1/namespaces/default/services\\?.*watch=true.*"))
+				.willReturn(aResponse().withStatus(200).withFixedDelay(1000)));
+
+		MockEnvironment env = new MockEnvironment();
+		env.setProperty(LoadBalancerClientFactory.PROPERTY_NAME, "service1");
+		KubernetesNamespaceProvider kubernetesNamespaceProvider = mock(KubernetesNamespaceProvider.class);
+		when(kubernetesNamespaceProvider.getNamespace()).thenReturn("default");
+		KubernetesDiscoveryProperties discoveryProperties = new KubernetesDiscoveryProperties();
+		CoreV1Api coreV1Api = new CoreV1Api(
+				new ClientBuilder().setBasePath("http://localhost:" + wireMockServer.port()).build());
+		KubernetesClientServiceInstanceMapper mapper = new KubernetesClientServiceInstanceMapper(
+				new KubernetesLoadBalancerProperties(), discoveryProperties);
+		supplier = new KubernetesClientInformerServicesListSupplier(env, mapper, discoveryProperties, coreV1Api,
+				kubernetesNamespaceProvider);
+	}
+
+	@AfterEach
+	void tearDown() {
+		supplier.destroy();
+		wireMockServer.stop();
+	}
+
+	@Test
+	void instancesShouldBeServedFromTheInformer() {
+		List<ServiceInstance> instances = supplier.get().blockFirst(Duration.ofSeconds(30));
+		assertThat(instances).hasSize(1);
+		assertThat(instances.get(0).getHost()).isEqualTo("service1.default.svc.cluster.local");
+		assertThat(instances.get(0).getPort()).isEqualTo(80);
+
+		assertThat(supplier.get().blockFirst(Duration.ofSeconds(1))).isSameAs(instances);
+		verify(1,
+				getRequestedFor(urlPathEqualTo("/api/v1/namespaces/default/services"))
+						.withQueryParam("watch", WireMock.equalTo("false"))
+						.withQueryParam("fieldSelector", WireMock.equalTo("metadata.name=service1")));
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.cloud.kubernetes.client.loadbalancer;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.kubernetes.client.openapi.models.V1ObjectMetaBuilder;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
 import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesServiceInstanceMapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -84,4 +86,78 @@ class KubernetesClientServiceInstanceMapperTests {
 		assertThat(serviceInstance).isEqualTo(result);
 	}
 
+	@Test
+	void multiportMapShouldOnlyUseThePreferredPort() {
+		KubernetesLoadBalancerProperties loadBalancerProperties = new KubernetesLoadBalancerProperties();
+		KubernetesDiscoveryProperties kubernetesDiscoveryProperties = new KubernetesDiscoveryProperties();
+		KubernetesClientServiceInstanceMapper mapper = new KubernetesClientServiceInstanceMapper(loadBalancerProperties,
+				kubernetesDiscoveryProperties);
+
+		V1Service service = new V1ServiceBuilder()
+				.withMetadata(new V1ObjectMetaBuilder().withName("database").withUid("0").withResourceVersion("0")
+						.withNamespace("default").build())
+				.withSpec(new V1ServiceSpecBuilder()
+						.addToPorts(new V1ServicePortBuilder().withPort(9090).withName("grpc").build(),
+								new V1ServicePortBuilder().withPort(8080).withName("http").build(),
+								new V1ServicePortBuilder().withPort(9091).withName("metrics").build())
+						.build())
+				.build();
+
+		assertThat(mapper.mapAll(service)).extracting(KubernetesServiceInstance::getPort).containsExactly(8080);
+
+		loadBalancerProperties.setPortName("");
+		KubernetesClientServiceInstanceMapper withoutPreferredPort = new KubernetesClientServiceInstanceMapper(
+				loadBalancerProperties, kubernetesDiscoveryProperties);
+		assertThat(withoutPreferredPort.map(service)).isNull();
+		assertThat(withoutPreferredPort.mapAll(service)).isEmpty();
+	}
+
+	@Test
+	void multiportMapWithoutPreferredPortAndExpandedPorts() {
+		KubernetesLoadBalancerProperties loadBalancerProperties = new KubernetesLoadBalancerProperties();
+		loadBalancerProperties.setPortName("");
+		loadBalancerProperties.setExpandPorts(true);
+		KubernetesDiscoveryProperties kubernetesDiscoveryProperties = new KubernetesDiscoveryProperties();
+		KubernetesClientServiceInstanceMapper mapper = new KubernetesClientServiceInstanceMapper(loadBalancerProperties,
+				kubernetesDiscoveryProperties);
+
+		V1Service service = new V1ServiceBuilder()
+				.withMetadata(new V1ObjectMetaBuilder().withName("database").withUid("0").withResourceVersion("0")
+						.withNamespace("default").build())
+				.withSpec(new V1ServiceSpecBuilder()
+						.addToPorts(new V1ServicePortBuilder().withPort(80).withName("http").build(),
+								new V1ServicePortBuilder().withPort(9090).withName("grpc").build())
+						.build())
+				.build();
+
+		assertThat(mapper.map(service)).isNull();
+		List<KubernetesServiceInstance> instances = mapper.mapAll(service);
+		assertThat(instances).extracting(KubernetesServiceInstance::getInstanceId).containsExactly("0-http", "0-grpc");
+		assertThat(instances).extracting(KubernetesServiceInstance::getPort).containsExactly(80, 9090);
+		assertThat(instances.get(1).getMetadata()).containsEntry(KubernetesServiceInstanceMapper.PORT_NAME_METADATA_KEY,
+				"grpc");
+	}
+
+	@Test
+	void multiportMapWithAnnotatedPort() {
+		KubernetesLoadBalancerProperties loadBalancerProperties = new KubernetesLoadBalancerProperties();
+		KubernetesDiscoveryProperties kubernetesDiscoveryProperties = new KubernetesDiscoveryProperties();
+		KubernetesClientServiceInstanceMapper mapper = new KubernetesClientServiceInstanceMapper(loadBalancerProperties,
+				kubernetesDiscoveryProperties);
+
+		V1Service service = new V1ServiceBuilder()
+				.withMetadata(new V1ObjectMetaBuilder().withName("database").withUid("0").withResourceVersion("0")
+						.withNamespace("default")
+						.addToAnnotations(KubernetesServiceInstanceMapper.PORT_NAME_ANNOTATION, "grpc").build())
+				.withSpec(new V1ServiceSpecBuilder()
+						.addToPorts(new V1ServicePortBuilder().withPort(80).withName("http").build(),
+								new V1ServicePortBuilder().withPort(9090).withName("grpc").build())
+						.build())
+				.build();
+
+		KubernetesServiceInstance serviceInstance = mapper.map(service);
+		assertThat(serviceInstance.getInstanceId()).isEqualTo("0");
+		assertThat(serviceInstance.getPort()).isEqualTo(9090);
+	}
+
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2013-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Fetches resources from the API server concurrently, so that reading several of them
+ * costs about one round-trip. Each fetcher has threads of its own, so that the fetches of
+ * one module do not wait for the ones of another.
+ */
+public final class ConcurrentFetcher {
+
+	private static final Log LOG = LogFactory.getLog(ConcurrentFetcher.class);
+
+	private static final int MAX_CONCURRENT_FETCHES = 8;
+
+	/**
+	 * Set on the threads running a fetch, whether platform or virtual ones.
+	 */
+	private final ThreadLocal<Boolean> fetching = new ThreadLocal<>();
+
+	private final ExecutorService executor;
+
+	/**
+	 * Bounds the fetches running on virtual threads, null on platform threads which are
+	 * bounded by their pool.
+	 */
+	private final Semaphore permits;
+
+	/**
+	 * @param threadNamePrefix the prefix of the names of the threads fetching resources
+	 */
+	public ConcurrentFetcher(String threadNamePrefix) {
+		ExecutorService virtual = createVirtualThreadExecutor(threadNamePrefix);
+		this.executor = virtual != null ? virtual : createPlatformThreadExecutor(threadNamePrefix);
+		this.permits = virtual != null ? new Semaphore(MAX_CONCURRENT_FETCHES) : null;
+	}
+
+	/**
+	 * Fetches resources concurrently. At most {@value #MAX_CONCURRENT_FETCHES} fetches
+	 * run at the same time, on virtual threads when the JDK supports them, otherwise on
+	 * daemon threads. A fetch that fetches more resources itself fetches them in its own
+	 * thread, so it cannot wait for a thread it holds.
+	 * @param keys the keys of the resources, such as their names
+	 * @param fetcher function fetching a resource, returning null when it does not exist
+	 * @param <K> the type of the keys
+	 * @param <T> the type of the resources
+	 * @return the resources, in the order of their keys
+	 */
+	public <K, T> List<T> fetch(List<K> keys, Function<K, T> fetcher) {
+		if (keys.size() <= 1 || Boolean.TRUE.equals(this.fetching.get())) {
+			return keys.stream().map(fetcher).collect(Collectors.toList());
+		}
+		List<CompletableFuture<T>> futures = keys.stream()
+				.map(key -> CompletableFuture.supplyAsync(() -> fetchOne(key, fetcher), this.executor))
+				.collect(Collectors.toList());
+		List<T> result = new ArrayList<>(keys.size());
+		for (CompletableFuture<T> future : futures) {
+			try {
+				result.add(future.join());
+			}
+			catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
+		}
+		return result;
+	}
+
+	private <K, T> T fetchOne(K key, Function<K, T> fetcher) {
+		if (this.permits != null) {
+			this.permits.acquireUninterruptibly();
+		}
+		this.fetching.set(Boolean.TRUE);
+		try {
+			return fetcher.apply(key);
+		}
+		finally {
+			this.fetching.remove();
+			if (this.permits != null) {
+				this.permits.release();
+			}
+		}
+	}
+
+	private static ExecutorService createVirtualThreadExecutor(String threadNamePrefix) {
+		try {
+			// Java 21+
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderType.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 1L);
+			ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+			return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+					.invoke(null, threadFactory);
+		}
+		catch (ReflectiveOperationException e) {
+			LOG.debug("Virtual threads are not supported, using a pool of platform threads to fetch resources");
+			return null;
+		}
+	}
+
+	private static ExecutorService createPlatformThreadExecutor(String threadNamePrefix) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_FETCHES, MAX_CONCURRENT_FETCHES, 30,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+}
@@ -33,6 +33,8 @@ public class ConfigMapConfigProperties extends AbstractConfigProperties {
 
 	private boolean enableApi = true;
 
+	private boolean enableInformer = false;
+
 	private List<String> paths = Collections.emptyList();
 
 	private List<Source> sources = Collections.emptyList();
@@ -45,6 +47,14 @@ public class ConfigMapConfigProperties extends AbstractConfigProperties {
 		this.enableApi = enableApi;
 	}
 
+	public boolean isEnableInformer() {
+		return this.enableInformer;
+	}
+
+	public void setEnableInformer(boolean enableInformer) {
+		this.enableInformer = enableInformer;
+	}
+
 	public List<String> getPaths() {
 		return this.paths;
 	}
@@ -53,6 +53,12 @@ public abstract class ConfigMapPropertySourceLocator implements PropertySourceLo
 
 	protected final ConfigMapConfigProperties properties;
 
+	/**
+	 * Cache of the ConfigMaps read. Each call to {@link #locate(Environment)} reads
+	 * through a pass of its own, only the properties parsed are shared.
+	 */
+	protected final ConfigResourceCache cache = new ConfigResourceCache();
+
 	public ConfigMapPropertySourceLocator(ConfigMapConfigProperties properties) {
 		this.properties = properties;
 	}
@@ -60,6 +66,21 @@ public abstract class ConfigMapPropertySourceLocator implements PropertySourceLo
 	protected abstract MapPropertySource getMapPropertySource(String applicationName, NormalizedSource normalizedSource,
 			String configurationTarget, ConfigurableEnvironment environment);
 
+	/**
+	 * Reads the property source of a single config map through the cache of the current
+	 * pass of {@link #locate(Environment)}. By default the cache is not used.
+	 * @param applicationName the name of the config map
+	 * @param normalizedSource the source the config map is read for
+	 * @param configurationTarget the configuration target
+	 * @param environment the environment
+	 * @param cache the cache of the current pass
+	 * @return the property source of the config map
+	 */
+	protected MapPropertySource getMapPropertySource(String applicationName, NormalizedSource normalizedSource,
+			String configurationTarget, ConfigurableEnvironment environment, ConfigResourceCache cache) {
+		return getMapPropertySource(applicationName, normalizedSource, configurationTarget, environment);
+	}
+
 	@Override
 	public PropertySource<?> locate(Environment environment) {
 		if (environment instanceof ConfigurableEnvironment) {
@@ -67,8 +88,11 @@ public abstract class ConfigMapPropertySourceLocator implements PropertySourceLo
 
 			CompositePropertySource composite = new CompositePropertySource("composite-configmap");
 			if (this.properties.isEnableApi()) {
+				ConfigResourceCache pass = this.cache.newPass();
 				List<NormalizedSource> sources = this.properties.determineSources();
-				sources.forEach(s -> composite.addFirstPropertySource(getMapPropertySourceForSingleConfigMap(env, s)));
+				// fetched concurrently, added in the order of the sources
+				ConfigUtils.fetchConcurrently(sources, s -> getMapPropertySourceForSingleConfigMap(env, s, pass))
+						.forEach(composite::addFirstPropertySource);
 			}
 
 			addPropertySourcesFromPaths(environment, composite);
@@ -79,11 +103,11 @@ public abstract class ConfigMapPropertySourceLocator implements PropertySourceLo
 	}
 
 	private MapPropertySource getMapPropertySourceForSingleConfigMap(ConfigurableEnvironment environment,
-			NormalizedSource normalizedSource) {
+			NormalizedSource normalizedSource, ConfigResourceCache cache) {
 
 		String configurationTarget = this.properties.getConfigurationTarget();
 		String applicationName = getApplicationName(environment, normalizedSource.getName(), configurationTarget);
-		return getMapPropertySource(applicationName, normalizedSource, configurationTarget, environment);
+		return getMapPropertySource(applicationName, normalizedSource, configurationTarget, environment, cache);
 	}
 
 	private void addPropertySourcesFromPaths(Environment environment, CompositePropertySource composite) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2013-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.config;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * Cache of the ConfigMaps and Secrets read by a locator.
+ * <p>
+ * Within one pass of the locator, that is one bootstrap or one refresh, a resource is
+ * read from the API server at most once, however many sources use it. Each pass reads
+ * through its own cache, created with {@link #newPass()}, so concurrent passes do not
+ * share or clear each other's resources. Across passes, the properties parsed from a
+ * resource are kept along with its resourceVersion, so a resource that did not change is
+ * not parsed again.
+ */
+public class ConfigResourceCache {
+
+	private final Map<String, CompletableFuture<Object>> resources = new ConcurrentHashMap<>();
+
+	private final Map<String, ParsedResource> properties;
+
+	public ConfigResourceCache() {
+		this(new ConcurrentHashMap<>());
+	}
+
+	private ConfigResourceCache(Map<String, ParsedResource> properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Starts a new pass of the locator, in which the resources are read again.
+	 * @return the cache of the pass, sharing the parsed properties with this cache
+	 */
+	public ConfigResourceCache newPass() {
+		return new ConfigResourceCache(this.properties);
+	}
+
+	/**
+	 * Returns a resource read during the current pass, reading it otherwise.
+	 * @param kind the kind of the resource
+	 * @param namespace the namespace of the resource
+	 * @param name the name of the resource, or any other key identifying what is read
+	 * @param reader reads the resource, returning null when it does not exist
+	 * @param <T> the type of the resource
+	 * @return the resource, or null
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getResource(String kind, String namespace, String name, Supplier<T> reader) {
+		String key = key(kind, namespace, name);
+		CompletableFuture<Object> read = new CompletableFuture<>();
+		CompletableFuture<Object> existing = this.resources.putIfAbsent(key, read);
+		if (existing != null) {
+			return (T) existing.join();
+		}
+		try {
+			T resource = reader.get();
+			read.complete(resource);
+			return resource;
+		}
+		catch (RuntimeException e) {
+			// failures are not cached, the next pass reads the resource again
+			this.resources.remove(key, read);
+			read.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the properties parsed from a resource, parsing them only when the resource
+	 * or the active profiles changed since they were last parsed.
+	 * @param kind the kind of the resource
+	 * @param namespace the namespace of the resource
+	 * @param name the name of the resource
+	 * @param resourceVersion the resourceVersion of the resource, null to always parse it
+	 * @param environment the environment the properties are parsed for
+	 * @param parser parses the properties of the resource
+	 * @return the properties
+	 */
+	public Map<String, Object> getProperties(String kind, String namespace, String name, String resourceVersion,
+			Environment environment, Supplier<Map<String, Object>> parser) {
+		if (resourceVersion == null) {
+			return parser.get();
+		}
+		String key = key(kind, namespace, name);
+		String profiles = environment != null ? String.join(",", environment.getActiveProfiles()) : "";
+		ParsedResource parsed = this.properties.get(key);
+		if (parsed == null || !parsed.resourceVersion.equals(resourceVersion) || !parsed.profiles.equals(profiles)) {
+			parsed = new ParsedResource(resourceVersion, profiles, parser.get());
+			this.properties.put(key, parsed);
+		}
+		return parsed.properties;
+	}
+
+	private static String key(String kind, String namespace, String name) {
+		return kind + "/" + Objects.toString(namespace, "") + "/" + name;
+	}
+
+	private static final class ParsedResource {
+
+		private final String resourceVersion;
+
+		private final String profiles;
+
+		private final Map<String, Object> properties;
+
+		private ParsedResource(String resourceVersion, String profiles, Map<String, Object> properties) {
+			this.resourceVersion = resourceVersion;
+			this.profiles = profiles;
+			this.properties = properties;
+		}
+
+	}
+
+}
@@ -16,9 +16,13 @@
 
 package org.springframework.cloud.kubernetes.commons.config;
 
+import java.util.List;
+import java.util.function.Function;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.cloud.kubernetes.commons.ConcurrentFetcher;
 import org.springframework.core.env.Environment;
 import org.springframework.util.StringUtils;
 
@@ -34,6 +38,8 @@ public final class ConfigUtils {
 
 	private static final Log LOG = LogFactory.getLog(ConfigUtils.class);
 
+	private static final ConcurrentFetcher FETCHER = new ConcurrentFetcher("kubernetes-config-fetch-");
+
 	private ConfigUtils() {
 	}
 
@@ -47,4 +53,17 @@ public final class ConfigUtils {
 		return configName;
 	}
 
+	/**
+	 * Fetches ConfigMaps or Secrets concurrently, on threads of the configuration.
+	 * @param keys the keys of the resources, such as their names
+	 * @param fetcher function fetching a resource, returning null when it does not exist
+	 * @param <K> the type of the keys
+	 * @param <T> the type of the resources
+	 * @return the resources, in the order of their keys
+	 * @see ConcurrentFetcher#fetch(List, Function)
+	 */
+	public static <K, T> List<T> fetchConcurrently(List<K> keys, Function<K, T> fetcher) {
+		return FETCHER.fetch(keys, fetcher);
+	}
+
 }
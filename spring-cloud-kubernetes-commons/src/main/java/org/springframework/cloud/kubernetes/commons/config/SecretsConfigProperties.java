@@ -37,6 +37,8 @@ public class SecretsConfigProperties extends AbstractConfigProperties {
 
 	private boolean enableApi = false;
 
+	private boolean enableInformer = false;
+
 	private Map<String, String> labels = new HashMap<>();
 
 	private List<String> paths = new LinkedList<>();
@@ -51,6 +53,14 @@ public class SecretsConfigProperties extends AbstractConfigProperties {
 		this.enableApi = enableApi;
 	}
 
+	public boolean isEnableInformer() {
+		return this.enableInformer;
+	}
+
+	public void setEnableInformer(boolean enableInformer) {
+		this.enableInformer = enableInformer;
+	}
+
 	public Map<String, String> getLabels() {
 		return this.labels;
 	}
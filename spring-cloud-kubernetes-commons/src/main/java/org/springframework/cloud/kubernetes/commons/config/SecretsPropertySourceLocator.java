@@ -55,6 +55,12 @@ public abstract class SecretsPropertySourceLocator implements PropertySourceLoca
 
 	protected final SecretsConfigProperties properties;
 
+	/**
+	 * Cache of the Secrets read. Each call to {@link #locate(Environment)} reads through
+	 * a pass of its own, only the properties parsed are shared.
+	 */
+	protected final ConfigResourceCache cache = new ConfigResourceCache();
+
 	public SecretsPropertySourceLocator(SecretsConfigProperties properties) {
 		this.properties = properties;
 	}
@@ -70,7 +76,10 @@ public abstract class SecretsPropertySourceLocator implements PropertySourceLoca
 			putPathConfig(composite);
 
 			if (this.properties.isEnableApi()) {
-				sources.forEach(s -> composite.addPropertySource(getKubernetesPropertySourceForSingleSecret(env, s)));
+				ConfigResourceCache pass = this.cache.newPass();
+				// fetched concurrently, added in the order of the sources
+				ConfigUtils.fetchConcurrently(sources, s -> getKubernetesPropertySourceForSingleSecret(env, s, pass))
+						.forEach(composite::addPropertySource);
 			}
 
 			return composite;
@@ -79,15 +88,30 @@ public abstract class SecretsPropertySourceLocator implements PropertySourceLoca
 	}
 
 	private MapPropertySource getKubernetesPropertySourceForSingleSecret(ConfigurableEnvironment environment,
-			SecretsConfigProperties.NormalizedSource normalizedSource) {
+			SecretsConfigProperties.NormalizedSource normalizedSource, ConfigResourceCache cache) {
 
 		String configurationTarget = this.properties.getConfigurationTarget();
-		return getPropertySource(environment, normalizedSource, configurationTarget);
+		return getPropertySource(environment, normalizedSource, configurationTarget, cache);
 	}
 
 	protected abstract MapPropertySource getPropertySource(ConfigurableEnvironment environment,
 			SecretsConfigProperties.NormalizedSource normalizedSource, String configurationTarget);
 
+	/**
+	 * Reads the property source of a single secret through the cache of the current pass
+	 * of {@link #locate(Environment)}. By default the cache is not used.
+	 * @param environment the environment
+	 * @param normalizedSource the source the secret is read for
+	 * @param configurationTarget the configuration target
+	 * @param cache the cache of the current pass
+	 * @return the property source of the secret
+	 */
+	protected MapPropertySource getPropertySource(ConfigurableEnvironment environment,
+			SecretsConfigProperties.NormalizedSource normalizedSource, String configurationTarget,
+			ConfigResourceCache cache) {
+		return getPropertySource(environment, normalizedSource, configurationTarget);
+	}
+
 	protected void putPathConfig(CompositePropertySource composite) {
 
 		this.properties.getPaths().stream().map(Paths::get).filter(Files::exists).flatMap(x -> {
@@ -51,6 +51,45 @@ public class KubernetesDiscoveryProperties {
 	 **/
 	private long cacheLoadingTimeoutSeconds = 60;
 
+	/**
+	 * If the discovery cache should be loaded in the background instead of holding up the
+	 * application startup. Lookups arriving before it is loaded wait for it, or are
+	 * served by the Kubernetes API server when the client can do so.
+	 */
+	private boolean loadCacheInBackground = false;
+
+	/**
+	 * If the informers of the Kubernetes Java Client implementation should only cache the
+	 * fields of Services and Endpoints that discovery reads. Managed fields and the
+	 * configuration last applied by kubectl are never cached.
+	 */
+	private boolean slimInformerCache = false;
+
+	/**
+	 * If the Fabric8 discovery client should serve lookups from shared informer caches
+	 * instead of querying the Kubernetes API server on every call. The Kubernetes Java
+	 * Client implementation always uses informers.
+	 */
+	private boolean informerEnabled = false;
+
+	/**
+	 * If the Fabric8 catalog watch should watch Endpoints and publish changes as they
+	 * happen instead of listing all Endpoints on every scheduled run.
+	 */
+	private boolean catalogServicesWatchEventBased = false;
+
+	/**
+	 * If service instances should be read from EndpointSlices (discovery.k8s.io/v1beta1)
+	 * instead of Endpoints. Only supported by the Kubernetes Java Client implementation.
+	 */
+	private boolean useEndpointSlices = false;
+
+	/**
+	 * Namespaces to discover services in instead of the namespace of the client. Ignored
+	 * when allNamespaces is set. The informers of the namespaces are started in parallel.
+	 */
+	private Set<String> namespaces = new HashSet<>();
+
 	/**
 	 * If endpoint addresses not marked 'ready' by the k8s api server should be
 	 * discovered.
@@ -63,6 +102,19 @@ public class KubernetesDiscoveryProperties {
 	 */
 	private String filter;
 
+	/**
+	 * Label selector, e.g. 'app=store,tier!=db,canary,!legacy', to filter services AFTER
+	 * they have been retrieved from the Kubernetes API server.
+	 */
+	private String labelFilter;
+
+	/**
+	 * Label selector, e.g. 'spring-boot=true', matched against the annotations of the
+	 * services to filter them AFTER they have been retrieved from the Kubernetes API
+	 * server.
+	 */
+	private String annotationFilter;
+
 	/** Set the port numbers that are considered secure and use HTTPS. */
 	private Set<Integer> knownSecurePorts = new HashSet<Integer>() {
 		{
@@ -77,6 +129,15 @@ public class KubernetesDiscoveryProperties {
 	 */
 	private Map<String, String> serviceLabels = new HashMap<>();
 
+	/**
+	 * Field selector on Services, e.g. 'metadata.name!=kubernetes', sent to the
+	 * Kubernetes API server by the informers of the Kubernetes Java Client
+	 * implementation, so that only the matching Services are listed and watched. Its
+	 * terms on metadata.name also select the Endpoints, and the EndpointSlices through
+	 * their kubernetes.io/service-name label.
+	 */
+	private String serviceFieldSelector;
+
 	/**
 	 * If set then the port with a given name is used as primary when multiple ports are
 	 * defined for a service.
@@ -111,6 +172,22 @@ public class KubernetesDiscoveryProperties {
 		this.filter = filter;
 	}
 
+	public String getLabelFilter() {
+		return this.labelFilter;
+	}
+
+	public void setLabelFilter(String labelFilter) {
+		this.labelFilter = labelFilter;
+	}
+
+	public String getAnnotationFilter() {
+		return this.annotationFilter;
+	}
+
+	public void setAnnotationFilter(String annotationFilter) {
+		this.annotationFilter = annotationFilter;
+	}
+
 	public Set<Integer> getKnownSecurePorts() {
 		return this.knownSecurePorts;
 	}
@@ -119,6 +196,14 @@ public class KubernetesDiscoveryProperties {
 		this.knownSecurePorts = knownSecurePorts;
 	}
 
+	public String getServiceFieldSelector() {
+		return serviceFieldSelector;
+	}
+
+	public void setServiceFieldSelector(String serviceFieldSelector) {
+		this.serviceFieldSelector = serviceFieldSelector;
+	}
+
 	public Map<String, String> getServiceLabels() {
 		return this.serviceLabels;
 	}
@@ -183,10 +268,60 @@ public class KubernetesDiscoveryProperties {
 		this.cacheLoadingTimeoutSeconds = cacheLoadingTimeoutSeconds;
 	}
 
+	public boolean isLoadCacheInBackground() {
+		return loadCacheInBackground;
+	}
+
+	public void setLoadCacheInBackground(boolean loadCacheInBackground) {
+		this.loadCacheInBackground = loadCacheInBackground;
+	}
+
+	public boolean isSlimInformerCache() {
+		return slimInformerCache;
+	}
+
+	public void setSlimInformerCache(boolean slimInformerCache) {
+		this.slimInformerCache = slimInformerCache;
+	}
+
+	public boolean isInformerEnabled() {
+		return informerEnabled;
+	}
+
+	public void setInformerEnabled(boolean informerEnabled) {
+		this.informerEnabled = informerEnabled;
+	}
+
+	public boolean isCatalogServicesWatchEventBased() {
+		return catalogServicesWatchEventBased;
+	}
+
+	public void setCatalogServicesWatchEventBased(boolean catalogServicesWatchEventBased) {
+		this.catalogServicesWatchEventBased = catalogServicesWatchEventBased;
+	}
+
+	public boolean isUseEndpointSlices() {
+		return useEndpointSlices;
+	}
+
+	public void setUseEndpointSlices(boolean useEndpointSlices) {
+		this.useEndpointSlices = useEndpointSlices;
+	}
+
+	public Set<String> getNamespaces() {
+		return namespaces;
+	}
+
+	public void setNamespaces(Set<String> namespaces) {
+		this.namespaces = namespaces;
+	}
+
 	@Override
 	public String toString() {
 		return new ToStringCreator(this).append("enabled", this.enabled).append("serviceName", this.serviceName)
-				.append("filter", this.filter).append("knownSecurePorts", this.knownSecurePorts)
+				.append("allNamespaces", this.allNamespaces).append("namespaces", this.namespaces)
+				.append("filter", this.filter).append("labelFilter", this.labelFilter)
+				.append("annotationFilter", this.annotationFilter).append("knownSecurePorts", this.knownSecurePorts)
 				.append("serviceLabels", this.serviceLabels).append("metadata", this.metadata).toString();
 	}
 
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.discovery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.util.StringUtils;
+
+/**
+ * Filters services AFTER they have been retrieved from the Kubernetes API server, based
+ * on {@link KubernetesDiscoveryProperties#getFilter()},
+ * {@link KubernetesDiscoveryProperties#getLabelFilter()} and
+ * {@link KubernetesDiscoveryProperties#getAnnotationFilter()}.
+ * <p>
+ * The filters are parsed once and only parsed again when one of the properties changes.
+ * The SpEL expression is compiled to byte code once it has been evaluated often enough,
+ * falling back to interpretation for services it can not be compiled for. The label and
+ * annotation filters use the equality based Kubernetes label selector syntax, e.g.
+ * {@code app=store,tier!=db,canary,!legacy}, and are matched without reflection.
+ *
+ * @param <T> the type of the services
+ */
+public class KubernetesServiceFilter<T> {
+
+	private final KubernetesDiscoveryProperties properties;
+
+	private final Function<T, Map<String, String>> labels;
+
+	private final Function<T, Map<String, String>> annotations;
+
+	private final SpelExpressionParser parser;
+
+	private final SimpleEvaluationContext evalCtxt = SimpleEvaluationContext.forReadOnlyDataBinding()
+			.withInstanceMethods().build();
+
+	private volatile ParsedFilter<T> parsedFilter;
+
+	/**
+	 * @param serviceType the type of the services, its class loader is used for the
+	 * compiled SpEL expression
+	 * @param properties the discovery properties holding the filters
+	 * @param labels returns the labels of a service, may return null
+	 * @param annotations returns the annotations of a service, may return null
+	 */
+	public KubernetesServiceFilter(Class<T> serviceType, KubernetesDiscoveryProperties properties,
+			Function<T, Map<String, String>> labels, Function<T, Map<String, String>> annotations) {
+		this.properties = properties;
+		this.labels = labels;
+		this.annotations = annotations;
+		this.parser = new SpelExpressionParser(
+				new SpelParserConfiguration(SpelCompilerMode.MIXED, serviceType.getClassLoader()));
+	}
+
+	/**
+	 * Returns the predicate for the current value of the filter properties. Services it
+	 * returns false for must not be discovered.
+	 * @return the predicate, the same instance as long as the properties do not change
+	 */
+	public Predicate<T> predicate() {
+		String filter = this.properties.getFilter();
+		String labelFilter = this.properties.getLabelFilter();
+		String annotationFilter = this.properties.getAnnotationFilter();
+
+		ParsedFilter<T> current = this.parsedFilter;
+		if (current == null || !current.isFor(filter, labelFilter, annotationFilter)) {
+			current = new ParsedFilter<>(filter, labelFilter, annotationFilter,
+					parse(filter, labelFilter, annotationFilter));
+			this.parsedFilter = current;
+		}
+		return current.predicate;
+	}
+
+	private Predicate<T> parse(String filter, String labelFilter, String annotationFilter) {
+		Predicate<T> predicate = service -> true;
+		if (StringUtils.hasText(filter)) {
+			Expression filterExpr = this.parser.parseExpression(filter);
+			predicate = service -> {
+				Boolean include = filterExpr.getValue(this.evalCtxt, service, Boolean.class);
+				return include != null && include;
+			};
+		}
+		if (StringUtils.hasText(labelFilter)) {
+			predicate = predicate.and(selectorPredicate(labelFilter, this.labels));
+		}
+		if (StringUtils.hasText(annotationFilter)) {
+			predicate = predicate.and(selectorPredicate(annotationFilter, this.annotations));
+		}
+		return predicate;
+	}
+
+	private static <T> Predicate<T> selectorPredicate(String selector, Function<T, Map<String, String>> values) {
+		List<Predicate<Map<String, String>>> requirements = new ArrayList<>();
+		for (String term : selector.split(",")) {
+			if (StringUtils.hasText(term)) {
+				requirements.add(requirement(term.trim()));
+			}
+		}
+		return service -> {
+			Map<String, String> map = values.apply(service);
+			Map<String, String> serviceValues = map == null ? Collections.emptyMap() : map;
+			for (Predicate<Map<String, String>> requirement : requirements) {
+				if (!requirement.test(serviceValues)) {
+					return false;
+				}
+			}
+			return true;
+		};
+	}
+
+	private static Predicate<Map<String, String>> requirement(String requirement) {
+		int notEquals = requirement.indexOf("!=");
+		if (notEquals > 0) {
+			String key = requirement.substring(0, notEquals).trim();
+			String value = requirement.substring(notEquals + 2).trim();
+			return values -> !value.equals(values.get(key));
+		}
+		int equals = requirement.indexOf('=');
+		if (equals > 0) {
+			String key = requirement.substring(0, equals).trim();
+			String value = requirement.substring(requirement.startsWith("==", equals) ? equals + 2 : equals + 1).trim();
+			return values -> value.equals(values.get(key));
+		}
+		if (requirement.startsWith("!")) {
+			String key = requirement.substring(1).trim();
+			return values -> !values.containsKey(key);
+		}
+		return values -> values.containsKey(requirement);
+	}
+
+	private static final class ParsedFilter<T> {
+
+		private final String filter;
+
+		private final String labelFilter;
+
+		private final String annotationFilter;
+
+		private final Predicate<T> predicate;
+
+		private ParsedFilter(String filter, String labelFilter, String annotationFilter, Predicate<T> predicate) {
+			this.filter = filter;
+			this.labelFilter = labelFilter;
+			this.annotationFilter = annotationFilter;
+			this.predicate = predicate;
+		}
+
+		private boolean isFor(String filter, String labelFilter, String annotationFilter) {
+			return Objects.equals(this.filter, filter) && Objects.equals(this.labelFilter, labelFilter)
+					&& Objects.equals(this.annotationFilter, annotationFilter);
+		}
+
+	}
+
+}
@@ -29,6 +29,18 @@ public class KubernetesServiceInstance implements ServiceInstance {
 	 */
 	public static final String NAMESPACE_METADATA_KEY = "k8s_namespace";
 
+	/**
+	 * Key of the metadata holding the zone of the node running the instance, the
+	 * well-known label of the node.
+	 */
+	public static final String ZONE_METADATA_KEY = "topology.kubernetes.io/zone";
+
+	/**
+	 * Key of the metadata holding the node running the instance, the well-known label of
+	 * the node.
+	 */
+	public static final String NODE_METADATA_KEY = "kubernetes.io/hostname";
+
 	private static final String HTTP_PREFIX = "http";
 
 	private static final String HTTPS_PREFIX = "https";
@@ -117,6 +129,14 @@ public class KubernetesServiceInstance implements ServiceInstance {
 		return this.metadata != null ? this.metadata.get(NAMESPACE_METADATA_KEY) : null;
 	}
 
+	public String getZone() {
+		return this.metadata != null ? this.metadata.get(ZONE_METADATA_KEY) : null;
+	}
+
+	public String getNode() {
+		return this.metadata != null ? this.metadata.get(NODE_METADATA_KEY) : null;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
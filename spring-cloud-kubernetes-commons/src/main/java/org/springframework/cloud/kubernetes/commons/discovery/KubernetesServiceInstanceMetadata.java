@@ -0,0 +1,198 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.discovery;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Utility class to build the metadata of {@link KubernetesServiceInstance}s so that the
+ * instances of a service share their metadata instead of each holding a copy of it.
+ * <p>
+ * The maps returned are immutable. Equal shared maps are interned, so they are also
+ * shared between successive lookups of a service as long as its labels and annotations do
+ * not change. Per instance values, such as ports or topology, are kept in a small overlay
+ * on top of the shared map.
+ */
+public final class KubernetesServiceInstanceMetadata {
+
+	/**
+	 * Interned maps, softly referenced so they are dropped when memory runs low.
+	 */
+	private static final Map<Map<String, String>, Map<String, String>> INTERNED = new ConcurrentReferenceHashMap<>();
+
+	private KubernetesServiceInstanceMetadata() {
+		throw new IllegalStateException("Can't instantiate a utility class");
+	}
+
+	/**
+	 * Returns an immutable map equal to the given one, the same instance for equal maps.
+	 * @param metadata the metadata to share, is not modified
+	 * @return the shared metadata
+	 */
+	public static Map<String, String> shared(Map<String, String> metadata) {
+		if (metadata == null || metadata.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		if (metadata instanceof OverlayMap) {
+			return metadata;
+		}
+		Map<String, String> interned = INTERNED.get(metadata);
+		if (interned == null) {
+			Map<String, String> copy = Collections.unmodifiableMap(new HashMap<>(metadata));
+			interned = INTERNED.putIfAbsent(copy, copy);
+			if (interned == null) {
+				interned = copy;
+			}
+		}
+		return interned;
+	}
+
+	/**
+	 * Returns an immutable map holding the entries of the shared metadata and the
+	 * overlay, with the overlay taking precedence. The shared metadata is referenced, not
+	 * copied.
+	 * @param shared metadata shared between instances, as returned by
+	 * {@link #shared(Map)} or this method
+	 * @param overlay instance specific metadata, is not modified
+	 * @return the combined metadata
+	 */
+	public static Map<String, String> overlay(Map<String, String> shared, Map<String, String> overlay) {
+		if (overlay == null || overlay.isEmpty()) {
+			return shared(shared);
+		}
+		if (shared instanceof OverlayMap) {
+			// keep a single level so lookups stay cheap
+			OverlayMap nested = (OverlayMap) shared;
+			Map<String, String> merged = new HashMap<>(nested.overlay);
+			merged.putAll(overlay);
+			return new OverlayMap(nested.shared, shared(merged));
+		}
+		return new OverlayMap(shared(shared), shared(overlay));
+	}
+
+	private static final class OverlayMap extends AbstractMap<String, String> {
+
+		private final Map<String, String> shared;
+
+		private final Map<String, String> overlay;
+
+		private final int size;
+
+		private Set<Entry<String, String>> entrySet;
+
+		private OverlayMap(Map<String, String> shared, Map<String, String> overlay) {
+			this.shared = shared;
+			this.overlay = overlay;
+			int hidden = 0;
+			for (String key : overlay.keySet()) {
+				if (shared.containsKey(key)) {
+					hidden++;
+				}
+			}
+			this.size = shared.size() + overlay.size() - hidden;
+		}
+
+		@Override
+		public String get(Object key) {
+			String value = this.overlay.get(key);
+			return value != null || this.overlay.containsKey(key) ? value : this.shared.get(key);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return this.overlay.containsKey(key) || this.shared.containsKey(key);
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+		@Override
+		public Set<Entry<String, String>> entrySet() {
+			if (this.entrySet == null) {
+				this.entrySet = new AbstractSet<Entry<String, String>>() {
+
+					@Override
+					public Iterator<Entry<String, String>> iterator() {
+						return new OverlayIterator();
+					}
+
+					@Override
+					public int size() {
+						return OverlayMap.this.size;
+					}
+
+				};
+			}
+			return this.entrySet;
+		}
+
+		/**
+		 * Iterates the overlay, then the shared entries not hidden by the overlay.
+		 */
+		private final class OverlayIterator implements Iterator<Entry<String, String>> {
+
+			private final Iterator<Entry<String, String>> overlayEntries = overlay.entrySet().iterator();
+
+			private final Iterator<Entry<String, String>> sharedEntries = shared.entrySet().iterator();
+
+			private Entry<String, String> next;
+
+			@Override
+			public boolean hasNext() {
+				if (this.next != null) {
+					return true;
+				}
+				if (this.overlayEntries.hasNext()) {
+					this.next = this.overlayEntries.next();
+					return true;
+				}
+				while (this.sharedEntries.hasNext()) {
+					Entry<String, String> candidate = this.sharedEntries.next();
+					if (!overlay.containsKey(candidate.getKey())) {
+						this.next = candidate;
+						return true;
+					}
+				}
+				return false;
+			}
+
+			@Override
+			public Entry<String, String> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				Entry<String, String> result = this.next;
+				this.next = null;
+				return result;
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.boot.autoconfigure.condition.AllNestedConditions;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Conditional;
+
+/**
+ * Matches in POD mode when the instances are watched, or when the zone preference or the
+ * outlier detection is enabled. Otherwise the {@code ServiceInstanceListSupplier} of the
+ * load balancer is left to Spring Cloud LoadBalancer, along with its
+ * {@code spring.cloud.loadbalancer.configurations}.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Conditional(ConditionalOnKubernetesPodsListSupplier.OnKubernetesPodsListSupplier.class)
+public @interface ConditionalOnKubernetesPodsListSupplier {
+
+	/**
+	 * POD mode and at least one of the features of the supplier.
+	 */
+	class OnKubernetesPodsListSupplier extends AllNestedConditions {
+
+		OnKubernetesPodsListSupplier() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.mode", havingValue = "POD",
+				matchIfMissing = true)
+		static class PodMode {
+
+		}
+
+		@Conditional(AnyFeature.class)
+		static class Feature {
+
+		}
+
+	}
+
+	/**
+	 * At least one of the features of the supplier is enabled.
+	 */
+	class AnyFeature extends AnyNestedCondition {
+
+		AnyFeature() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.watch-instances", havingValue = "true")
+		static class WatchInstances {
+
+		}
+
+		@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.zone-preference.enabled",
+				havingValue = "true")
+		static class ZonePreference {
+
+		}
+
+		@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.outlier-detection.enabled",
+				havingValue = "true")
+		static class OutlierDetection {
+
+		}
+
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+import org.springframework.core.env.Environment;
+
+/**
+ * {@link KubernetesServicesListSupplier} keeping the instances of the service in memory,
+ * maintained by an informer watching the service. The informer is started on the first
+ * call to {@link #get()}, away from the calling thread, and a new list of instances is
+ * only emitted when the service changes. Load balancing a request then neither calls the
+ * API server nor blocks.
+ * <p>
+ * Subscribers receive the latest list of instances as soon as the informer has synced, or
+ * an empty list if it has not synced within
+ * {@link KubernetesDiscoveryProperties#getCacheLoadingTimeoutSeconds()}.
+ */
+public abstract class KubernetesInformerServicesListSupplier extends KubernetesServicesListSupplier
+		implements DisposableBean {
+
+	private static final Log LOG = LogFactory.getLog(KubernetesInformerServicesListSupplier.class);
+
+	private final Sinks.Many<List<ServiceInstance>> instances = Sinks.many().replay().latest();
+
+	private final AtomicBoolean started = new AtomicBoolean();
+
+	private final Object lifecycleMonitor = new Object();
+
+	private volatile boolean ready;
+
+	private volatile boolean destroyed;
+
+	private List<ServiceInstance> emitted;
+
+	public KubernetesInformerServicesListSupplier(Environment environment, KubernetesServiceInstanceMapper mapper,
+			KubernetesDiscoveryProperties discoveryProperties) {
+		super(environment, mapper, discoveryProperties);
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		if (this.started.compareAndSet(false, true)) {
+			Schedulers.boundedElastic().schedule(this::start);
+		}
+		return this.instances.asFlux();
+	}
+
+	private void start() {
+		try {
+			synchronized (this.lifecycleMonitor) {
+				if (this.destroyed) {
+					return;
+				}
+				startInformer();
+			}
+			long deadline = System.nanoTime()
+					+ TimeUnit.SECONDS.toNanos(this.discoveryProperties.getCacheLoadingTimeoutSeconds());
+			while (!hasSynced() && System.nanoTime() < deadline) {
+				TimeUnit.MILLISECONDS.sleep(100);
+			}
+			if (!hasSynced()) {
+				LOG.warn("Timeout waiting for the informer of service " + getServiceId()
+						+ " to sync, no instances until it does");
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException e) {
+			LOG.warn("Error starting the informer of service " + getServiceId(), e);
+		}
+		this.ready = true;
+		refresh();
+	}
+
+	/**
+	 * Emits the instances of the service if they changed since they were last emitted.
+	 * Called by the informer on every event, events received before the informer has
+	 * synced are ignored.
+	 */
+	protected synchronized void refresh() {
+		if (!this.ready) {
+			return;
+		}
+		List<ServiceInstance> current = Collections.unmodifiableList(new ArrayList<>(instances()));
+		if (current.equals(this.emitted)) {
+			return;
+		}
+		this.emitted = current;
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Instances of service " + getServiceId() + " changed to " + current);
+		}
+		this.instances.tryEmitNext(current);
+	}
+
+	@Override
+	public void destroy() {
+		synchronized (this.lifecycleMonitor) {
+			this.destroyed = true;
+			if (this.started.get()) {
+				stopInformer();
+			}
+		}
+		this.instances.tryEmitComplete();
+	}
+
+	/**
+	 * Starts the informer watching the service, it has to call {@link #refresh()} when it
+	 * receives an event. It must not wait for the informer to sync.
+	 */
+	protected abstract void startInformer();
+
+	/**
+	 * @return true once the informer has listed the service
+	 */
+	protected abstract boolean hasSynced();
+
+	/**
+	 * @return the instances of the service currently held by the informer
+	 */
+	protected abstract List<ServiceInstance> instances();
+
+	/**
+	 * Stops the informer, if {@link #startInformer()} has been called.
+	 */
+	protected abstract void stopInformer();
+
+}
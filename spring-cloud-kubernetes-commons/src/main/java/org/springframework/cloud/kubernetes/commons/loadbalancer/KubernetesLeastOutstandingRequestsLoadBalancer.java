@@ -0,0 +1,108 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * Load balancer sending each request to the instance with the fewest requests in flight
+ * out of two instances picked at random, so slower instances, for example pods with lower
+ * CPU limits, receive fewer requests than with round-robin.
+ * <p>
+ * Requests in flight are counted per instance by the {@link LoadBalancerLifecycle}
+ * callbacks of the load balanced clients, in lock-free counters. Counters of instances
+ * that are no longer listed are dropped when the list of instances changes.
+ */
+public class KubernetesLeastOutstandingRequestsLoadBalancer extends KubernetesServiceInstanceLoadBalancer
+		implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+	private final Map<String, AtomicInteger> outstandingRequests = new ConcurrentHashMap<>();
+
+	private volatile List<ServiceInstance> lastInstances;
+
+	public KubernetesLeastOutstandingRequestsLoadBalancer(
+			ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider, String serviceId) {
+		super(serviceInstanceListSupplierProvider, serviceId);
+	}
+
+	@Override
+	protected ServiceInstance choose(List<ServiceInstance> instances) {
+		if (instances != this.lastInstances) {
+			this.lastInstances = instances;
+			Set<String> keys = instances.stream().map(KubernetesServiceInstanceLoadBalancer::key)
+					.collect(Collectors.toSet());
+			this.outstandingRequests.keySet().retainAll(keys);
+		}
+		if (instances.size() == 1) {
+			return instances.get(0);
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int first = random.nextInt(instances.size());
+		int second = random.nextInt(instances.size() - 1);
+		if (second >= first) {
+			second++;
+		}
+		ServiceInstance a = instances.get(first);
+		ServiceInstance b = instances.get(second);
+		return outstandingRequests(b) < outstandingRequests(a) ? b : a;
+	}
+
+	@Override
+	public void onStart(Request<Object> request) {
+	}
+
+	@Override
+	public void onStartRequest(Request<Object> request, Response<ServiceInstance> response) {
+		if (response != null && response.hasServer()) {
+			this.outstandingRequests.computeIfAbsent(key(response.getServer()), key -> new AtomicInteger())
+					.incrementAndGet();
+		}
+	}
+
+	@Override
+	public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		Response<ServiceInstance> response = completionContext.getLoadBalancerResponse();
+		if (response == null || !response.hasServer()
+				|| completionContext.status() == CompletionContext.Status.DISCARD) {
+			return;
+		}
+		AtomicInteger counter = this.outstandingRequests.get(key(response.getServer()));
+		if (counter != null) {
+			counter.updateAndGet(count -> count > 0 ? count - 1 : 0);
+		}
+	}
+
+	int outstandingRequests(ServiceInstance instance) {
+		AtomicInteger counter = this.outstandingRequests.get(key(instance));
+		return counter != null ? counter.get() : 0;
+	}
+
+}
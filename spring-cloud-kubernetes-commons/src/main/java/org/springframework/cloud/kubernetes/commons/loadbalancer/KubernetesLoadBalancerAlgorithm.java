@@ -0,0 +1,38 @@
+/*
+ * Copyright 2013-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+/**
+ * Kubernetes load balancer algorithm enum.
+ */
+public enum KubernetesLoadBalancerAlgorithm {
+
+	/**
+	 * round-robin over the instances, the Spring Cloud LoadBalancer default.
+	 */
+	ROUND_ROBIN,
+	/**
+	 * instance with the fewest requests in flight out of two picked at random.
+	 */
+	LEAST_OUTSTANDING_REQUESTS,
+	/**
+	 * random instance, weighted by the weight annotation of its pod or the weight in its
+	 * metadata.
+	 */
+	WEIGHTED
+
+}
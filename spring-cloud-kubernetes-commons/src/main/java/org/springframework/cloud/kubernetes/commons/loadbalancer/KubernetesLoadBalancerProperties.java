@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.kubernetes.commons.loadbalancer;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -47,6 +49,43 @@ public class KubernetesLoadBalancerProperties {
 	 */
 	private String portName = "http";
 
+	/**
+	 * If a Service with several ports, none of them preferred, is mapped to one instance
+	 * per port, each with the name of its port in the k8s_port_name metadata. default
+	 * false, such a Service is then not load balanced to.
+	 */
+	private boolean expandPorts = false;
+
+	/**
+	 * If, in POD mode with the reactive discovery client, the instances are pushed to the
+	 * load balancer by a watch on the Endpoints of the service instead of being polled.
+	 * default false, since the watch requires the permission to watch Endpoints.
+	 */
+	private boolean watchInstances = false;
+
+	/**
+	 * Preference for the instances running in the zone, or on the node, of the
+	 * application, in POD mode.
+	 */
+	private ZonePreference zonePreference = new ZonePreference();
+
+	/**
+	 * {@link KubernetesLoadBalancerAlgorithm} choosing the instance a request is sent to.
+	 * default value is ROUND_ROBIN.
+	 */
+	private KubernetesLoadBalancerAlgorithm algorithm = KubernetesLoadBalancerAlgorithm.ROUND_ROBIN;
+
+	/**
+	 * Pod annotation, or else metadata key, holding the weight of an instance, for the
+	 * WEIGHTED algorithm. Instances without a valid weight have a weight of 1.
+	 */
+	private String weightMetadataKey = "weight";
+
+	/**
+	 * Ejection of the instances failing requests, in POD mode.
+	 */
+	private OutlierDetection outlierDetection = new OutlierDetection();
+
 	/**
 	 * Get cluster domain.
 	 * @return the cluster domain
@@ -111,4 +150,394 @@ public class KubernetesLoadBalancerProperties {
 		this.portName = portName;
 	}
 
+	/**
+	 * Gets expandPorts.
+	 * @return the expand ports
+	 */
+	public boolean isExpandPorts() {
+		return expandPorts;
+	}
+
+	/**
+	 * Sets expandPorts.
+	 * @param expandPorts the expand ports
+	 */
+	public void setExpandPorts(boolean expandPorts) {
+		this.expandPorts = expandPorts;
+	}
+
+	/**
+	 * Gets watchInstances.
+	 * @return the watch instances
+	 */
+	public boolean isWatchInstances() {
+		return watchInstances;
+	}
+
+	/**
+	 * Sets watchInstances.
+	 * @param watchInstances the watch instances
+	 */
+	public void setWatchInstances(boolean watchInstances) {
+		this.watchInstances = watchInstances;
+	}
+
+	/**
+	 * Gets zonePreference.
+	 * @return the zone preference
+	 */
+	public ZonePreference getZonePreference() {
+		return zonePreference;
+	}
+
+	/**
+	 * Sets zonePreference.
+	 * @param zonePreference the zone preference
+	 */
+	public void setZonePreference(ZonePreference zonePreference) {
+		this.zonePreference = zonePreference;
+	}
+
+	/**
+	 * Gets algorithm.
+	 * @return the algorithm
+	 */
+	public KubernetesLoadBalancerAlgorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * Sets algorithm.
+	 * @param algorithm the algorithm
+	 */
+	public void setAlgorithm(KubernetesLoadBalancerAlgorithm algorithm) {
+		this.algorithm = algorithm;
+	}
+
+	/**
+	 * Gets weightMetadataKey.
+	 * @return the weight metadata key
+	 */
+	public String getWeightMetadataKey() {
+		return weightMetadataKey;
+	}
+
+	/**
+	 * Sets weightMetadataKey.
+	 * @param weightMetadataKey the weight metadata key
+	 */
+	public void setWeightMetadataKey(String weightMetadataKey) {
+		this.weightMetadataKey = weightMetadataKey;
+	}
+
+	/**
+	 * Gets outlierDetection.
+	 * @return the outlier detection
+	 */
+	public OutlierDetection getOutlierDetection() {
+		return outlierDetection;
+	}
+
+	/**
+	 * Sets outlierDetection.
+	 * @param outlierDetection the outlier detection
+	 */
+	public void setOutlierDetection(OutlierDetection outlierDetection) {
+		this.outlierDetection = outlierDetection;
+	}
+
+	/**
+	 * Zone preference properties.
+	 */
+	public static class ZonePreference {
+
+		/**
+		 * If requests should preferably go to the instances in the zone of the
+		 * application, default false.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Zone of the application. When not set, it is read from the zone label of the
+		 * node running the pod of the application.
+		 */
+		private String zone;
+
+		/**
+		 * If requests should preferably go to the instances on the node of the
+		 * application, before those in its zone.
+		 */
+		private boolean preferSameNode = false;
+
+		/**
+		 * Minimum number of instances on the node, or in the zone, of the application for
+		 * the requests to stay there. Below it, requests spill over to the zone, or to
+		 * all instances.
+		 */
+		private int minInstances = 1;
+
+		/**
+		 * Minimum fraction of all instances that have to be on the node, or in the zone,
+		 * of the application for the requests to stay there.
+		 */
+		private double minRatio = 0;
+
+		/**
+		 * Gets enabled.
+		 * @return the enabled
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Sets enabled.
+		 * @param enabled the enabled
+		 */
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Gets zone.
+		 * @return the zone
+		 */
+		public String getZone() {
+			return zone;
+		}
+
+		/**
+		 * Sets zone.
+		 * @param zone the zone
+		 */
+		public void setZone(String zone) {
+			this.zone = zone;
+		}
+
+		/**
+		 * Gets preferSameNode.
+		 * @return the prefer same node
+		 */
+		public boolean isPreferSameNode() {
+			return preferSameNode;
+		}
+
+		/**
+		 * Sets preferSameNode.
+		 * @param preferSameNode the prefer same node
+		 */
+		public void setPreferSameNode(boolean preferSameNode) {
+			this.preferSameNode = preferSameNode;
+		}
+
+		/**
+		 * Gets minInstances.
+		 * @return the min instances
+		 */
+		public int getMinInstances() {
+			return minInstances;
+		}
+
+		/**
+		 * Sets minInstances.
+		 * @param minInstances the min instances
+		 */
+		public void setMinInstances(int minInstances) {
+			this.minInstances = minInstances;
+		}
+
+		/**
+		 * Gets minRatio.
+		 * @return the min ratio
+		 */
+		public double getMinRatio() {
+			return minRatio;
+		}
+
+		/**
+		 * Sets minRatio.
+		 * @param minRatio the min ratio
+		 */
+		public void setMinRatio(double minRatio) {
+			this.minRatio = minRatio;
+		}
+
+	}
+
+	/**
+	 * Outlier detection properties.
+	 */
+	public static class OutlierDetection {
+
+		/**
+		 * If unhealthy instances should be ejected from load balancing, default false.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Number of consecutive failed requests to an instance ejecting it, 0 to disable.
+		 */
+		private int consecutiveFailures = 5;
+
+		/**
+		 * Fraction of failed requests to an instance, over the window, ejecting it.
+		 */
+		private double failureRateThreshold = 0.5;
+
+		/**
+		 * Minimum number of requests to an instance, over the window, before its failure
+		 * rate is considered.
+		 */
+		private int minimumRequests = 10;
+
+		/**
+		 * Sliding window over which the failure rate of an instance is computed.
+		 */
+		private Duration window = Duration.ofSeconds(10);
+
+		/**
+		 * Duration above which a request counts as failed, not set by default.
+		 */
+		private Duration slowCallDuration;
+
+		/**
+		 * How long an ejected instance receives no requests.
+		 */
+		private Duration ejectionTime = Duration.ofSeconds(30);
+
+		/**
+		 * Maximum percentage of the instances of a service ejected at the same time.
+		 */
+		private int maxEjectionPercent = 50;
+
+		/**
+		 * Gets enabled.
+		 * @return the enabled
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Sets enabled.
+		 * @param enabled the enabled
+		 */
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Gets consecutiveFailures.
+		 * @return the consecutive failures
+		 */
+		public int getConsecutiveFailures() {
+			return consecutiveFailures;
+		}
+
+		/**
+		 * Sets consecutiveFailures.
+		 * @param consecutiveFailures the consecutive failures
+		 */
+		public void setConsecutiveFailures(int consecutiveFailures) {
+			this.consecutiveFailures = consecutiveFailures;
+		}
+
+		/**
+		 * Gets failureRateThreshold.
+		 * @return the failure rate threshold
+		 */
+		public double getFailureRateThreshold() {
+			return failureRateThreshold;
+		}
+
+		/**
+		 * Sets failureRateThreshold.
+		 * @param failureRateThreshold the failure rate threshold
+		 */
+		public void setFailureRateThreshold(double failureRateThreshold) {
+			this.failureRateThreshold = failureRateThreshold;
+		}
+
+		/**
+		 * Gets minimumRequests.
+		 * @return the minimum requests
+		 */
+		public int getMinimumRequests() {
+			return minimumRequests;
+		}
+
+		/**
+		 * Sets minimumRequests.
+		 * @param minimumRequests the minimum requests
+		 */
+		public void setMinimumRequests(int minimumRequests) {
+			this.minimumRequests = minimumRequests;
+		}
+
+		/**
+		 * Gets window.
+		 * @return the window
+		 */
+		public Duration getWindow() {
+			return window;
+		}
+
+		/**
+		 * Sets window.
+		 * @param window the window
+		 */
+		public void setWindow(Duration window) {
+			this.window = window;
+		}
+
+		/**
+		 * Gets slowCallDuration.
+		 * @return the slow call duration
+		 */
+		public Duration getSlowCallDuration() {
+			return slowCallDuration;
+		}
+
+		/**
+		 * Sets slowCallDuration.
+		 * @param slowCallDuration the slow call duration
+		 */
+		public void setSlowCallDuration(Duration slowCallDuration) {
+			this.slowCallDuration = slowCallDuration;
+		}
+
+		/**
+		 * Gets ejectionTime.
+		 * @return the ejection time
+		 */
+		public Duration getEjectionTime() {
+			return ejectionTime;
+		}
+
+		/**
+		 * Sets ejectionTime.
+		 * @param ejectionTime the ejection time
+		 */
+		public void setEjectionTime(Duration ejectionTime) {
+			this.ejectionTime = ejectionTime;
+		}
+
+		/**
+		 * Gets maxEjectionPercent.
+		 * @return the max ejection percent
+		 */
+		public int getMaxEjectionPercent() {
+			return maxEjectionPercent;
+		}
+
+		/**
+		 * Sets maxEjectionPercent.
+		 * @param maxEjectionPercent the max ejection percent
+		 */
+		public void setMaxEjectionPercent(int maxEjectionPercent) {
+			this.maxEjectionPercent = maxEjectionPercent;
+		}
+
+	}
+
 }
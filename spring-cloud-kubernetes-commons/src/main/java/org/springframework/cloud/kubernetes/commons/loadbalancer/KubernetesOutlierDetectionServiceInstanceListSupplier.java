@@ -0,0 +1,48 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * {@link ServiceInstanceListSupplier} leaving out the instances ejected by a
+ * {@link KubernetesOutlierDetector}. Ejected instances are left out each time the
+ * instances are requested, so an instance is back in load balancing as soon as its
+ * ejection ends.
+ */
+public class KubernetesOutlierDetectionServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+	private final KubernetesOutlierDetector outlierDetector;
+
+	public KubernetesOutlierDetectionServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+			KubernetesOutlierDetector outlierDetector) {
+		super(delegate);
+		this.outlierDetector = outlierDetector;
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		return this.delegate.get().map(this.outlierDetector::filter);
+	}
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+
+/**
+ * Passive outlier detection for the instances of a service, ejecting from load balancing
+ * the instances failing requests before Kubernetes marks their pods as not ready.
+ * <p>
+ * The outcome of each request is reported by the {@link LoadBalancerLifecycle} callbacks
+ * of the load balanced clients. A request fails when it throws, when it gets a 5xx
+ * response, or when it is slower than
+ * {@link KubernetesLoadBalancerProperties.OutlierDetection#getSlowCallDuration()}. An
+ * instance is ejected after too many consecutive failures, or when its failure rate over
+ * a sliding window is too high. The window is a ring of buckets of lock-free counters, so
+ * the counts are approximate when a bucket is reset while requests complete.
+ */
+public class KubernetesOutlierDetector implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+	private static final Log LOG = LogFactory.getLog(KubernetesOutlierDetector.class);
+
+	private static final int BUCKETS = 10;
+
+	private final String serviceId;
+
+	private final KubernetesLoadBalancerProperties.OutlierDetection properties;
+
+	private final LongSupplier nanoClock;
+
+	private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+	private final AtomicLong ejections = new AtomicLong();
+
+	private volatile List<ServiceInstance> lastInstances;
+
+	/**
+	 * @param serviceId the id of the service
+	 * @param properties the outlier detection properties
+	 */
+	public KubernetesOutlierDetector(String serviceId, KubernetesLoadBalancerProperties.OutlierDetection properties) {
+		this(serviceId, properties, System::nanoTime);
+	}
+
+	KubernetesOutlierDetector(String serviceId, KubernetesLoadBalancerProperties.OutlierDetection properties,
+			LongSupplier nanoClock) {
+		this.serviceId = serviceId;
+		this.properties = properties;
+		this.nanoClock = nanoClock;
+	}
+
+	public String getServiceId() {
+		return this.serviceId;
+	}
+
+	/**
+	 * @return the number of ejections since the start of the application
+	 */
+	public long getEjections() {
+		return this.ejections.get();
+	}
+
+	/**
+	 * @return the number of instances currently ejected
+	 */
+	public int getEjectedInstances() {
+		long now = this.nanoClock.getAsLong();
+		return (int) this.stats.values().stream().filter(stats -> stats.isEjected(now)).count();
+	}
+
+	/**
+	 * @param instances the instances of the service
+	 * @return the instances that are not ejected, keeping ejected instances beyond the
+	 * maximum ejection percentage
+	 */
+	public List<ServiceInstance> filter(List<ServiceInstance> instances) {
+		if (instances != this.lastInstances) {
+			this.lastInstances = instances;
+			Set<String> keys = instances.stream().map(KubernetesOutlierDetector::key).collect(Collectors.toSet());
+			this.stats.keySet().retainAll(keys);
+		}
+		long now = this.nanoClock.getAsLong();
+		int maxEjected = instances.size() * this.properties.getMaxEjectionPercent() / 100;
+		List<ServiceInstance> result = null;
+		int ejected = 0;
+		for (int i = 0; i < instances.size(); i++) {
+			ServiceInstance instance = instances.get(i);
+			InstanceStats stats = this.stats.get(key(instance));
+			boolean eject = stats != null && stats.isEjected(now) && ejected < maxEjected;
+			if (eject && result == null) {
+				result = new ArrayList<>(instances.subList(0, i));
+			}
+			if (eject) {
+				ejected++;
+			}
+			else if (result != null) {
+				result.add(instance);
+			}
+		}
+		return result != null ? result : instances;
+	}
+
+	@Override
+	public void onStart(Request<Object> request) {
+	}
+
+	@Override
+	public void onStartRequest(Request<Object> request, Response<ServiceInstance> response) {
+		if (request != null && request.getContext() instanceof TimedRequestContext) {
+			TimedRequestContext context = (TimedRequestContext) request.getContext();
+			if (context.getRequestStartTime() == 0) {
+				context.setRequestStartTime(this.nanoClock.getAsLong());
+			}
+		}
+	}
+
+	@Override
+	public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		Response<ServiceInstance> response = completionContext.getLoadBalancerResponse();
+		if (response == null || !response.hasServer()
+				|| completionContext.status() == CompletionContext.Status.DISCARD) {
+			return;
+		}
+		ServiceInstance instance = response.getServer();
+		long now = this.nanoClock.getAsLong();
+		InstanceStats stats = this.stats.computeIfAbsent(key(instance), key -> new InstanceStats(now));
+		if (stats.record(isFailure(completionContext, now), now)) {
+			this.ejections.incrementAndGet();
+			LOG.warn("Ejecting instance " + instance.getHost() + ":" + instance.getPort() + " of service "
+					+ this.serviceId + " for " + this.properties.getEjectionTime());
+		}
+	}
+
+	private boolean isFailure(CompletionContext<Object, ServiceInstance, Object> completionContext, long now) {
+		if (completionContext.status() == CompletionContext.Status.FAILED) {
+			return true;
+		}
+		if (this.properties.getSlowCallDuration() != null) {
+			Request<Object> request = completionContext.getLoadBalancerRequest();
+			if (request != null && request.getContext() instanceof TimedRequestContext) {
+				long start = ((TimedRequestContext) request.getContext()).getRequestStartTime();
+				if (start != 0 && now - start > this.properties.getSlowCallDuration().toNanos()) {
+					return true;
+				}
+			}
+		}
+		Object clientResponse = completionContext.getClientResponse();
+		if (clientResponse instanceof ResponseData) {
+			ResponseData responseData = (ResponseData) clientResponse;
+			return responseData.getHttpStatus() != null && responseData.getHttpStatus().is5xxServerError();
+		}
+		return false;
+	}
+
+	private static String key(ServiceInstance instance) {
+		return instance.getInstanceId() != null ? instance.getInstanceId()
+				: instance.getHost() + ":" + instance.getPort();
+	}
+
+	private final class InstanceStats {
+
+		private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+		private final AtomicLongArray epochs = new AtomicLongArray(BUCKETS);
+
+		private final AtomicLongArray requests = new AtomicLongArray(BUCKETS);
+
+		private final AtomicLongArray failures = new AtomicLongArray(BUCKETS);
+
+		private final AtomicLong ejectedUntil;
+
+		private InstanceStats(long now) {
+			this.ejectedUntil = new AtomicLong(now);
+		}
+
+		private boolean isEjected(long now) {
+			return now - this.ejectedUntil.get() < 0;
+		}
+
+		/**
+		 * @return true if the instance got ejected by this outcome
+		 */
+		private boolean record(boolean failure, long now) {
+			long bucketNanos = Math.max(1, properties.getWindow().toNanos() / BUCKETS);
+			long epoch = now / bucketNanos;
+			int bucket = (int) Math.floorMod(epoch, (long) BUCKETS);
+			long bucketEpoch = this.epochs.get(bucket);
+			if (bucketEpoch != epoch && this.epochs.compareAndSet(bucket, bucketEpoch, epoch)) {
+				this.requests.set(bucket, 0);
+				this.failures.set(bucket, 0);
+			}
+			this.requests.incrementAndGet(bucket);
+			int consecutive;
+			if (failure) {
+				this.failures.incrementAndGet(bucket);
+				consecutive = this.consecutiveFailures.incrementAndGet();
+			}
+			else {
+				this.consecutiveFailures.set(0);
+				return false;
+			}
+			long until = this.ejectedUntil.get();
+			if (now - until < 0 || !shouldEject(consecutive, epoch)
+					|| !this.ejectedUntil.compareAndSet(until, now + properties.getEjectionTime().toNanos())) {
+				return false;
+			}
+			reset();
+			return true;
+		}
+
+		private boolean shouldEject(int consecutive, long epoch) {
+			if (properties.getConsecutiveFailures() > 0 && consecutive >= properties.getConsecutiveFailures()) {
+				return true;
+			}
+			long total = 0;
+			long failed = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				if (epoch - this.epochs.get(i) < BUCKETS) {
+					total += this.requests.get(i);
+					failed += this.failures.get(i);
+				}
+			}
+			return total >= properties.getMinimumRequests() && failed >= properties.getFailureRateThreshold() * total;
+		}
+
+		private void reset() {
+			this.consecutiveFailures.set(0);
+			for (int i = 0; i < BUCKETS; i++) {
+				this.requests.set(i, 0);
+				this.failures.set(i, 0);
+			}
+		}
+
+	}
+
+}
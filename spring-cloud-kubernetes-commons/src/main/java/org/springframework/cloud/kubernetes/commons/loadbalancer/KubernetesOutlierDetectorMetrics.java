@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.beans.factory.BeanFactory;
+
+/**
+ * Micrometer metrics of a {@link KubernetesOutlierDetector}: the
+ * {@code kubernetes.loadbalancer.ejections} counter of the ejections and the
+ * {@code kubernetes.loadbalancer.ejected.instances} gauge of the instances currently
+ * ejected, both tagged with the id of the service.
+ */
+public class KubernetesOutlierDetectorMetrics implements MeterBinder {
+
+	private final KubernetesOutlierDetector outlierDetector;
+
+	public KubernetesOutlierDetectorMetrics(KubernetesOutlierDetector outlierDetector) {
+		this.outlierDetector = outlierDetector;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter
+				.builder("kubernetes.loadbalancer.ejections", this.outlierDetector,
+						KubernetesOutlierDetector::getEjections)
+				.tag("serviceId", this.outlierDetector.getServiceId())
+				.description("Ejections of instances failing requests").register(registry);
+		Gauge.builder("kubernetes.loadbalancer.ejected.instances", this.outlierDetector,
+				KubernetesOutlierDetector::getEjectedInstances).tag("serviceId", this.outlierDetector.getServiceId())
+				.description("Instances currently ejected").register(registry);
+	}
+
+	/**
+	 * Binds the metrics of an outlier detector to the {@link MeterRegistry} of the
+	 * application, if there is one. Callers check that Micrometer is on the classpath.
+	 * @param outlierDetector the outlier detector
+	 * @param beanFactory the bean factory holding the registry
+	 */
+	public static void bind(KubernetesOutlierDetector outlierDetector, BeanFactory beanFactory) {
+		beanFactory.getBeanProvider(MeterRegistry.class)
+				.ifAvailable(registry -> new KubernetesOutlierDetectorMetrics(outlierDetector).bindTo(registry));
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.env.Environment;
+
+/**
+ * Implementation of {@link ServiceInstanceListSupplier} for load balancer in POD mode.
+ * <p>
+ * The instances are pushed by the discovery client as soon as the Endpoints (or
+ * EndpointSlices) of the service change, so addresses that are no longer ready, which
+ * includes the addresses of terminating pods, stop receiving requests right away instead
+ * of after the expiry of a cache. A single stream of instances is opened per service, on
+ * the first call to {@link #get()}, and its latest list is replayed to every subscriber.
+ * The stream is opened again, with a backoff, when it fails or completes.
+ */
+public class KubernetesPodsListSupplier implements ServiceInstanceListSupplier, DisposableBean {
+
+	private static final Log LOG = LogFactory.getLog(KubernetesPodsListSupplier.class);
+
+	private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+
+	private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+	private final String serviceId;
+
+	private final Flux<List<ServiceInstance>> instances;
+
+	private volatile Disposable connection;
+
+	/**
+	 * @param environment the environment of the load balancer client, holding the name of
+	 * the service
+	 * @param instancesWatcher function returning a stream emitting the instances of a
+	 * service each time they change
+	 */
+	public KubernetesPodsListSupplier(Environment environment,
+			Function<String, Flux<List<ServiceInstance>>> instancesWatcher) {
+		this.serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		this.instances = Flux.defer(() -> instancesWatcher.apply(this.serviceId))
+				.subscribeOn(Schedulers.boundedElastic())
+				.doOnError(e -> LOG.warn("Error watching the instances of service " + this.serviceId, e))
+				.retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF).maxBackoff(MAX_BACKOFF))
+				.doOnComplete(() -> LOG.warn("The watch of the instances of service " + this.serviceId + " completed"))
+				.repeatWhen(completions -> completions.index()
+						.concatMap(completion -> Mono.delay(backoff(completion.getT1()))))
+				.replay(1).autoConnect(1, connection -> this.connection = connection);
+	}
+
+	private static Duration backoff(long repeat) {
+		return repeat < 5 ? MIN_BACKOFF.multipliedBy(1L << repeat) : MAX_BACKOFF;
+	}
+
+	@Override
+	public String getServiceId() {
+		return this.serviceId;
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		return this.instances;
+	}
+
+	@Override
+	public void destroy() {
+		Disposable connection = this.connection;
+		if (connection != null) {
+			connection.dispose();
+		}
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+
+/**
+ * Cache of the instances mapped from Services by a
+ * {@link KubernetesServiceInstanceMapper}, keyed on the name and uid of the Service and
+ * valid as long as its resourceVersion is unchanged, so an unchanged Service maps to the
+ * same instances without being mapped again.
+ * <p>
+ * Services without a uid or a resourceVersion are mapped on every call. The entry of a
+ * Service is replaced when the Service changes, and is evicted by
+ * {@link #retain(String, Collection)} once the Service is no longer listed under its
+ * name.
+ */
+public class KubernetesServiceInstanceCache {
+
+	private final Map<String, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * @param name the name of the Service
+	 * @param uid the uid of the Service
+	 * @param resourceVersion the resourceVersion of the Service
+	 * @param mapping the mapping of the Service, called when it is not cached
+	 * @return the cached or mapped instances
+	 */
+	public List<KubernetesServiceInstance> get(String name, String uid, String resourceVersion,
+			Supplier<List<KubernetesServiceInstance>> mapping) {
+		if (name == null || uid == null || resourceVersion == null) {
+			return mapping.get();
+		}
+		Map<String, Entry> named = this.entries.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+		Entry entry = named.get(uid);
+		if (entry == null || !entry.resourceVersion.equals(resourceVersion)) {
+			entry = new Entry(resourceVersion, mapping.get());
+			named.put(uid, entry);
+		}
+		return entry.instances;
+	}
+
+	/**
+	 * Evicts the entries of the Services with the given name that are no longer listed,
+	 * for example because they were deleted.
+	 * @param name the name of the Services
+	 * @param uids the uids of the Services currently listed under that name
+	 */
+	public void retain(String name, Collection<String> uids) {
+		this.entries.computeIfPresent(name, (key, named) -> {
+			named.keySet().retainAll(uids);
+			return named.isEmpty() ? null : named;
+		});
+	}
+
+	int size() {
+		return this.entries.values().stream().mapToInt(Map::size).sum();
+	}
+
+	private static final class Entry {
+
+		private final String resourceVersion;
+
+		private final List<KubernetesServiceInstance> instances;
+
+		private Entry(String resourceVersion, List<KubernetesServiceInstance> instances) {
+			this.resourceVersion = resourceVersion;
+			this.instances = instances;
+		}
+
+	}
+
+}
@@ -16,7 +16,11 @@
 
 package org.springframework.cloud.kubernetes.commons.loadbalancer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
@@ -27,8 +31,48 @@ import org.springframework.util.StringUtils;
  */
 public interface KubernetesServiceInstanceMapper<T> {
 
+	/**
+	 * Annotation of a Service naming its port to load balance to, taking precedence over
+	 * the port name of {@link KubernetesLoadBalancerProperties}.
+	 */
+	String PORT_NAME_ANNOTATION = "spring.cloud.kubernetes/port-name";
+
+	/**
+	 * Key of the metadata holding the name of the port of an instance, when a Service is
+	 * mapped to one instance per port.
+	 */
+	String PORT_NAME_METADATA_KEY = "k8s_port_name";
+
+	/**
+	 * @param service the Service
+	 * @return the instance of the preferred port of the Service, null when none of its
+	 * ports is preferred
+	 */
 	KubernetesServiceInstance map(T service);
 
+	/**
+	 * @param service the Service
+	 * @return the instance of the preferred port of the Service or, when none of its
+	 * ports is preferred, one instance per port if
+	 * {@link KubernetesLoadBalancerProperties#isExpandPorts()} and none otherwise
+	 */
+	default List<KubernetesServiceInstance> mapAll(T service) {
+		KubernetesServiceInstance instance = map(service);
+		return instance != null ? Collections.singletonList(instance) : Collections.emptyList();
+	}
+
+	/**
+	 * @param serviceName the name of the Services
+	 * @param services all the Services currently listed under that name, in every
+	 * namespace load balanced to
+	 * @return the instances of the Services, as mapped by {@link #mapAll(Object)}
+	 */
+	default List<KubernetesServiceInstance> mapAll(String serviceName, Collection<T> services) {
+		List<KubernetesServiceInstance> instances = new ArrayList<>();
+		services.forEach(service -> instances.addAll(mapAll(service)));
+		return instances;
+	}
+
 	static String createHost(String serviceName, String namespace, String clusterDomain) {
 		return String.format("%s.%s.svc.%s", serviceName, StringUtils.hasText(namespace) ? namespace : "default",
 				clusterDomain);
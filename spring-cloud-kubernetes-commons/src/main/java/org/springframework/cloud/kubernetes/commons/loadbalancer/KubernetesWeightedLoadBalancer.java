@@ -0,0 +1,187 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+/**
+ * Load balancer sending each request to a random instance, with a probability
+ * proportional to its weight, so instances with more resources can be given a larger
+ * share of the requests.
+ * <p>
+ * The weight of an instance is read from the annotation of its pod, when a function
+ * looking up that annotation is given, and otherwise from the metadata of the instance,
+ * which carries the labels and annotations of its Service. Pods are looked up once per
+ * instance, away from the calling thread: until its pod has been looked up, an instance
+ * has the weight of its metadata. Weights are parsed once per list of instances, not per
+ * request.
+ */
+public class KubernetesWeightedLoadBalancer extends KubernetesServiceInstanceLoadBalancer {
+
+	private static final Log LOG = LogFactory.getLog(KubernetesWeightedLoadBalancer.class);
+
+	private static final int NO_WEIGHT = -1;
+
+	private final String weightMetadataKey;
+
+	private final Function<ServiceInstance, String> podWeight;
+
+	private final Map<String, Integer> podWeights = new ConcurrentHashMap<>();
+
+	private final AtomicInteger podWeightsVersion = new AtomicInteger();
+
+	private volatile Weights weights = new Weights(null, 0, new long[0]);
+
+	public KubernetesWeightedLoadBalancer(
+			ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider, String serviceId,
+			String weightMetadataKey) {
+		this(serviceInstanceListSupplierProvider, serviceId, weightMetadataKey, null);
+	}
+
+	/**
+	 * @param serviceInstanceListSupplierProvider provider of the supplier of instances
+	 * @param serviceId the id of the service
+	 * @param weightMetadataKey the key of the weight in the metadata of an instance, and
+	 * of the weight annotation of its pod
+	 * @param podWeight function returning the weight annotation of the pod of an
+	 * instance, null when the pod has none, or null to only read the metadata of the
+	 * instances
+	 */
+	public KubernetesWeightedLoadBalancer(
+			ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider, String serviceId,
+			String weightMetadataKey, Function<ServiceInstance, String> podWeight) {
+		super(serviceInstanceListSupplierProvider, serviceId);
+		this.weightMetadataKey = weightMetadataKey;
+		this.podWeight = podWeight;
+	}
+
+	@Override
+	protected ServiceInstance choose(List<ServiceInstance> instances) {
+		Weights weights = this.weights;
+		int version = this.podWeightsVersion.get();
+		if (weights.instances != instances || weights.version != version) {
+			weights = new Weights(instances, version, cumulativeWeights(instances));
+			this.weights = weights;
+		}
+		long total = weights.cumulative[weights.cumulative.length - 1];
+		if (total == 0) {
+			return instances.get(ThreadLocalRandom.current().nextInt(instances.size()));
+		}
+		long point = ThreadLocalRandom.current().nextLong(total);
+		int low = 0;
+		int high = weights.cumulative.length - 1;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (weights.cumulative[middle] > point) {
+				high = middle;
+			}
+			else {
+				low = middle + 1;
+			}
+		}
+		return instances.get(low);
+	}
+
+	private long[] cumulativeWeights(List<ServiceInstance> instances) {
+		if (this.podWeight != null) {
+			Set<String> keys = instances.stream().map(KubernetesServiceInstanceLoadBalancer::key)
+					.collect(Collectors.toSet());
+			this.podWeights.keySet().retainAll(keys);
+		}
+		long[] cumulative = new long[instances.size()];
+		long total = 0;
+		for (int i = 0; i < instances.size(); i++) {
+			total += weight(instances.get(i));
+			cumulative[i] = total;
+		}
+		return cumulative;
+	}
+
+	private int weight(ServiceInstance instance) {
+		if (this.podWeight != null) {
+			Integer weight = this.podWeights.get(key(instance));
+			if (weight == null) {
+				lookUpPodWeight(instance);
+			}
+			else if (weight != NO_WEIGHT) {
+				return weight;
+			}
+		}
+		String weight = instance.getMetadata() != null ? instance.getMetadata().get(this.weightMetadataKey) : null;
+		return weight != null ? parse(weight, instance) : 1;
+	}
+
+	private void lookUpPodWeight(ServiceInstance instance) {
+		String key = key(instance);
+		if (this.podWeights.putIfAbsent(key, NO_WEIGHT) != null) {
+			return;
+		}
+		Mono.fromCallable(() -> this.podWeight.apply(instance)).subscribeOn(Schedulers.boundedElastic()).subscribe(
+				weight -> updatePodWeight(key, parse(weight, instance)),
+				e -> LOG.warn("Could not read the weight of the pod of instance " + key, e));
+	}
+
+	private void updatePodWeight(String key, int weight) {
+		if (this.podWeights.replace(key, NO_WEIGHT, weight)) {
+			// parse the weights again on the next request
+			this.podWeightsVersion.incrementAndGet();
+		}
+	}
+
+	private int parse(String weight, ServiceInstance instance) {
+		try {
+			return Math.max(0, Integer.parseInt(weight.trim()));
+		}
+		catch (NumberFormatException e) {
+			LOG.warn("Invalid weight '" + weight + "' for instance " + key(instance) + ", using 1");
+			return 1;
+		}
+	}
+
+	private static final class Weights {
+
+		private final List<ServiceInstance> instances;
+
+		private final int version;
+
+		private final long[] cumulative;
+
+		private Weights(List<ServiceInstance> instances, int version, long[] cumulative) {
+			this.instances = instances;
+			this.version = version;
+			this.cumulative = cumulative;
+		}
+
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link ServiceInstanceListSupplier} preferring the instances on the node, then in the
+ * zone, of the application, as read from the
+ * {@link KubernetesServiceInstance#NODE_METADATA_KEY} and
+ * {@link KubernetesServiceInstance#ZONE_METADATA_KEY} metadata of the instances. Requests
+ * spill over to the next level when too few instances are local, as set by
+ * {@link KubernetesLoadBalancerProperties.ZonePreference}.
+ * <p>
+ * The node of the application is the node of its pod, its zone is configured or read from
+ * the labels of that node. They are looked up once, on the first call to {@link #get()},
+ * away from the calling thread.
+ */
+public class KubernetesZonePreferenceServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+	private static final Log LOG = LogFactory.getLog(KubernetesZonePreferenceServiceInstanceListSupplier.class);
+
+	private final KubernetesLoadBalancerProperties.ZonePreference properties;
+
+	private final Mono<LocalTopology> localTopology;
+
+	/**
+	 * @param delegate the supplier of all instances
+	 * @param properties the zone preference properties
+	 * @param localNode supplier of the node running the pod of the application, returning
+	 * null outside Kubernetes
+	 * @param nodeZone function returning the zone of a node, null if unknown
+	 */
+	public KubernetesZonePreferenceServiceInstanceListSupplier(ServiceInstanceListSupplier delegate,
+			KubernetesLoadBalancerProperties.ZonePreference properties, Supplier<String> localNode,
+			Function<String, String> nodeZone) {
+		super(delegate);
+		this.properties = properties;
+		this.localTopology = Mono.fromCallable(() -> resolve(localNode, nodeZone))
+				.subscribeOn(Schedulers.boundedElastic()).onErrorResume(e -> {
+					LOG.warn("Could not find the zone of the application, instances are not filtered", e);
+					return Mono.just(new LocalTopology(null, null));
+				}).cache();
+	}
+
+	@Override
+	public Flux<List<ServiceInstance>> get() {
+		return this.localTopology.flatMapMany(topology -> this.delegate.get().map(topology::filter));
+	}
+
+	private LocalTopology resolve(Supplier<String> localNode, Function<String, String> nodeZone) {
+		String node = localNode.get();
+		String zone = StringUtils.hasText(this.properties.getZone()) ? this.properties.getZone()
+				: node != null ? nodeZone.apply(node) : null;
+		LOG.info("Preferring the instances of service " + getServiceId() + " in zone " + zone
+				+ (this.properties.isPreferSameNode() ? " and on node " + node : ""));
+		return new LocalTopology(this.properties.isPreferSameNode() ? node : null, zone);
+	}
+
+	private final class LocalTopology {
+
+		private final String node;
+
+		private final String zone;
+
+		private LocalTopology(String node, String zone) {
+			this.node = node;
+			this.zone = zone;
+		}
+
+		private List<ServiceInstance> filter(List<ServiceInstance> instances) {
+			if (this.node != null) {
+				List<ServiceInstance> sameNode = local(instances, KubernetesServiceInstance.NODE_METADATA_KEY,
+						this.node);
+				if (enough(sameNode, instances)) {
+					return sameNode;
+				}
+			}
+			if (this.zone != null) {
+				List<ServiceInstance> sameZone = local(instances, KubernetesServiceInstance.ZONE_METADATA_KEY,
+						this.zone);
+				if (enough(sameZone, instances)) {
+					return sameZone;
+				}
+			}
+			return instances;
+		}
+
+		private List<ServiceInstance> local(List<ServiceInstance> instances, String key, String value) {
+			return instances.stream()
+					.filter(instance -> instance.getMetadata() != null && value.equals(instance.getMetadata().get(key)))
+					.collect(Collectors.toList());
+		}
+
+		private boolean enough(List<ServiceInstance> local, List<ServiceInstance> instances) {
+			return !local.isEmpty() && local.size() >= properties.getMinInstances()
+					&& local.size() >= properties.getMinRatio() * instances.size();
+		}
+
+	}
+
+}
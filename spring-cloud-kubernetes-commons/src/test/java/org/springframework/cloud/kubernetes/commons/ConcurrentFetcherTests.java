@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentFetcherTests {
+
+	@Test
+	public void fetchersShouldUseThreadsOfTheirOwn() {
+		ConcurrentFetcher config = new ConcurrentFetcher("test-config-fetch-");
+		ConcurrentFetcher discovery = new ConcurrentFetcher("test-discovery-fetch-");
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		List<String> result = config.fetch(Arrays.asList("a", "b"),
+				name -> String.join("", discovery.fetch(Arrays.asList(name, name), n -> {
+					threads.add(Thread.currentThread().getName());
+					return n;
+				})));
+		assertThat(result).containsExactly("aa", "bb");
+		assertThat(threads).isNotEmpty().allMatch(name -> name.startsWith("test-discovery-fetch-"));
+	}
+
+	@Test
+	public void fetchesShouldBeBounded() {
+		ConcurrentFetcher fetcher = new ConcurrentFetcher("test-bounded-fetch-");
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<Integer> keys = IntStream.range(0, 32).boxed().collect(Collectors.toList());
+		List<Integer> result = fetcher.fetch(keys, key -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				TimeUnit.MILLISECONDS.sleep(20);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			running.decrementAndGet();
+			return key;
+		});
+		assertThat(result).isEqualTo(keys);
+		assertThat(maxRunning.get()).isBetween(2, 8);
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConfigResourceCacheTests {
+
+	private final ConfigResourceCache cache = new ConfigResourceCache();
+
+	@Test
+	public void resourceShouldBeReadOncePerPass() {
+		AtomicInteger reads = new AtomicInteger();
+		assertThat(cache.<String>getResource("configmap", "default", "app", () -> "v" + reads.incrementAndGet()))
+				.isEqualTo("v1");
+		assertThat(cache.<String>getResource("configmap", "default", "app", () -> "v" + reads.incrementAndGet()))
+				.isEqualTo("v1");
+		assertThat(cache.<String>getResource("configmap", "other", "app", () -> null)).isNull();
+		assertThat(cache.<String>getResource("configmap", "other", "app", () -> "v" + reads.incrementAndGet()))
+				.isNull();
+
+		ConfigResourceCache pass = cache.newPass();
+		assertThat(pass.<String>getResource("configmap", "default", "app", () -> "v" + reads.incrementAndGet()))
+				.isEqualTo("v2");
+		assertThat(cache.<String>getResource("configmap", "default", "app", () -> "v" + reads.incrementAndGet()))
+				.isEqualTo("v1");
+	}
+
+	@Test
+	public void passesShouldOnlyShareTheParsedProperties() {
+		AtomicInteger parses = new AtomicInteger();
+		MockEnvironment environment = new MockEnvironment();
+		ConfigResourceCache first = cache.newPass();
+		ConfigResourceCache second = cache.newPass();
+
+		first.getResource("configmap", "default", "app", () -> "v1");
+		assertThat(second.<String>getResource("configmap", "default", "app", () -> "v2")).isEqualTo("v2");
+
+		Map<String, Object> parsed = first.getProperties("configmap", "default", "app", "1", environment,
+				() -> Collections.singletonMap("parse", parses.incrementAndGet()));
+		assertThat(second.getProperties("configmap", "default", "app", "1", environment,
+				() -> Collections.singletonMap("parse", parses.incrementAndGet()))).isSameAs(parsed);
+		assertThat(parses).hasValue(1);
+	}
+
+	@Test
+	public void failedReadShouldNotBeCached() {
+		assertThatThrownBy(() -> cache.getResource("secret", "default", "app", () -> {
+			throw new IllegalStateException("forbidden");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(cache.<String>getResource("secret", "default", "app", () -> "value")).isEqualTo("value");
+	}
+
+	@Test
+	public void propertiesShouldBeParsedAgainOnlyWhenTheResourceOrProfilesChange() {
+		AtomicInteger parses = new AtomicInteger();
+		MockEnvironment environment = new MockEnvironment();
+		Map<String, Object> first = properties("1", environment, parses);
+		assertThat(properties("1", environment, parses)).isSameAs(first);
+		assertThat(parses).hasValue(1);
+
+		properties("2", environment, parses);
+		assertThat(parses).hasValue(2);
+
+		environment.setActiveProfiles("dev");
+		properties("2", environment, parses);
+		assertThat(parses).hasValue(3);
+
+		properties(null, environment, parses);
+		properties(null, environment, parses);
+		assertThat(parses).hasValue(5);
+	}
+
+	private Map<String, Object> properties(String resourceVersion, MockEnvironment environment, AtomicInteger parses) {
+		return cache.getProperties("configmap", "default", "app", resourceVersion, environment,
+				() -> Collections.singletonMap("parse", parses.incrementAndGet()));
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.config;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConfigUtilsTests {
+
+	@Test
+	public void fetchConcurrentlyShouldKeepTheOrderOfTheNames() {
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		List<String> result = ConfigUtils.fetchConcurrently(Arrays.asList("app", "app-dev", "app-k8s"), name -> {
+			threads.add(Thread.currentThread().getName());
+			return "app-dev".equals(name) ? null : name.toUpperCase();
+		});
+		assertThat(result).containsExactly("APP", null, "APP-K8S");
+		assertThat(threads).allMatch(name -> name.startsWith("kubernetes-config-fetch-"));
+	}
+
+	@Test
+	public void fetchConcurrentlyShouldRethrowFailures() {
+		assertThatThrownBy(() -> ConfigUtils.fetchConcurrently(Arrays.asList("app", "app-dev"), name -> {
+			throw new IllegalStateException("forbidden");
+		})).isInstanceOf(IllegalStateException.class).hasMessage("forbidden");
+	}
+
+	@Test
+	public void nestedFetchesShouldNotWaitForTheThreadsTheyHold() {
+		List<Integer> sources = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+		List<Integer> result = ConfigUtils.fetchConcurrently(sources,
+				source -> ConfigUtils.fetchConcurrently(Arrays.asList(source, source), name -> name).stream()
+						.mapToInt(Integer::intValue).sum());
+		assertThat(result).hasSize(20).startsWith(0, 2, 4).endsWith(38);
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.discovery;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KubernetesServiceFilterTests {
+
+	private final KubernetesDiscoveryProperties properties = new KubernetesDiscoveryProperties();
+
+	private final KubernetesServiceFilter<TestService> filter = new KubernetesServiceFilter<>(TestService.class,
+			this.properties, TestService::getLabels, TestService::getAnnotations);
+
+	@Test
+	public void noFilterShouldMatchEverything() {
+		assertThat(this.filter.predicate().test(new TestService("a"))).isTrue();
+	}
+
+	@Test
+	public void predicateShouldOnlyBeParsedAgainWhenFilterChanges() {
+		this.properties.setFilter("name == 'a'");
+		Predicate<TestService> predicate = this.filter.predicate();
+		assertThat(this.filter.predicate()).isSameAs(predicate);
+
+		this.properties.setFilter("name == 'b'");
+		assertThat(this.filter.predicate()).isNotSameAs(predicate);
+		assertThat(this.filter.predicate().test(new TestService("a"))).isFalse();
+		assertThat(this.filter.predicate().test(new TestService("b"))).isTrue();
+	}
+
+	@Test
+	public void expressionShouldKeepWorkingOnceCompiled() {
+		this.properties.setFilter("name.startsWith('service')");
+		Predicate<TestService> predicate = this.filter.predicate();
+		IntStream.range(0, 200).forEach(i -> {
+			assertThat(predicate.test(new TestService("service" + i))).isTrue();
+			assertThat(predicate.test(new TestService("other" + i))).isFalse();
+		});
+	}
+
+	@Test
+	public void nullExpressionResultShouldNotMatch() {
+		this.properties.setFilter("labels['missing']");
+		assertThat(this.filter.predicate().test(new TestService("a"))).isFalse();
+	}
+
+	@Test
+	public void labelFilterShouldSupportAllRequirements() {
+		this.properties.setLabelFilter("app=store, tier!=db,version, !canary, owner==shop");
+
+		assertThat(this.filter.predicate()
+				.test(new TestService("a").label("app", "store").label("version", "1").label("owner", "shop")))
+						.isTrue();
+		assertThat(this.filter.predicate().test(new TestService("a").label("app", "store").label("version", "1")
+				.label("owner", "shop").label("tier", "db"))).isFalse();
+		assertThat(this.filter.predicate().test(new TestService("a").label("app", "store").label("version", "1")
+				.label("owner", "shop").label("canary", "true"))).isFalse();
+		assertThat(this.filter.predicate().test(new TestService("a").label("app", "store").label("owner", "shop")))
+				.isFalse();
+		assertThat(this.filter.predicate().test(new TestService("a"))).isFalse();
+	}
+
+	@Test
+	public void annotationFilterShouldBeCombinedWithOtherFilters() {
+		this.properties.setFilter("name.startsWith('s')");
+		this.properties.setAnnotationFilter("spring-boot=true");
+
+		assertThat(this.filter.predicate().test(new TestService("store").annotation("spring-boot", "true"))).isTrue();
+		assertThat(this.filter.predicate().test(new TestService("shop"))).isFalse();
+		assertThat(this.filter.predicate().test(new TestService("other").annotation("spring-boot", "true"))).isFalse();
+	}
+
+	public static class TestService {
+
+		private final String name;
+
+		private final Map<String, String> labels = new HashMap<>();
+
+		private Map<String, String> annotations;
+
+		TestService(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public Map<String, String> getLabels() {
+			return this.labels;
+		}
+
+		public Map<String, String> getAnnotations() {
+			return this.annotations;
+		}
+
+		TestService label(String key, String value) {
+			this.labels.put(key, value);
+			return this;
+		}
+
+		TestService annotation(String key, String value) {
+			if (this.annotations == null) {
+				this.annotations = new HashMap<>();
+			}
+			this.annotations.put(key, value);
+			return this;
+		}
+
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.discovery;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class KubernetesServiceInstanceMetadataTests {
+
+	@Test
+	public void equalMetadataShouldBeShared() {
+		Map<String, String> first = new HashMap<>();
+		first.put("app", "store");
+		first.put("tier", "web");
+		Map<String, String> second = new HashMap<>(first);
+
+		Map<String, String> shared = KubernetesServiceInstanceMetadata.shared(first);
+		assertThat(shared).isEqualTo(first).isSameAs(KubernetesServiceInstanceMetadata.shared(second));
+
+		first.put("app", "changed");
+		assertThat(shared).containsEntry("app", "store");
+		assertThatThrownBy(() -> shared.put("app", "changed")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void overlayShouldTakePrecedence() {
+		Map<String, String> shared = new HashMap<>();
+		shared.put("app", "store");
+		shared.put("http", "80");
+		Map<String, String> overlay = new HashMap<>();
+		overlay.put("http", "8080");
+		overlay.put("k8s_namespace", "shop");
+
+		Map<String, String> metadata = KubernetesServiceInstanceMetadata
+				.overlay(KubernetesServiceInstanceMetadata.shared(shared), overlay);
+
+		Map<String, String> expected = new HashMap<>();
+		expected.put("app", "store");
+		expected.put("http", "8080");
+		expected.put("k8s_namespace", "shop");
+		assertThat(metadata).isEqualTo(expected).hasSize(3);
+		assertThat(metadata.hashCode()).isEqualTo(expected.hashCode());
+		assertThat(metadata.get("http")).isEqualTo("8080");
+		assertThat(metadata.containsKey("app")).isTrue();
+		assertThat(metadata.entrySet()).containsExactlyInAnyOrderElementsOf(expected.entrySet());
+		assertThatThrownBy(() -> metadata.put("app", "changed")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void nestedOverlaysShouldBeMerged() {
+		Map<String, String> ports = KubernetesServiceInstanceMetadata.overlay(
+				KubernetesServiceInstanceMetadata.shared(Collections.singletonMap("app", "store")),
+				Collections.singletonMap("http", "80"));
+
+		Map<String, String> metadata = KubernetesServiceInstanceMetadata.overlay(ports,
+				Collections.singletonMap("topology.kubernetes.io/zone", "a"));
+
+		assertThat(metadata).hasSize(3).containsEntry("app", "store").containsEntry("http", "80")
+				.containsEntry("topology.kubernetes.io/zone", "a");
+	}
+
+	@Test
+	public void emptyOverlayShouldReturnSharedMetadata() {
+		Map<String, String> shared = KubernetesServiceInstanceMetadata.shared(Collections.singletonMap("app", "store"));
+		assertThat(KubernetesServiceInstanceMetadata.overlay(shared, Collections.emptyMap())).isSameAs(shared);
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KubernetesLeastOutstandingRequestsLoadBalancerTests {
+
+	private static final ServiceInstance BUSY = instance("busy");
+
+	private static final ServiceInstance IDLE = instance("idle");
+
+	private final Request<Object> request = new DefaultRequest<>();
+
+	@Test
+	public void instanceWithFewerRequestsInFlightShouldBeChosen() {
+		KubernetesLeastOutstandingRequestsLoadBalancer loadBalancer = loadBalancer(Arrays.asList(BUSY, IDLE));
+		loadBalancer.onStartRequest(this.request, new DefaultResponse(BUSY));
+
+		for (int i = 0; i < 20; i++) {
+			assertThat(chosen(loadBalancer)).isSameAs(IDLE);
+		}
+	}
+
+	@Test
+	public void completedRequestsShouldNoLongerBeCounted() {
+		KubernetesLeastOutstandingRequestsLoadBalancer loadBalancer = loadBalancer(Arrays.asList(BUSY, IDLE));
+		Response<ServiceInstance> response = new DefaultResponse(BUSY);
+		loadBalancer.onStartRequest(this.request, response);
+		loadBalancer.onStartRequest(this.request, response);
+		assertThat(loadBalancer.outstandingRequests(BUSY)).isEqualTo(2);
+
+		loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, this.request, response));
+		loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.FAILED,
+				new IllegalStateException("timeout"), this.request, response));
+		loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, this.request, response));
+		assertThat(loadBalancer.outstandingRequests(BUSY)).isZero();
+	}
+
+	@Test
+	public void countersOfRemovedInstancesShouldBeDropped() {
+		List<ServiceInstance> instances = Arrays.asList(BUSY, IDLE);
+		KubernetesLeastOutstandingRequestsLoadBalancer loadBalancer = loadBalancer(instances);
+		loadBalancer.onStartRequest(this.request, new DefaultResponse(BUSY));
+		chosen(loadBalancer);
+		assertThat(loadBalancer.outstandingRequests(BUSY)).isEqualTo(1);
+
+		loadBalancer.choose(Collections.singletonList(IDLE));
+		assertThat(loadBalancer.outstandingRequests(BUSY)).isZero();
+	}
+
+	@Test
+	public void noInstancesShouldGiveAnEmptyResponse() {
+		KubernetesLeastOutstandingRequestsLoadBalancer loadBalancer = loadBalancer(Collections.emptyList());
+		assertThat(loadBalancer.choose(this.request).block().hasServer()).isFalse();
+	}
+
+	private static ServiceInstance chosen(KubernetesLeastOutstandingRequestsLoadBalancer loadBalancer) {
+		return loadBalancer.choose(new DefaultRequest<>()).block().getServer();
+	}
+
+	private static KubernetesLeastOutstandingRequestsLoadBalancer loadBalancer(List<ServiceInstance> instances) {
+		return new KubernetesLeastOutstandingRequestsLoadBalancer(supplier(instances), "service1");
+	}
+
+	static ObjectProvider<ServiceInstanceListSupplier> supplier(List<ServiceInstance> instances) {
+		ServiceInstanceListSupplier supplier = new ServiceInstanceListSupplier() {
+
+			@Override
+			public String getServiceId() {
+				return "service1";
+			}
+
+			@Override
+			public Flux<List<ServiceInstance>> get() {
+				return Flux.just(instances);
+			}
+
+		};
+		return new StaticListableBeanFactory(Collections.singletonMap("supplier", supplier))
+				.getBeanProvider(ServiceInstanceListSupplier.class);
+	}
+
+	private static ServiceInstance instance(String id) {
+		return new KubernetesServiceInstance(id, "service1", id, 8080, Collections.emptyMap(), false);
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KubernetesOutlierDetectorTests {
+
+	private static final ServiceInstance FAILING = instance("failing");
+
+	private static final ServiceInstance HEALTHY = instance("healthy");
+
+	private static final List<ServiceInstance> INSTANCES = Arrays.asList(FAILING, HEALTHY);
+
+	private final AtomicLong clock = new AtomicLong(1);
+
+	private final KubernetesLoadBalancerProperties.OutlierDetection properties = new KubernetesLoadBalancerProperties.OutlierDetection();
+
+	@Test
+	public void consecutiveFailuresShouldEjectAnInstance() {
+		KubernetesOutlierDetector detector = detector();
+		for (int i = 0; i < 4; i++) {
+			complete(detector, FAILING, CompletionContext.Status.FAILED);
+		}
+		assertThat(detector.filter(INSTANCES)).containsExactly(FAILING, HEALTHY);
+
+		complete(detector, FAILING, CompletionContext.Status.FAILED);
+		assertThat(detector.filter(INSTANCES)).containsExactly(HEALTHY);
+		assertThat(detector.getEjections()).isEqualTo(1);
+		assertThat(detector.getEjectedInstances()).isEqualTo(1);
+
+		this.clock.addAndGet(Duration.ofSeconds(31).toNanos());
+		assertThat(detector.filter(INSTANCES)).containsExactly(FAILING, HEALTHY);
+		assertThat(detector.getEjectedInstances()).isZero();
+	}
+
+	@Test
+	public void successShouldResetConsecutiveFailures() {
+		KubernetesOutlierDetector detector = detector();
+		for (int i = 0; i < 4; i++) {
+			complete(detector, FAILING, CompletionContext.Status.FAILED);
+		}
+		complete(detector, FAILING, CompletionContext.Status.SUCCESS);
+		complete(detector, FAILING, CompletionContext.Status.FAILED);
+		assertThat(detector.filter(INSTANCES)).containsExactly(FAILING, HEALTHY);
+	}
+
+	@Test
+	public void failureRateOverTheWindowShouldEjectAnInstance() {
+		this.properties.setConsecutiveFailures(0);
+		KubernetesOutlierDetector detector = detector();
+		for (int i = 0; i < 9; i++) {
+			complete(detector, FAILING,
+					i % 2 == 0 ? CompletionContext.Status.FAILED : CompletionContext.Status.SUCCESS);
+			this.clock.addAndGet(Duration.ofMillis(100).toNanos());
+		}
+		assertThat(detector.filter(INSTANCES)).containsExactly(FAILING, HEALTHY);
+
+		complete(detector, FAILING, CompletionContext.Status.FAILED);
+		assertThat(detector.filter(INSTANCES)).containsExactly(HEALTHY);
+	}
+
+	@Test
+	public void failuresOutsideTheWindowShouldBeForgotten() {
+		this.properties.setConsecutiveFailures(0);
+		this.properties.setMinimumRequests(4);
+		KubernetesOutlierDetector detector = detector();
+		complete(detector, FAILING, CompletionContext.Status.FAILED);
+		complete(detector, FAILING, CompletionContext.Status.FAILED);
+		this.clock.addAndGet(Duration.ofSeconds(11).toNanos());
+		complete(detector, FAILING, CompletionContext.Status.SUCCESS);
+		complete(detector, FAILING, CompletionContext.Status.SUCCESS);
+		complete(detector, FAILING, CompletionContext.Status.SUCCESS);
+		complete(detector, FAILING, CompletionContext.Status.FAILED);
+		assertThat(detector.filter(INSTANCES)).containsExactly(FAILING, HEALTHY);
+	}
+
+	@Test
+	public void slowRequestsShouldCountAsFailures() {
+		this.properties.setConsecutiveFailures(2);
+		this.properties.setSlowCallDuration(Duration.ofSeconds(1));
+		KubernetesOutlierDetector detector = detector();
+		for (int i = 0; i < 2; i++) {
+			Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+			Response<ServiceInstance> response = new DefaultResponse(FAILING);
+			detector.onStartRequest(request, response);
+			this.clock.addAndGet(Duration.ofSeconds(2).toNanos());
+			detector.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response));
+		}
+		assertThat(detector.filter(INSTANCES)).containsExactly(HEALTHY);
+	}
+
+	@Test
+	public void maxEjectionPercentShouldBeRespected() {
+		this.properties.setConsecutiveFailures(1);
+		KubernetesOutlierDetector detector = detector();
+		complete(detector, FAILING, CompletionContext.Status.FAILED);
+		complete(detector, HEALTHY, CompletionContext.Status.FAILED);
+		assertThat(detector.getEjectedInstances()).isEqualTo(2);
+		assertThat(detector.filter(INSTANCES)).containsExactly(HEALTHY);
+		assertThat(detector.filter(Collections.singletonList(HEALTHY))).containsExactly(HEALTHY);
+	}
+
+	@Test
+	public void ejectionsShouldBeExposedAsMetrics() {
+		this.properties.setConsecutiveFailures(1);
+		KubernetesOutlierDetector detector = detector();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new KubernetesOutlierDetectorMetrics(detector).bindTo(registry);
+		complete(detector, FAILING, CompletionContext.Status.FAILED);
+
+		assertThat(registry.get("kubernetes.loadbalancer.ejections").tag("serviceId", "service1").functionCounter()
+				.count()).isEqualTo(1);
+		assertThat(registry.get("kubernetes.loadbalancer.ejected.instances").gauge().value()).isEqualTo(1);
+	}
+
+	private KubernetesOutlierDetector detector() {
+		return new KubernetesOutlierDetector("service1", this.properties, this.clock::get);
+	}
+
+	private static void complete(KubernetesOutlierDetector detector, ServiceInstance instance,
+			CompletionContext.Status status) {
+		Request<Object> request = new DefaultRequest<>();
+		Response<ServiceInstance> response = new DefaultResponse(instance);
+		detector.onStartRequest(request, response);
+		detector.onComplete(new CompletionContext<>(status, request, response));
+	}
+
+	private static ServiceInstance instance(String id) {
+		return new KubernetesServiceInstance(id, "service1", id, 8080, Collections.emptyMap(), false);
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KubernetesPodsListSupplierTests {
+
+	private final MockEnvironment environment = new MockEnvironment()
+			.withProperty(LoadBalancerClientFactory.PROPERTY_NAME, "service1");
+
+	@Test
+	public void instancesShouldBeWatchedOnceAndReplayed() {
+		AtomicInteger watches = new AtomicInteger();
+		Sinks.Many<List<ServiceInstance>> changes = Sinks.many().replay().latest();
+		KubernetesPodsListSupplier supplier = new KubernetesPodsListSupplier(this.environment, serviceId -> {
+			assertThat(serviceId).isEqualTo("service1");
+			watches.incrementAndGet();
+			return changes.asFlux();
+		});
+
+		changes.tryEmitNext(Collections.singletonList(instance("10.0.0.1")));
+		assertThat(supplier.get().blockFirst(Duration.ofSeconds(5))).extracting(ServiceInstance::getHost)
+				.containsExactly("10.0.0.1");
+
+		changes.tryEmitNext(Collections.emptyList());
+		assertThat(supplier.get().filter(List::isEmpty).blockFirst(Duration.ofSeconds(5))).isEmpty();
+		assertThat(supplier.get().blockFirst(Duration.ofSeconds(5))).isEmpty();
+
+		assertThat(watches).hasValue(1);
+		assertThat(supplier.getServiceId()).isEqualTo("service1");
+		supplier.destroy();
+	}
+
+	@Test
+	public void failedWatchShouldBeOpenedAgain() {
+		AtomicInteger watches = new AtomicInteger();
+		KubernetesPodsListSupplier supplier = new KubernetesPodsListSupplier(this.environment,
+				serviceId -> watches.incrementAndGet() == 1 ? Flux.error(new IllegalStateException("watch closed"))
+						: Flux.just(Collections.singletonList(instance("10.0.0.2"))).concatWith(Flux.never()));
+
+		assertThat(supplier.get().blockFirst(Duration.ofSeconds(10))).extracting(ServiceInstance::getHost)
+				.containsExactly("10.0.0.2");
+		assertThat(watches).hasValue(2);
+		supplier.destroy();
+	}
+
+	@Test
+	public void completedWatchShouldBeOpenedAgain() {
+		AtomicInteger watches = new AtomicInteger();
+		KubernetesPodsListSupplier supplier = new KubernetesPodsListSupplier(this.environment,
+				serviceId -> watches.incrementAndGet() == 1 ? Flux.just(Collections.singletonList(instance("10.0.0.1")))
+						: Flux.just(Collections.singletonList(instance("10.0.0.2"))).concatWith(Flux.never()));
+
+		assertThat(supplier.get().filter(instances -> "10.0.0.2".equals(instances.get(0).getHost()))
+				.blockFirst(Duration.ofSeconds(10))).hasSize(1);
+		assertThat(watches).hasValue(2);
+		supplier.destroy();
+	}
+
+	private static ServiceInstance instance(String host) {
+		return new KubernetesServiceInstance(host, "service1", host, 8080, Collections.emptyMap(), false);
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KubernetesServiceInstanceCacheTests {
+
+	private final KubernetesServiceInstanceCache cache = new KubernetesServiceInstanceCache();
+
+	private final AtomicInteger mappings = new AtomicInteger();
+
+	@Test
+	public void unchangedServiceShouldMapToTheSameInstance() {
+		List<KubernetesServiceInstance> first = this.cache.get("service1", "uid1", "1", () -> map(8080));
+		List<KubernetesServiceInstance> second = this.cache.get("service1", "uid1", "1", () -> map(8080));
+
+		assertThat(second).isSameAs(first);
+		assertThat(this.mappings).hasValue(1);
+	}
+
+	@Test
+	public void changedServiceShouldBeMappedAgain() {
+		this.cache.get("service1", "uid1", "1", () -> map(8080));
+		List<KubernetesServiceInstance> changed = this.cache.get("service1", "uid1", "2", () -> map(8081));
+
+		assertThat(changed).extracting(KubernetesServiceInstance::getPort).containsExactly(8081);
+		assertThat(this.cache.get("service1", "uid1", "2", () -> map(8082))).isSameAs(changed);
+		assertThat(this.cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void servicesWithoutVersionShouldNotBeCached() {
+		this.cache.get("service1", "uid1", null, () -> map(8080));
+		this.cache.get("service1", null, "1", () -> map(8080));
+
+		assertThat(this.mappings).hasValue(2);
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	public void serviceWithoutInstanceShouldBeCached() {
+		assertThat(this.cache.get("service1", "uid1", "1", () -> {
+			this.mappings.incrementAndGet();
+			return Collections.emptyList();
+		})).isEmpty();
+		assertThat(this.cache.get("service1", "uid1", "1", () -> map(8080))).isEmpty();
+		assertThat(this.mappings).hasValue(1);
+	}
+
+	@Test
+	public void servicesNoLongerListedShouldBeEvicted() {
+		this.cache.get("service1", "uid1", "1", () -> map(8080));
+		this.cache.get("service1", "uid2", "1", () -> map(8080));
+		this.cache.get("service2", "uid3", "1", () -> map(8080));
+
+		this.cache.retain("service1", Collections.singleton("uid2"));
+		assertThat(this.cache.size()).isEqualTo(2);
+		this.cache.get("service1", "uid2", "1", () -> map(8081));
+		assertThat(this.mappings).hasValue(3);
+
+		this.cache.retain("service1", Collections.emptySet());
+		this.cache.retain("service3", Collections.emptySet());
+		assertThat(this.cache.size()).isEqualTo(1);
+	}
+
+	private List<KubernetesServiceInstance> map(int port) {
+		this.mappings.incrementAndGet();
+		return Collections.singletonList(new KubernetesServiceInstance("uid1", "service1",
+				"service1.test.svc.cluster.local", port, Collections.emptyMap(), false));
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KubernetesWeightedLoadBalancerTests {
+
+	@Test
+	public void requestsShouldBeSpreadByWeight() {
+		List<ServiceInstance> instances = Arrays.asList(instance("small", "1"), instance("large", "3"),
+				instance("drained", "0"));
+		KubernetesWeightedLoadBalancer loadBalancer = new KubernetesWeightedLoadBalancer(
+				KubernetesLeastOutstandingRequestsLoadBalancerTests.supplier(instances), "service1", "weight");
+
+		Map<String, Integer> counts = new HashMap<>();
+		for (int i = 0; i < 4000; i++) {
+			counts.merge(loadBalancer.choose(new DefaultRequest<>()).block().getServer().getInstanceId(), 1,
+					Integer::sum);
+		}
+
+		assertThat(counts).doesNotContainKey("drained");
+		assertThat(counts.get("large")).isBetween(2700, 3300);
+	}
+
+	@Test
+	public void missingOrInvalidWeightsShouldCountAsOne() {
+		List<ServiceInstance> instances = Arrays.asList(instance("missing", null), instance("invalid", "heavy"));
+		KubernetesWeightedLoadBalancer loadBalancer = new KubernetesWeightedLoadBalancer(
+				KubernetesLeastOutstandingRequestsLoadBalancerTests.supplier(instances), "service1", "weight");
+
+		Map<String, Integer> counts = new HashMap<>();
+		for (int i = 0; i < 1000; i++) {
+			counts.merge(loadBalancer.choose(new DefaultRequest<>()).block().getServer().getInstanceId(), 1,
+					Integer::sum);
+		}
+
+		assertThat(counts).containsOnlyKeys("missing", "invalid");
+	}
+
+	@Test
+	public void weightsOfThePodsShouldTakePrecedenceOverTheMetadata() throws InterruptedException {
+		List<ServiceInstance> instances = Arrays.asList(instance("small", "1"), instance("large", "1"),
+				instance("drained", "1"));
+		Map<String, String> podWeights = new HashMap<>();
+		podWeights.put("large", "3");
+		podWeights.put("drained", "0");
+		AtomicInteger lookups = new AtomicInteger();
+		KubernetesWeightedLoadBalancer loadBalancer = new KubernetesWeightedLoadBalancer(
+				KubernetesLeastOutstandingRequestsLoadBalancerTests.supplier(instances), "service1", "weight",
+				instance -> {
+					lookups.incrementAndGet();
+					return podWeights.get(instance.getInstanceId());
+				});
+
+		// the pods are looked up in the background
+		long deadline = System.currentTimeMillis() + 5000;
+		Map<String, Integer> counts = counts(loadBalancer, 600);
+		while ((counts.containsKey("drained") || counts.getOrDefault("large", 0) < 400)
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+			counts = counts(loadBalancer, 600);
+		}
+
+		counts = counts(loadBalancer, 4000);
+		assertThat(counts).doesNotContainKey("drained");
+		assertThat(counts.get("large")).isBetween(2700, 3300);
+		assertThat(lookups).hasValue(3);
+	}
+
+	@Test
+	public void largeWeightsShouldNotOverflow() {
+		List<ServiceInstance> instances = Arrays.asList(instance("first", String.valueOf(Integer.MAX_VALUE)),
+				instance("second", String.valueOf(Integer.MAX_VALUE)));
+		KubernetesWeightedLoadBalancer loadBalancer = new KubernetesWeightedLoadBalancer(
+				KubernetesLeastOutstandingRequestsLoadBalancerTests.supplier(instances), "service1", "weight");
+
+		assertThat(counts(loadBalancer, 1000)).containsOnlyKeys("first", "second");
+	}
+
+	private static Map<String, Integer> counts(KubernetesWeightedLoadBalancer loadBalancer, int requests) {
+		Map<String, Integer> counts = new HashMap<>();
+		for (int i = 0; i < requests; i++) {
+			counts.merge(loadBalancer.choose(new DefaultRequest<>()).block().getServer().getInstanceId(), 1,
+					Integer::sum);
+		}
+		return counts;
+	}
+
+	private static ServiceInstance instance(String id, String weight) {
+		Map<String, String> metadata = weight != null ? Collections.singletonMap("weight", weight)
+				: Collections.emptyMap();
+		return new KubernetesServiceInstance(id, "service1", id, 8080, metadata, false);
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.commons.loadbalancer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KubernetesZonePreferenceServiceInstanceListSupplierTests {
+
+	private static final List<ServiceInstance> INSTANCES = Arrays.asList(instance("10.0.0.1", "a", "node1"),
+			instance("10.0.0.2", "a", "node2"), instance("10.0.0.3", "b", "node3"), instance("10.0.0.4", null, null));
+
+	private final KubernetesLoadBalancerProperties.ZonePreference properties = new KubernetesLoadBalancerProperties.ZonePreference();
+
+	@Test
+	public void instancesInTheZoneOfTheNodeShouldBePreferred() {
+		assertThat(hosts("node3", node -> "node3".equals(node) ? "b" : null)).containsExactly("10.0.0.3");
+	}
+
+	@Test
+	public void instancesOnTheSameNodeShouldBePreferred() {
+		properties.setPreferSameNode(true);
+		assertThat(hosts("node2", node -> "a")).containsExactly("10.0.0.2");
+	}
+
+	@Test
+	public void configuredZoneShouldBeUsed() {
+		properties.setZone("a");
+		assertThat(hosts(null, node -> null)).containsExactly("10.0.0.1", "10.0.0.2");
+	}
+
+	@Test
+	public void requestsShouldSpillOverBelowTheThresholds() {
+		properties.setZone("b");
+		properties.setMinInstances(2);
+		assertThat(hosts(null, node -> null)).hasSize(4);
+
+		properties.setZone("a");
+		properties.setMinRatio(0.75);
+		assertThat(hosts(null, node -> null)).hasSize(4);
+
+		properties.setPreferSameNode(true);
+		properties.setMinInstances(1);
+		properties.setMinRatio(0.5);
+		assertThat(hosts("node1", node -> "a")).containsExactly("10.0.0.1", "10.0.0.2");
+	}
+
+	@Test
+	public void unknownZoneShouldNotFilter() {
+		assertThat(hosts("node1", node -> {
+			throw new IllegalStateException("forbidden");
+		})).hasSize(4);
+	}
+
+	private List<String> hosts(String localNode, Function<String, String> nodeZone) {
+		ServiceInstanceListSupplier supplier = new KubernetesZonePreferenceServiceInstanceListSupplier(
+				new FixedSupplier(), properties, () -> localNode, nodeZone);
+		List<ServiceInstance> instances = supplier.get().blockFirst(Duration.ofSeconds(5));
+		return instances.stream().map(ServiceInstance::getHost).collect(Collectors.toList());
+	}
+
+	private static ServiceInstance instance(String host, String zone, String node) {
+		Map<String, String> metadata = new HashMap<>();
+		if (zone != null) {
+			metadata.put(KubernetesServiceInstance.ZONE_METADATA_KEY, zone);
+		}
+		if (node != null) {
+			metadata.put(KubernetesServiceInstance.NODE_METADATA_KEY, node);
+		}
+		return new KubernetesServiceInstance(host, "service1", host, 8080, metadata, false);
+	}
+
+	private static final class FixedSupplier implements ServiceInstanceListSupplier {
+
+		@Override
+		public String getServiceId() {
+			return "service1";
+		}
+
+		@Override
+		public Flux<List<ServiceInstance>> get() {
+			return Flux.just(INSTANCES);
+		}
+
+	}
+
+}
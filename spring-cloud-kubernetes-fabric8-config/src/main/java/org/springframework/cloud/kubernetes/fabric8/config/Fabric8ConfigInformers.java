@@ -0,0 +1,125 @@
+/*
+ * Copyright 2013-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.fabric8.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.StringUtils;
+
+/**
+ * Local caches of the ConfigMaps or Secrets of the namespaces read by a locator, each
+ * kept up to date by an informer. The informer of a namespace is started the first time
+ * the namespace is read. Until it has loaded its cache, resources are read from the API
+ * server, afterwards they are read from memory, so locating the property sources again on
+ * a reload check does not call the API server.
+ *
+ * @param <T> the type of the resources
+ * @param <L> the type of the lists of resources
+ */
+public class Fabric8ConfigInformers<T extends HasMetadata, L extends KubernetesResourceList<T>>
+		implements DisposableBean {
+
+	private static final Log LOG = LogFactory.getLog(Fabric8ConfigInformers.class);
+
+	private final KubernetesClient client;
+
+	private final Class<T> type;
+
+	private final Class<L> listType;
+
+	private final Map<String, SharedInformerFactory> factories = new ConcurrentHashMap<>();
+
+	private final Map<String, SharedIndexInformer<T>> informers = new ConcurrentHashMap<>();
+
+	public Fabric8ConfigInformers(KubernetesClient client, Class<T> type, Class<L> listType) {
+		this.client = client;
+		this.type = type;
+		this.listType = listType;
+	}
+
+	/**
+	 * Returns a resource from the cache of its namespace once it is loaded.
+	 * @param namespace the namespace of the resource
+	 * @param name the name of the resource
+	 * @param reader reads the resource from the API server, while the cache is loading
+	 * @return the resource, or null if it does not exist
+	 */
+	public T get(String namespace, String name, Supplier<T> reader) {
+		SharedIndexInformer<T> informer = informer(namespace);
+		if (informer == null || !informer.hasSynced()) {
+			return reader.get();
+		}
+		return informer.getIndexer().getByKey(namespace + "/" + name);
+	}
+
+	/**
+	 * Returns the resources with the given labels from the cache of their namespace once
+	 * it is loaded.
+	 * @param namespace the namespace of the resources
+	 * @param labels the labels of the resources
+	 * @param reader lists the resources from the API server, while the cache is loading
+	 * @return the resources
+	 */
+	public List<T> list(String namespace, Map<String, String> labels, Supplier<List<T>> reader) {
+		SharedIndexInformer<T> informer = informer(namespace);
+		if (informer == null || !informer.hasSynced()) {
+			return reader.get();
+		}
+		return informer.getIndexer().list().stream().filter(resource -> {
+			Map<String, String> resourceLabels = resource.getMetadata().getLabels();
+			return resourceLabels != null && resourceLabels.entrySet().containsAll(labels.entrySet());
+		}).collect(Collectors.toList());
+	}
+
+	private SharedIndexInformer<T> informer(String namespace) {
+		// resources looked up in all namespaces are always read from the API server
+		if (!StringUtils.hasText(namespace)) {
+			return null;
+		}
+		return this.informers.computeIfAbsent(namespace, this::startInformer);
+	}
+
+	private SharedIndexInformer<T> startInformer(String namespace) {
+		LOG.debug("Starting the informer of the " + this.type.getSimpleName() + "s of namespace " + namespace);
+		SharedInformerFactory factory = this.client.informers();
+		SharedIndexInformer<T> informer = factory.sharedIndexInformerFor(this.type, this.listType,
+				new OperationContext().withNamespace(namespace), 0);
+		factory.startAllRegisteredInformers();
+		this.factories.put(namespace, factory);
+		return informer;
+	}
+
+	@Override
+	public void destroy() {
+		this.factories.values().forEach(SharedInformerFactory::stopAllRegisteredInformers);
+	}
+
+}
@@ -16,16 +16,21 @@
 
 package org.springframework.cloud.kubernetes.fabric8.config;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.kubernetes.commons.config.ConfigMapPropertySource;
+import org.springframework.cloud.kubernetes.commons.config.ConfigResourceCache;
+import org.springframework.cloud.kubernetes.commons.config.ConfigUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.util.StringUtils;
@@ -43,40 +48,54 @@ public class Fabric8ConfigMapPropertySource extends ConfigMapPropertySource {
 
 	private static final Log LOG = LogFactory.getLog(Fabric8ConfigMapPropertySource.class);
 
+	private static final String KIND = "configmap";
+
 	public Fabric8ConfigMapPropertySource(KubernetesClient client, String name) {
 		this(client, name, null, null);
 	}
 
 	public Fabric8ConfigMapPropertySource(KubernetesClient client, String applicationName, String namespace,
 			Environment environment) {
+		this(client, applicationName, namespace, environment, new ConfigResourceCache());
+	}
+
+	public Fabric8ConfigMapPropertySource(KubernetesClient client, String applicationName, String namespace,
+			Environment environment, ConfigResourceCache cache) {
+		this(client, applicationName, namespace, environment, cache, null);
+	}
+
+	public Fabric8ConfigMapPropertySource(KubernetesClient client, String applicationName, String namespace,
+			Environment environment, ConfigResourceCache cache,
+			Fabric8ConfigInformers<ConfigMap, ConfigMapList> informers) {
 		super(getName(applicationName, getNamespace(client, namespace)),
-				getData(client, applicationName, getNamespace(client, namespace), environment));
+				getData(client, applicationName, getNamespace(client, namespace), environment, cache, informers));
 	}
 
 	private static Map<String, Object> getData(KubernetesClient client, String applicationName, String namespace,
-			Environment environment) {
+			Environment environment, ConfigResourceCache cache,
+			Fabric8ConfigInformers<ConfigMap, ConfigMapList> informers) {
 		try {
-			Map<String, Object> result = new HashMap<>();
-			ConfigMap map = !StringUtils.hasLength(namespace) ? client.configMaps().withName(applicationName).get()
-					: client.configMaps().inNamespace(namespace).withName(applicationName).get();
-
-			if (map != null) {
-				result.putAll(processAllEntries(map.getData(), environment));
-			}
-
+			List<String> names = new ArrayList<>();
+			names.add(applicationName);
 			if (environment != null) {
 				for (String activeProfile : environment.getActiveProfiles()) {
+					names.add(applicationName + "-" + activeProfile);
+				}
+			}
 
-					String mapNameWithProfile = applicationName + "-" + activeProfile;
-
-					ConfigMap mapWithProfile = !StringUtils.hasLength(namespace)
-							? client.configMaps().withName(mapNameWithProfile).get()
-							: client.configMaps().inNamespace(namespace).withName(mapNameWithProfile).get();
-
-					if (mapWithProfile != null) {
-						result.putAll(processAllEntries(mapWithProfile.getData(), environment));
-					}
+			List<ConfigMap> maps = ConfigUtils.fetchConcurrently(names,
+					name -> cache.getResource(KIND, namespace, name,
+							() -> informers != null
+									? informers.get(namespace, name, () -> getConfigMap(client, namespace, name))
+									: getConfigMap(client, namespace, name)));
 
+			Map<String, Object> result = new HashMap<>();
+			for (int i = 0; i < maps.size(); i++) {
+				ConfigMap map = maps.get(i);
+				if (map != null) {
+					String resourceVersion = map.getMetadata() != null ? map.getMetadata().getResourceVersion() : null;
+					result.putAll(cache.getProperties(KIND, namespace, names.get(i), resourceVersion, environment,
+							() -> processAllEntries(map.getData(), environment)));
 				}
 			}
 
@@ -91,4 +110,9 @@ public class Fabric8ConfigMapPropertySource extends ConfigMapPropertySource {
 		return Collections.emptyMap();
 	}
 
+	private static ConfigMap getConfigMap(KubernetesClient client, String namespace, String name) {
+		return !StringUtils.hasLength(namespace) ? client.configMaps().withName(name).get()
+				: client.configMaps().inNamespace(namespace).withName(name).get();
+	}
+
 }
@@ -16,12 +16,16 @@
 
 package org.springframework.cloud.kubernetes.fabric8.config;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.bootstrap.config.PropertySourceLocator;
 import org.springframework.cloud.kubernetes.commons.config.ConfigMapConfigProperties;
 import org.springframework.cloud.kubernetes.commons.config.ConfigMapConfigProperties.NormalizedSource;
 import org.springframework.cloud.kubernetes.commons.config.ConfigMapPropertySourceLocator;
+import org.springframework.cloud.kubernetes.commons.config.ConfigResourceCache;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
@@ -35,21 +39,40 @@ import static org.springframework.cloud.kubernetes.fabric8.config.Fabric8ConfigU
  * @author Michael Moudatsos
  */
 @Order(0)
-public class Fabric8ConfigMapPropertySourceLocator extends ConfigMapPropertySourceLocator {
+public class Fabric8ConfigMapPropertySourceLocator extends ConfigMapPropertySourceLocator implements DisposableBean {
 
 	private final KubernetesClient client;
 
+	private final Fabric8ConfigInformers<ConfigMap, ConfigMapList> informers;
+
 	public Fabric8ConfigMapPropertySourceLocator(KubernetesClient client, ConfigMapConfigProperties properties) {
 		super(properties);
 		this.client = client;
+		this.informers = properties.isEnableInformer()
+				? new Fabric8ConfigInformers<>(client, ConfigMap.class, ConfigMapList.class) : null;
 	}
 
 	@Override
 	protected MapPropertySource getMapPropertySource(String applicationName, NormalizedSource normalizedSource,
 			String configurationTarget, ConfigurableEnvironment environment) {
+		return getMapPropertySource(applicationName, normalizedSource, configurationTarget, environment,
+				this.cache.newPass());
+	}
+
+	@Override
+	protected MapPropertySource getMapPropertySource(String applicationName, NormalizedSource normalizedSource,
+			String configurationTarget, ConfigurableEnvironment environment, ConfigResourceCache cache) {
 		String namespaceName = getApplicationNamespace(this.client, normalizedSource.getNamespace(),
 				configurationTarget);
-		return new Fabric8ConfigMapPropertySource(this.client, applicationName, namespaceName, environment);
+		return new Fabric8ConfigMapPropertySource(this.client, applicationName, namespaceName, environment, cache,
+				this.informers);
+	}
+
+	@Override
+	public void destroy() {
+		if (this.informers != null) {
+			this.informers.destroy();
+		}
 	}
 
 }
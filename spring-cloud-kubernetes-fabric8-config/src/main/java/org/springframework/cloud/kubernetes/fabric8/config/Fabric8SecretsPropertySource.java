@@ -17,13 +17,17 @@
 package org.springframework.cloud.kubernetes.fabric8.config;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.cloud.kubernetes.commons.config.ConfigResourceCache;
 import org.springframework.cloud.kubernetes.commons.config.SecretsPropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.util.StringUtils;
@@ -40,35 +44,45 @@ public class Fabric8SecretsPropertySource extends SecretsPropertySource {
 
 	private static final String PREFIX = "secrets";
 
+	private static final String KIND = "secret";
+
 	public Fabric8SecretsPropertySource(KubernetesClient client, Environment env, String name, String namespace,
 			Map<String, String> labels) {
-		super(getSourceName(name, namespace), getSourceData(client, env, name, namespace, labels));
+		this(client, env, name, namespace, labels, new ConfigResourceCache());
+	}
+
+	public Fabric8SecretsPropertySource(KubernetesClient client, Environment env, String name, String namespace,
+			Map<String, String> labels, ConfigResourceCache cache) {
+		this(client, env, name, namespace, labels, cache, null);
+	}
+
+	public Fabric8SecretsPropertySource(KubernetesClient client, Environment env, String name, String namespace,
+			Map<String, String> labels, ConfigResourceCache cache,
+			Fabric8ConfigInformers<Secret, SecretList> informers) {
+		super(getSourceName(name, namespace), getSourceData(client, env, name, namespace, labels, cache, informers));
 	}
 
 	private static Map<String, Object> getSourceData(KubernetesClient client, Environment env, String name,
-			String namespace, Map<String, String> labels) {
+			String namespace, Map<String, String> labels, ConfigResourceCache cache,
+			Fabric8ConfigInformers<Secret, SecretList> informers) {
 		Map<String, Object> result = new HashMap<>();
 
 		try {
 			// Read for secrets api (named)
-			Secret secret;
-			if (StringUtils.isEmpty(namespace)) {
-				secret = client.secrets().withName(name).get();
-			}
-			else {
-				secret = client.secrets().inNamespace(namespace).withName(name).get();
-			}
+			Supplier<Secret> secretReader = () -> StringUtils.isEmpty(namespace) ? client.secrets().withName(name).get()
+					: client.secrets().inNamespace(namespace).withName(name).get();
+			Secret secret = cache.getResource(KIND, namespace, name,
+					informers != null ? () -> informers.get(namespace, name, secretReader) : secretReader);
 			putAll(secret, result);
 
 			// Read for secrets api (label)
 			if (!labels.isEmpty()) {
-				if (StringUtils.isEmpty(namespace)) {
-					client.secrets().withLabels(labels).list().getItems().forEach(s -> putAll(s, result));
-				}
-				else {
-					client.secrets().inNamespace(namespace).withLabels(labels).list().getItems()
-							.forEach(s -> putAll(s, result));
-				}
+				Supplier<List<Secret>> secretsReader = () -> StringUtils.isEmpty(namespace)
+						? client.secrets().withLabels(labels).list().getItems()
+						: client.secrets().inNamespace(namespace).withLabels(labels).list().getItems();
+				List<Secret> secrets = cache.getResource(KIND, namespace, "labels:" + labels,
+						informers != null ? () -> informers.list(namespace, labels, secretsReader) : secretsReader);
+				secrets.forEach(s -> putAll(s, result));
 			}
 		}
 		catch (Exception e) {
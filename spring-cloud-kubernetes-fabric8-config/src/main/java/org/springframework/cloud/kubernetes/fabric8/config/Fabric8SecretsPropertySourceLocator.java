@@ -16,9 +16,13 @@
 
 package org.springframework.cloud.kubernetes.fabric8.config;
 
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.bootstrap.config.PropertySourceLocator;
+import org.springframework.cloud.kubernetes.commons.config.ConfigResourceCache;
 import org.springframework.cloud.kubernetes.commons.config.SecretsConfigProperties;
 import org.springframework.cloud.kubernetes.commons.config.SecretsPropertySourceLocator;
 import org.springframework.core.annotation.Order;
@@ -34,22 +38,40 @@ import static org.springframework.cloud.kubernetes.commons.config.ConfigUtils.ge
  * @author Haytham Mohamed
  */
 @Order(1)
-public class Fabric8SecretsPropertySourceLocator extends SecretsPropertySourceLocator {
+public class Fabric8SecretsPropertySourceLocator extends SecretsPropertySourceLocator implements DisposableBean {
 
 	private final KubernetesClient client;
 
+	private final Fabric8ConfigInformers<Secret, SecretList> informers;
+
 	public Fabric8SecretsPropertySourceLocator(KubernetesClient client, SecretsConfigProperties properties) {
 		super(properties);
 		this.client = client;
+		this.informers = properties.isEnableInformer()
+				? new Fabric8ConfigInformers<>(client, Secret.class, SecretList.class) : null;
 	}
 
 	@Override
 	protected MapPropertySource getPropertySource(ConfigurableEnvironment environment,
 			SecretsConfigProperties.NormalizedSource normalizedSource, String configurationTarget) {
+		return getPropertySource(environment, normalizedSource, configurationTarget, this.cache.newPass());
+	}
+
+	@Override
+	protected MapPropertySource getPropertySource(ConfigurableEnvironment environment,
+			SecretsConfigProperties.NormalizedSource normalizedSource, String configurationTarget,
+			ConfigResourceCache cache) {
 		return new Fabric8SecretsPropertySource(this.client, environment,
 				getApplicationName(environment, normalizedSource.getName(), configurationTarget), Fabric8ConfigUtils
 						.getApplicationNamespace(this.client, normalizedSource.getNamespace(), configurationTarget),
-				normalizedSource.getLabels());
+				normalizedSource.getLabels(), cache, this.informers);
+	}
+
+	@Override
+	public void destroy() {
+		if (this.informers != null) {
+			this.informers.destroy();
+		}
 	}
 
 }
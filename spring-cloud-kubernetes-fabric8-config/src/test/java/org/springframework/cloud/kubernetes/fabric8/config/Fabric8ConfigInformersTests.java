@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.fabric8.config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.SecretList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true, https = false)
+public class Fabric8ConfigInformersTests {
+
+	private static KubernetesClient mockClient;
+
+	@Test
+	public void configMapsShouldBeReadFromTheInformerOnceLoaded() throws Exception {
+		mockClient.configMaps().inNamespace("informers").create(new ConfigMapBuilder().withNewMetadata().withName("app")
+				.withNamespace("informers").endMetadata().addToData("value", "1").build());
+		Fabric8ConfigInformers<ConfigMap, ConfigMapList> informers = new Fabric8ConfigInformers<>(mockClient,
+				ConfigMap.class, ConfigMapList.class);
+		try {
+			await(() -> informers.get("informers", "app", () -> null) != null);
+			assertThat(informers.get("informers", "app", () -> {
+				throw new IllegalStateException("read from the API server");
+			}).getData()).containsEntry("value", "1");
+			assertThat(informers.get("informers", "missing", () -> null)).isNull();
+
+			mockClient.configMaps().inNamespace("informers").createOrReplace(new ConfigMapBuilder().withNewMetadata()
+					.withName("app").withNamespace("informers").endMetadata().addToData("value", "2").build());
+			await(() -> "2".equals(informers.get("informers", "app", () -> null).getData().get("value")));
+		}
+		finally {
+			informers.destroy();
+		}
+	}
+
+	@Test
+	public void secretsShouldBeListedByLabelsFromTheInformer() throws Exception {
+		mockClient.secrets().inNamespace("labels").create(new SecretBuilder().withNewMetadata().withName("s1")
+				.withNamespace("labels").addToLabels("app", "a").endMetadata().build());
+		mockClient.secrets().inNamespace("labels").create(new SecretBuilder().withNewMetadata().withName("s2")
+				.withNamespace("labels").addToLabels("app", "b").endMetadata().build());
+		Fabric8ConfigInformers<Secret, SecretList> informers = new Fabric8ConfigInformers<>(mockClient, Secret.class,
+				SecretList.class);
+		try {
+			await(() -> informers.get("labels", "s1", () -> null) != null);
+			List<Secret> secrets = informers.list("labels", Collections.singletonMap("app", "b"),
+					Collections::emptyList);
+			assertThat(secrets).extracting(secret -> secret.getMetadata().getName()).containsExactly("s2");
+		}
+		finally {
+			informers.destroy();
+		}
+	}
+
+	private static void await(Supplier<Boolean> condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!condition.get()) {
+			assertThat(System.nanoTime()).as("condition met in time").isLessThan(deadline);
+			TimeUnit.MILLISECONDS.sleep(100);
+		}
+	}
+
+}
@@ -16,39 +16,87 @@
 
 package org.springframework.cloud.kubernetes.fabric8.discovery;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.model.EndpointAddress;
 import io.fabric8.kubernetes.api.model.EndpointSubset;
 import io.fabric8.kubernetes.api.model.Endpoints;
+import io.fabric8.kubernetes.api.model.EndpointsList;
 import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
+ * Publishes a {@link HeartbeatEvent} when the pods backing the discovered services
+ * change.
+ * <p>
+ * By default all Endpoints are listed on every scheduled run and the event carries the
+ * sorted pod names. When event based, the Endpoints are listed once and then watched, the
+ * pod names are tracked per Endpoints object and the event carries a version counter that
+ * is increased on every change. A watch closed by an error, e.g. when its resource
+ * version is too old, is re-established right away on a separate thread, backing off
+ * while that fails. The scheduled run then only re-establishes the watch after it was
+ * closed otherwise. Unless all namespaces are used, the Endpoints of each of the
+ * configured namespaces are listed and watched.
+ *
  * @author Oleg Vyukov
  */
-public class KubernetesCatalogWatch implements ApplicationEventPublisherAware {
+public class KubernetesCatalogWatch implements ApplicationEventPublisherAware, DisposableBean {
 
 	private static final Logger logger = LoggerFactory.getLogger(KubernetesCatalogWatch.class);
 
+	private static final long MAX_RESTART_DELAY_MILLIS = 30000;
+
 	private final KubernetesClient kubernetesClient;
 
 	private final KubernetesDiscoveryProperties properties;
 
 	private final AtomicReference<List<String>> catalogEndpointsState = new AtomicReference<>();
 
+	/**
+	 * Sorted pod names keyed by namespace and name of their Endpoints, only used when
+	 * event based.
+	 */
+	private final Map<String, List<String>> endpointsPodNames = new ConcurrentHashMap<>();
+
+	private final AtomicLong catalogVersion = new AtomicLong();
+
+	private volatile List<Watch> watches;
+
+	private ScheduledExecutorService restartExecutor;
+
+	private ScheduledFuture<?> pendingRestart;
+
+	private int restartAttempts;
+
+	private boolean destroyed;
+
 	private ApplicationEventPublisher publisher;
 
 	public KubernetesCatalogWatch(KubernetesClient kubernetesClient, KubernetesDiscoveryProperties properties) {
@@ -63,15 +111,19 @@ public class KubernetesCatalogWatch implements ApplicationEventPublisherAware {
 
 	@Scheduled(fixedDelayString = "${spring.cloud.kubernetes.discovery.catalogServicesWatchDelay:30000}")
 	public void catalogServicesWatch() {
+		if (this.properties.isCatalogServicesWatchEventBased()) {
+			if (this.watches == null) {
+				startWatch();
+			}
+			return;
+		}
 		try {
 			List<String> previousState = this.catalogEndpointsState.get();
 
 			// not all pods participate in the service discovery. only those that have
 			// endpoints.
-			List<Endpoints> endpoints = this.properties.isAllNamespaces()
-					? this.kubernetesClient.endpoints().inAnyNamespace().withLabels(properties.getServiceLabels())
-							.list().getItems()
-					: this.kubernetesClient.endpoints().withLabels(properties.getServiceLabels()).list().getItems();
+			List<Endpoints> endpoints = endpoints().stream().flatMap(operation -> operation.list().getItems().stream())
+					.collect(Collectors.toList());
 			List<String> endpointsPodNames = endpoints.stream().map(Endpoints::getSubsets).filter(Objects::nonNull)
 					.flatMap(Collection::stream).map(EndpointSubset::getAddresses).filter(Objects::nonNull)
 					.flatMap(Collection::stream).map(EndpointAddress::getTargetRef).filter(Objects::nonNull)
@@ -92,4 +144,154 @@ public class KubernetesCatalogWatch implements ApplicationEventPublisherAware {
 		}
 	}
 
+	@Override
+	public void destroy() {
+		List<Watch> current;
+		synchronized (this) {
+			this.destroyed = true;
+			current = this.watches;
+			this.watches = null;
+			if (this.restartExecutor != null) {
+				this.restartExecutor.shutdownNow();
+			}
+		}
+		if (current != null) {
+			current.forEach(Watch::close);
+		}
+	}
+
+	private synchronized void startWatch() {
+		if (this.watches != null || this.destroyed) {
+			return;
+		}
+		List<Watch> started = new ArrayList<>();
+		try {
+			this.endpointsPodNames.clear();
+			EndpointsWatcher watcher = new EndpointsWatcher(started);
+			for (FilterWatchListDeletable<Endpoints, EndpointsList, Boolean, Watch> operation : endpoints()) {
+				EndpointsList endpoints = operation.list();
+				endpoints.getItems().forEach(this::updatePodNames);
+				logger.trace("Watching endpoints from resource version {}",
+						endpoints.getMetadata().getResourceVersion());
+				started.add(operation.watch(endpoints.getMetadata().getResourceVersion(), watcher));
+			}
+			this.watches = started;
+			this.restartAttempts = 0;
+			// changes while the watch was down are unknown, so always signal one
+			this.publisher.publishEvent(new HeartbeatEvent(this, this.catalogVersion.incrementAndGet()));
+		}
+		catch (Exception e) {
+			started.forEach(Watch::close);
+			logger.error("Error watching Kubernetes Services", e);
+			if (this.restartAttempts > 0) {
+				scheduleRestart();
+			}
+		}
+	}
+
+	/**
+	 * Re-establishes the watch off the thread of the closed watch, right away on the
+	 * first attempt and then backing off exponentially up to
+	 * {@link #MAX_RESTART_DELAY_MILLIS}.
+	 */
+	private synchronized void scheduleRestart() {
+		if (this.destroyed || (this.pendingRestart != null && !this.pendingRestart.isDone())) {
+			return;
+		}
+		if (this.restartExecutor == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("catalog-watch-");
+			threadFactory.setDaemon(true);
+			this.restartExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
+		long delay = this.restartAttempts == 0 ? 0
+				: Math.min(MAX_RESTART_DELAY_MILLIS, 1000L << Math.min(this.restartAttempts - 1, 5));
+		this.restartAttempts++;
+		logger.debug("Re-establishing the endpoints watch in {} ms", delay);
+		this.pendingRestart = this.restartExecutor.schedule(this::startWatch, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Clears the watches if they are still the current ones.
+	 * @return true if they were cleared
+	 */
+	private synchronized boolean clearWatches(List<Watch> closed) {
+		if (this.watches != closed) {
+			return false;
+		}
+		this.watches = null;
+		return true;
+	}
+
+	private List<FilterWatchListDeletable<Endpoints, EndpointsList, Boolean, Watch>> endpoints() {
+		if (!this.properties.isAllNamespaces() && !this.properties.getNamespaces().isEmpty()) {
+			return this.properties.getNamespaces().stream().map(namespace -> this.kubernetesClient.endpoints()
+					.inNamespace(namespace).withLabels(properties.getServiceLabels())).collect(Collectors.toList());
+		}
+		return Collections.singletonList(this.properties.isAllNamespaces()
+				? this.kubernetesClient.endpoints().inAnyNamespace().withLabels(properties.getServiceLabels())
+				: this.kubernetesClient.endpoints().withLabels(properties.getServiceLabels()));
+	}
+
+	/**
+	 * Stores the pod names of a single Endpoints object.
+	 * @return true if they differ from the previously stored ones
+	 */
+	private boolean updatePodNames(Endpoints endpoints) {
+		String key = endpointsKey(endpoints);
+		List<String> podNames = podNames(endpoints);
+		List<String> previous = podNames.isEmpty() ? this.endpointsPodNames.remove(key)
+				: this.endpointsPodNames.put(key, podNames);
+		return !podNames.equals(previous == null ? Collections.emptyList() : previous);
+	}
+
+	private static String endpointsKey(Endpoints endpoints) {
+		return endpoints.getMetadata() == null ? ""
+				: endpoints.getMetadata().getNamespace() + "/" + endpoints.getMetadata().getName();
+	}
+
+	private static List<String> podNames(Endpoints endpoints) {
+		if (endpoints.getSubsets() == null) {
+			return Collections.emptyList();
+		}
+		return endpoints.getSubsets().stream().map(EndpointSubset::getAddresses).filter(Objects::nonNull)
+				.flatMap(Collection::stream).map(EndpointAddress::getTargetRef).filter(Objects::nonNull)
+				.map(ObjectReference::getName).sorted(String::compareTo).collect(Collectors.toList());
+	}
+
+	private class EndpointsWatcher implements Watcher<Endpoints> {
+
+		private final List<Watch> started;
+
+		EndpointsWatcher(List<Watch> started) {
+			this.started = started;
+		}
+
+		@Override
+		public void eventReceived(Action action, Endpoints endpoints) {
+			boolean changed = action == Action.DELETED ? endpointsPodNames.remove(endpointsKey(endpoints)) != null
+					: updatePodNames(endpoints);
+			if (changed) {
+				long version = catalogVersion.incrementAndGet();
+				logger.trace("Received endpoints {} event for {}, catalog version {}", action, endpointsKey(endpoints),
+						version);
+				publisher.publishEvent(new HeartbeatEvent(KubernetesCatalogWatch.this, version));
+			}
+		}
+
+		@Override
+		public void onClose(KubernetesClientException cause) {
+			// closing the watches of the other namespaces ends up here as well
+			if (!clearWatches(this.started)) {
+				return;
+			}
+			// the watches of the other namespaces are re-established along with this one
+			this.started.forEach(Watch::close);
+			if (cause != null) {
+				logger.warn("Endpoints watch closed, re-establishing it", cause);
+				scheduleRestart();
+			}
+		}
+
+	}
+
 }
@@ -17,9 +17,14 @@
 package org.springframework.cloud.kubernetes.fabric8.discovery;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -34,17 +39,18 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.kubernetes.commons.ConcurrentFetcher;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceFilter;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
-import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstanceMetadata;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 import static java.util.stream.Collectors.toMap;
 import static org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance.NAMESPACE_METADATA_KEY;
+import static org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance.NODE_METADATA_KEY;
 
 /**
  * Kubernetes implementation of {@link DiscoveryClient}.
@@ -62,19 +68,22 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
 
 	private static final String HTTP_PORT_NAME = "http";
 
+	private static final int DEFAULT_BATCH_LIST_THRESHOLD = 10;
+
+	private static final ConcurrentFetcher FETCHER = new ConcurrentFetcher("kubernetes-discovery-fetch-");
+
 	private final KubernetesDiscoveryProperties properties;
 
 	private final ServicePortSecureResolver servicePortSecureResolver;
 
 	private final KubernetesClientServicesFunction kubernetesClientServicesFunction;
 
-	private final SpelExpressionParser parser = new SpelExpressionParser();
-
-	private final SimpleEvaluationContext evalCtxt = SimpleEvaluationContext.forReadOnlyDataBinding()
-			.withInstanceMethods().build();
+	private final KubernetesServiceFilter<Service> serviceFilter;
 
 	private KubernetesClient client;
 
+	private int batchListThreshold = DEFAULT_BATCH_LIST_THRESHOLD;
+
 	public KubernetesDiscoveryClient(KubernetesClient client,
 			KubernetesDiscoveryProperties kubernetesDiscoveryProperties,
 			KubernetesClientServicesFunction kubernetesClientServicesFunction) {
@@ -91,6 +100,9 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
 		this.properties = kubernetesDiscoveryProperties;
 		this.kubernetesClientServicesFunction = kubernetesClientServicesFunction;
 		this.servicePortSecureResolver = servicePortSecureResolver;
+		this.serviceFilter = new KubernetesServiceFilter<>(Service.class, kubernetesDiscoveryProperties,
+				service -> service.getMetadata() == null ? null : service.getMetadata().getLabels(),
+				service -> service.getMetadata() == null ? null : service.getMetadata().getAnnotations());
 	}
 
 	public KubernetesClient getClient() {
@@ -116,14 +128,105 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
 		List<ServiceInstance> instances = new ArrayList<>();
 		if (!subsetsNS.isEmpty()) {
 			for (EndpointSubsetNS es : subsetsNS) {
-				instances.addAll(this.getNamespaceServiceInstances(es, serviceId));
+				instances.addAll(this.getNamespaceServiceInstances(es, serviceId, this::getService));
 			}
 		}
 
 		return instances;
 	}
 
+	/**
+	 * Returns the instances of several services at once. Up to a few services, their
+	 * Endpoints and Services are read concurrently with one call selecting each service
+	 * by name. Above that, they are each read with a single list call instead of one call
+	 * per service.
+	 * @param serviceIds the names of the services
+	 * @return the instances keyed by service name, in the order of the given names
+	 */
+	public Map<String, List<ServiceInstance>> getInstances(Collection<String> serviceIds) {
+		Assert.notNull(serviceIds, "[Assertion failed] - the object argument must not be null");
+
+		Map<String, List<ServiceInstance>> instances = new LinkedHashMap<>();
+		serviceIds.forEach(serviceId -> instances.put(serviceId, new ArrayList<>()));
+		if (instances.isEmpty()) {
+			return instances;
+		}
+
+		List<Endpoints> endpointsList = this.getEndPointsList(instances.keySet());
+		if (endpointsList.isEmpty()) {
+			return instances;
+		}
+		Set<String> listed = endpointsList.stream().map(endpoints -> endpoints.getMetadata().getName())
+				.collect(Collectors.toSet());
+		Map<String, Service> services = this.getServicesList(listed).stream().collect(
+				Collectors.toMap(s -> s.getMetadata().getNamespace() + "/" + s.getMetadata().getName(), s -> s));
+		for (Endpoints endpoints : endpointsList) {
+			String serviceId = endpoints.getMetadata().getName();
+			instances.get(serviceId).addAll(this.getNamespaceServiceInstances(this.getSubsetsFromEndpoints(endpoints),
+					serviceId, (namespace, name) -> services.get(namespace + "/" + name)));
+		}
+		return instances;
+	}
+
+	/**
+	 * Lists the Endpoints of the given services, with one call per service up to the
+	 * batch list threshold and a single call above it.
+	 */
+	List<Endpoints> getEndPointsList(Set<String> serviceIds) {
+		if (serviceIds.size() <= this.batchListThreshold) {
+			return FETCHER.fetch(new ArrayList<>(serviceIds), serviceId -> getEndPointsList(serviceId)).stream()
+					.flatMap(List::stream).collect(Collectors.toList());
+		}
+		Set<String> namespaces = this.namespaces();
+		List<Endpoints> endpoints;
+		if (!namespaces.isEmpty()) {
+			endpoints = namespaces.stream()
+					.flatMap(namespace -> this.client.endpoints().inNamespace(namespace)
+							.withLabels(properties.getServiceLabels()).list().getItems().stream())
+					.collect(Collectors.toList());
+		}
+		else {
+			endpoints = this.properties.isAllNamespaces()
+					? this.client.endpoints().inAnyNamespace().withLabels(properties.getServiceLabels()).list()
+							.getItems()
+					: this.client.endpoints().withLabels(properties.getServiceLabels()).list().getItems();
+		}
+		return endpoints.stream().filter(e -> serviceIds.contains(e.getMetadata().getName()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Lists the Services with the given names, with one call per name up to the batch
+	 * list threshold and a single call above it.
+	 */
+	List<Service> getServicesList(Set<String> serviceIds) {
+		if (serviceIds.size() <= this.batchListThreshold) {
+			return FETCHER.fetch(new ArrayList<>(serviceIds), serviceId -> listServices(serviceId)).stream()
+					.flatMap(List::stream).collect(Collectors.toList());
+		}
+		return this.listServices().stream().filter(s -> serviceIds.contains(s.getMetadata().getName()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Sets the number of services above which {@link #getInstances(Collection)} lists all
+	 * the Endpoints and Services of the namespaces discovered instead of selecting each
+	 * service by name.
+	 * @param batchListThreshold the number of services
+	 */
+	void setBatchListThreshold(int batchListThreshold) {
+		this.batchListThreshold = batchListThreshold;
+	}
+
 	public List<Endpoints> getEndPointsList(String serviceId) {
+		Set<String> namespaces = this.namespaces();
+		if (!namespaces.isEmpty()) {
+			return namespaces.stream()
+					.flatMap(namespace -> this.client.endpoints().inNamespace(namespace)
+							.withField("metadata.name", serviceId).withLabels(properties.getServiceLabels()).list()
+							.getItems().stream())
+					.collect(Collectors.toList());
+		}
 		return this.properties.isAllNamespaces()
 				? this.client.endpoints().inAnyNamespace().withField("metadata.name", serviceId)
 						.withLabels(properties.getServiceLabels()).list().getItems()
@@ -131,13 +234,19 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
 						.withLabels(properties.getServiceLabels()).list().getItems();
 	}
 
-	private List<ServiceInstance> getNamespaceServiceInstances(EndpointSubsetNS es, String serviceId) {
+	private List<ServiceInstance> getNamespaceServiceInstances(EndpointSubsetNS es, String serviceId,
+			BiFunction<String, String, Service> serviceLookup) {
 		String namespace = es.getNamespace();
 		List<EndpointSubset> subsets = es.getEndpointSubset();
 		List<ServiceInstance> instances = new ArrayList<>();
 		if (!subsets.isEmpty()) {
-			final Service service = this.client.services().inNamespace(namespace).withName(serviceId).get();
-			final Map<String, String> serviceMetadata = this.getServiceMetadata(service);
+			final Service service = serviceLookup.apply(namespace, serviceId);
+			if (service == null) {
+				// the service was deleted after its endpoints were read
+				return instances;
+			}
+			final Map<String, String> serviceMetadata = KubernetesServiceInstanceMetadata
+					.shared(this.getServiceMetadata(service));
 			KubernetesDiscoveryProperties.Metadata metadataProps = this.properties.getMetadata();
 
 			String primaryPortName = this.properties.getPrimaryPortName();
@@ -148,8 +257,8 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
 
 			for (EndpointSubset s : subsets) {
 				// Extend the service metadata map with per-endpoint port information (if
-				// requested)
-				Map<String, String> endpointMetadata = new HashMap<>(serviceMetadata);
+				// requested), the instances of the subset share the resulting map
+				Map<String, String> endpointOverlay = new HashMap<>();
 				if (metadataProps.isAddPorts()) {
 					Map<String, String> ports = s.getPorts().stream()
 							.filter(port -> StringUtils.hasText(port.getName()))
@@ -158,31 +267,40 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
 					if (log.isDebugEnabled()) {
 						log.debug("Adding port metadata: " + portMetadata);
 					}
-					endpointMetadata.putAll(portMetadata);
+					endpointOverlay.putAll(portMetadata);
 				}
 
-				if (this.properties.isAllNamespaces()) {
-					endpointMetadata.put(NAMESPACE_METADATA_KEY, namespace);
+				if (this.properties.isAllNamespaces() || !this.properties.getNamespaces().isEmpty()) {
+					endpointOverlay.put(NAMESPACE_METADATA_KEY, namespace);
 				}
+				Map<String, String> endpointMetadata = KubernetesServiceInstanceMetadata.overlay(serviceMetadata,
+						endpointOverlay);
 
-				List<EndpointAddress> addresses = s.getAddresses();
+				// copy the addresses, the subset may be shared with an informer cache
+				List<EndpointAddress> addresses = s.getAddresses() != null ? new ArrayList<>(s.getAddresses())
+						: new ArrayList<>();
 
 				if (this.properties.isIncludeNotReadyAddresses()
 						&& !CollectionUtils.isEmpty(s.getNotReadyAddresses())) {
-					if (addresses == null) {
-						addresses = new ArrayList<>();
-					}
 					addresses.addAll(s.getNotReadyAddresses());
 				}
 
+				// addresses on the same node share their metadata
+				Map<String, Map<String, String>> metadataByNode = new HashMap<>();
 				for (EndpointAddress endpointAddress : addresses) {
 					int endpointPort = findEndpointPort(s, serviceId, primaryPortName);
 					String instanceId = null;
 					if (endpointAddress.getTargetRef() != null) {
 						instanceId = endpointAddress.getTargetRef().getUid();
 					}
+					Map<String, String> instanceMetadata = endpointMetadata;
+					if (endpointAddress.getNodeName() != null) {
+						instanceMetadata = metadataByNode.computeIfAbsent(endpointAddress.getNodeName(),
+								node -> KubernetesServiceInstanceMetadata.overlay(endpointMetadata,
+										Collections.singletonMap(NODE_METADATA_KEY, node)));
+					}
 					instances.add(new KubernetesServiceInstance(instanceId, serviceId, endpointAddress.getIp(),
-							endpointPort, endpointMetadata,
+							endpointPort, instanceMetadata,
 							this.servicePortSecureResolver.resolve(new ServicePortSecureResolver.Input(endpointPort,
 									service.getMetadata().getName(), service.getMetadata().getLabels(),
 									service.getMetadata().getAnnotations()))));
@@ -193,6 +311,10 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
 		return instances;
 	}
 
+	Service getService(String namespace, String serviceId) {
+		return this.client.services().inNamespace(namespace).withName(serviceId).get();
+	}
+
 	private Map<String, String> getServiceMetadata(Service service) {
 		final Map<String, String> serviceMetadata = new HashMap<>();
 		KubernetesDiscoveryProperties.Metadata metadataProps = this.properties.getMetadata();
@@ -285,27 +407,52 @@ public class KubernetesDiscoveryClient implements DiscoveryClient {
 
 	@Override
 	public List<String> getServices() {
-		String spelExpression = this.properties.getFilter();
-		Predicate<Service> filteredServices;
-		if (spelExpression == null || spelExpression.isEmpty()) {
-			filteredServices = (Service instance) -> true;
+		return getServices(this.serviceFilter.predicate());
+	}
+
+	public List<String> getServices(Predicate<Service> filter) {
+		return this.listServices().stream().filter(filter).map(s -> s.getMetadata().getName())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Lists the Services of the namespaces discovered, one call per namespace when a set
+	 * of namespaces is configured.
+	 */
+	private List<Service> listServices() {
+		Set<String> namespaces = this.namespaces();
+		if (namespaces.isEmpty()) {
+			return this.kubernetesClientServicesFunction.apply(this.client).list().getItems();
 		}
-		else {
-			Expression filterExpr = this.parser.parseExpression(spelExpression);
-			filteredServices = (Service instance) -> {
-				Boolean include = filterExpr.getValue(this.evalCtxt, instance, Boolean.class);
-				if (include == null) {
-					return false;
-				}
-				return include;
-			};
+		return namespaces.stream()
+				.flatMap(namespace -> this.client.services().inNamespace(namespace)
+						.withLabels(this.properties.getServiceLabels()).list().getItems().stream())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Lists the Services with the given name in the namespaces discovered, one call per
+	 * namespace when a set of namespaces is configured.
+	 */
+	private List<Service> listServices(String serviceId) {
+		Set<String> namespaces = this.namespaces();
+		if (namespaces.isEmpty()) {
+			return this.kubernetesClientServicesFunction.apply(this.client).withField("metadata.name", serviceId).list()
+					.getItems();
 		}
-		return getServices(filteredServices);
+		return namespaces.stream()
+				.flatMap(
+						namespace -> this.client.services().inNamespace(namespace).withField("metadata.name", serviceId)
+								.withLabels(this.properties.getServiceLabels()).list().getItems().stream())
+				.collect(Collectors.toList());
 	}
 
-	public List<String> getServices(Predicate<Service> filter) {
-		return this.kubernetesClientServicesFunction.apply(this.client).list().getItems().stream().filter(filter)
-				.map(s -> s.getMetadata().getName()).collect(Collectors.toList());
+	/**
+	 * The configured namespaces to discover services in, empty when discovering the
+	 * namespace of the client or all namespaces.
+	 */
+	private Set<String> namespaces() {
+		return this.properties.isAllNamespaces() ? Collections.emptySet() : this.properties.getNamespaces();
 	}
 
 	@Override
@@ -111,6 +111,10 @@ public class KubernetesDiscoveryClientAutoConfiguration {
 		public KubernetesDiscoveryClient kubernetesDiscoveryClient(KubernetesClient client,
 				KubernetesDiscoveryProperties properties,
 				KubernetesClientServicesFunction kubernetesClientServicesFunction) {
+			if (properties.isInformerEnabled()) {
+				return new KubernetesInformerDiscoveryClient(client, properties, kubernetesClientServicesFunction,
+						new ServicePortSecureResolver(properties));
+			}
 			return new KubernetesDiscoveryClient(client, properties, kubernetesClientServicesFunction,
 					new ServicePortSecureResolver(properties));
 		}
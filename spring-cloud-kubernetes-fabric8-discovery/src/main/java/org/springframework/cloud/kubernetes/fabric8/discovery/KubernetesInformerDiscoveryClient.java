@@ -0,0 +1,240 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.fabric8.discovery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.Endpoints;
+import io.fabric8.kubernetes.api.model.EndpointsList;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+
+/**
+ * {@link KubernetesDiscoveryClient} that serves lookups from shared informer caches for
+ * Services and Endpoints. Once the caches are synced the Kubernetes API server only
+ * carries the watch traffic of the informers.
+ */
+public class KubernetesInformerDiscoveryClient extends KubernetesDiscoveryClient
+		implements InitializingBean, DisposableBean {
+
+	private static final Log log = LogFactory.getLog(KubernetesInformerDiscoveryClient.class);
+
+	private final KubernetesDiscoveryProperties properties;
+
+	/**
+	 * One factory per namespace watched, shared informer factories only hold a single
+	 * informer per type. Started together, the caches of the namespaces load in parallel.
+	 */
+	private final List<SharedInformerFactory> sharedInformerFactories = new ArrayList<>();
+
+	private final List<SharedIndexInformer<?>> informers = new ArrayList<>();
+
+	/**
+	 * Listers keyed by the namespace they cache. A single one, keyed by the namespace of
+	 * the client, caches all namespaces when allNamespaces is set.
+	 */
+	private final Map<String, Lister<Service>> serviceListers = new LinkedHashMap<>();
+
+	private final Map<String, Lister<Endpoints>> endpointsListers = new LinkedHashMap<>();
+
+	/**
+	 * Set while the caches are loaded in the background, lookups are then served by the
+	 * API server.
+	 */
+	private volatile boolean loadingInBackground;
+
+	public KubernetesInformerDiscoveryClient(KubernetesClient client, KubernetesDiscoveryProperties properties,
+			KubernetesClientServicesFunction kubernetesClientServicesFunction) {
+		this(client, properties, kubernetesClientServicesFunction, new ServicePortSecureResolver(properties));
+	}
+
+	KubernetesInformerDiscoveryClient(KubernetesClient client, KubernetesDiscoveryProperties properties,
+			KubernetesClientServicesFunction kubernetesClientServicesFunction,
+			ServicePortSecureResolver servicePortSecureResolver) {
+		super(client, properties, kubernetesClientServicesFunction, servicePortSecureResolver);
+		this.properties = properties;
+
+		Set<String> namespaces = properties.isAllNamespaces() || properties.getNamespaces().isEmpty()
+				? Collections.singleton(client.getNamespace()) : properties.getNamespaces();
+		for (String namespace : namespaces) {
+			SharedInformerFactory sharedInformerFactory = informerFactory(client, properties.isAllNamespaces());
+
+			OperationContext context = new OperationContext();
+			if (!properties.isAllNamespaces()) {
+				context = context.withNamespace(namespace);
+			}
+			if (!properties.getServiceLabels().isEmpty()) {
+				context = context.withLabels(properties.getServiceLabels());
+			}
+
+			SharedIndexInformer<Service> serviceInformer = sharedInformerFactory.sharedIndexInformerFor(Service.class,
+					ServiceList.class, context, 0);
+			SharedIndexInformer<Endpoints> endpointsInformer = sharedInformerFactory
+					.sharedIndexInformerFor(Endpoints.class, EndpointsList.class, context, 0);
+			this.sharedInformerFactories.add(sharedInformerFactory);
+			this.informers.add(serviceInformer);
+			this.informers.add(endpointsInformer);
+			this.serviceListers.put(namespace, new Lister<>(serviceInformer.getIndexer()));
+			this.endpointsListers.put(namespace, new Lister<>(endpointsInformer.getIndexer()));
+		}
+	}
+
+	@Override
+	public String description() {
+		return "Kubernetes Informer Discovery Client";
+	}
+
+	@Override
+	public List<Endpoints> getEndPointsList(String serviceId) {
+		if (servedByApiServer()) {
+			return super.getEndPointsList(serviceId);
+		}
+		return findByNames(this.endpointsListers, Collections.singleton(serviceId));
+	}
+
+	@Override
+	List<Endpoints> getEndPointsList(Set<String> serviceIds) {
+		if (servedByApiServer()) {
+			return super.getEndPointsList(serviceIds);
+		}
+		return findByNames(this.endpointsListers, serviceIds);
+	}
+
+	@Override
+	List<Service> getServicesList(Set<String> serviceIds) {
+		if (servedByApiServer()) {
+			return super.getServicesList(serviceIds);
+		}
+		return findByNames(this.serviceListers, serviceIds);
+	}
+
+	@Override
+	Service getService(String namespace, String serviceId) {
+		if (servedByApiServer()) {
+			return super.getService(namespace, serviceId);
+		}
+		Lister<Service> lister = this.properties.isAllNamespaces() ? this.serviceListers.values().iterator().next()
+				: this.serviceListers.get(namespace);
+		return lister == null ? null : lister.namespace(namespace).get(serviceId);
+	}
+
+	@Override
+	public List<String> getServices(Predicate<Service> filter) {
+		if (servedByApiServer()) {
+			return super.getServices(filter);
+		}
+		return this.serviceListers.values().stream().flatMap(lister -> lister.list().stream()).filter(filter)
+				.map(s -> s.getMetadata().getName()).collect(Collectors.toList());
+	}
+
+	private <T extends HasMetadata> List<T> findByNames(Map<String, Lister<T>> listers, Set<String> names) {
+		if (this.properties.isAllNamespaces()) {
+			return listers.values().iterator().next().list().stream()
+					.filter(resource -> names.contains(resource.getMetadata().getName())).collect(Collectors.toList());
+		}
+		List<T> resources = new ArrayList<>();
+		listers.forEach((namespace, lister) -> {
+			Lister<T> namespaceLister = lister.namespace(namespace);
+			names.stream().map(namespaceLister::get).filter(Objects::nonNull).forEach(resources::add);
+		});
+		return resources;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		this.sharedInformerFactories.forEach(SharedInformerFactory::startAllRegisteredInformers);
+		if (this.properties.isLoadCacheInBackground()) {
+			// lookups go to the API server until the caches are loaded
+			this.loadingInBackground = true;
+			return;
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.properties.getCacheLoadingTimeoutSeconds());
+		while (!isCacheLoaded()) {
+			if (System.nanoTime() > deadline) {
+				if (this.properties.isWaitCacheReady()) {
+					throw new IllegalStateException(
+							"Timeout waiting for informers cache to be ready, is the kubernetes service up?");
+				}
+				log.warn(
+						"Timeout waiting for informers cache to be ready, ignoring the failure because waitForInformerCacheReady property is false");
+				return;
+			}
+			log.info("Waiting for the cache of informers to be fully loaded..");
+			TimeUnit.SECONDS.sleep(1);
+		}
+		logCacheLoaded();
+	}
+
+	/**
+	 * Whether the informer caches are loaded.
+	 * @return true when all informers have synced
+	 */
+	public boolean isCacheLoaded() {
+		return this.informers.stream().allMatch(SharedIndexInformer::hasSynced);
+	}
+
+	private boolean servedByApiServer() {
+		if (this.loadingInBackground && isCacheLoaded()) {
+			this.loadingInBackground = false;
+			logCacheLoaded();
+		}
+		return this.loadingInBackground;
+	}
+
+	private void logCacheLoaded() {
+		log.info("Cache fully loaded (total "
+				+ this.serviceListers.values().stream().mapToInt(lister -> lister.list().size()).sum()
+				+ " services) , discovery client is now available");
+	}
+
+	@Override
+	public void destroy() {
+		this.sharedInformerFactories.forEach(SharedInformerFactory::stopAllRegisteredInformers);
+	}
+
+	// informers created with a custom OperationContext fall back to the namespace of the
+	// client, so cluster wide informers have to come from a client not bound to one
+	private static SharedInformerFactory informerFactory(KubernetesClient client, boolean allNamespaces) {
+		if (allNamespaces && client instanceof NamespacedKubernetesClient) {
+			return ((NamespacedKubernetesClient) client).inAnyNamespace().informers();
+		}
+		return client.informers();
+	}
+
+}
@@ -16,8 +16,21 @@
 
 package org.springframework.cloud.kubernetes.fabric8.discovery.reactive;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.Endpoints;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import org.springframework.cloud.client.ServiceInstance;
@@ -37,8 +50,14 @@ public class KubernetesReactiveDiscoveryClient implements ReactiveDiscoveryClien
 
 	private final KubernetesDiscoveryClient kubernetesDiscoveryClient;
 
+	private final KubernetesClient client;
+
+	private final KubernetesDiscoveryProperties properties;
+
 	public KubernetesReactiveDiscoveryClient(KubernetesClient client, KubernetesDiscoveryProperties properties,
 			KubernetesClientServicesFunction kubernetesClientServicesFunction) {
+		this.client = client;
+		this.properties = properties;
 		this.kubernetesDiscoveryClient = new KubernetesDiscoveryClient(client, properties,
 				kubernetesClientServicesFunction);
 	}
@@ -55,6 +74,72 @@ public class KubernetesReactiveDiscoveryClient implements ReactiveDiscoveryClien
 				.subscribeOn(Schedulers.boundedElastic());
 	}
 
+	/**
+	 * Returns the instances of several services at once, as
+	 * {@link KubernetesDiscoveryClient#getInstances(Collection)} does.
+	 * @param serviceIds the names of the services
+	 * @return the instances keyed by service name, in the order of the given names
+	 */
+	public Mono<Map<String, List<ServiceInstance>>> getInstances(Collection<String> serviceIds) {
+		Assert.notNull(serviceIds, "[Assertion failed] - the object argument must not be null");
+		return Mono.fromCallable(() -> kubernetesDiscoveryClient.getInstances(serviceIds))
+				.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Emits the current instances of a service on subscription and a new list each time a
+	 * watch on the Endpoints of the service reports a change. One watch is opened in each
+	 * of the configured namespaces. A slow subscriber only receives the latest list and
+	 * lists equal to the previous one are skipped. The watches are closed when the
+	 * subscription is cancelled.
+	 * @param serviceId the name of the service
+	 * @return a stream of the instances of the service, failing when a watch is closed by
+	 * an error
+	 */
+	public Flux<List<ServiceInstance>> watchInstances(String serviceId) {
+		Assert.notNull(serviceId, "[Assertion failed] - the object argument must not be null");
+		return Flux.<String>create(sink -> {
+			AtomicInteger open = new AtomicInteger();
+			List<Watch> watches = watchEndpoints(serviceId, new Watcher<Endpoints>() {
+				@Override
+				public void eventReceived(Action action, Endpoints endpoints) {
+					sink.next(serviceId);
+				}
+
+				@Override
+				public void onClose(KubernetesClientException cause) {
+					if (cause != null) {
+						sink.error(cause);
+					}
+					else if (open.decrementAndGet() == 0) {
+						sink.complete();
+					}
+				}
+			}, open);
+			sink.onDispose(() -> watches.forEach(Watch::close));
+			sink.next(serviceId);
+		}, FluxSink.OverflowStrategy.LATEST).subscribeOn(Schedulers.boundedElastic())
+				.publishOn(Schedulers.boundedElastic(), 1).map(kubernetesDiscoveryClient::getInstances)
+				.distinctUntilChanged();
+	}
+
+	private List<Watch> watchEndpoints(String serviceId, Watcher<Endpoints> watcher, AtomicInteger open) {
+		if (!this.properties.isAllNamespaces() && !this.properties.getNamespaces().isEmpty()) {
+			open.set(this.properties.getNamespaces().size());
+			return this.properties.getNamespaces().stream()
+					.map(namespace -> this.client.endpoints().inNamespace(namespace)
+							.withField("metadata.name", serviceId).withLabels(properties.getServiceLabels())
+							.watch(watcher))
+					.collect(Collectors.toList());
+		}
+		open.set(1);
+		return Collections.singletonList(this.properties.isAllNamespaces()
+				? this.client.endpoints().inAnyNamespace().withField("metadata.name", serviceId)
+						.withLabels(properties.getServiceLabels()).watch(watcher)
+				: this.client.endpoints().withField("metadata.name", serviceId)
+						.withLabels(properties.getServiceLabels()).watch(watcher));
+	}
+
 	@Override
 	public Flux<String> getServices() {
 		return Flux.defer(() -> Flux.fromIterable(kubernetesDiscoveryClient.getServices()))
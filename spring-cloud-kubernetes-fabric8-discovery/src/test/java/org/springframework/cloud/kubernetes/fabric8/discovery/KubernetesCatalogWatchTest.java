@@ -18,6 +18,7 @@ package org.springframework.cloud.kubernetes.fabric8.discovery;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,8 +27,13 @@ import io.fabric8.kubernetes.api.model.EndpointAddress;
 import io.fabric8.kubernetes.api.model.EndpointSubset;
 import io.fabric8.kubernetes.api.model.Endpoints;
 import io.fabric8.kubernetes.api.model.EndpointsList;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.ObjectReference;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import org.junit.Before;
@@ -46,7 +52,11 @@ import org.springframework.context.ApplicationEventPublisher;
 import static java.util.Arrays.stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -290,6 +300,104 @@ public class KubernetesCatalogWatchTest {
 		verify(this.applicationEventPublisher).publishEvent(any(HeartbeatEvent.class));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testEventBasedPublishesOnlyOnChanges() {
+		when(this.properties.isCatalogServicesWatchEventBased()).thenReturn(true);
+		KubernetesCatalogWatch eventBased = new KubernetesCatalogWatch(this.kubernetesClient, this.properties);
+		eventBased.setApplicationEventPublisher(this.applicationEventPublisher);
+
+		EndpointsList endpointsList = createEndpointsListByServiceName("api-service");
+		endpointsList.setMetadata(new ListMetaBuilder().withResourceVersion("42").build());
+		when(this.endpointsOperation.list()).thenReturn(endpointsList);
+		when(this.kubernetesClient.endpoints()).thenReturn(this.endpointsOperation);
+		when(this.kubernetesClient.endpoints().withLabels(anyMap())).thenReturn(this.endpointsOperation);
+		ArgumentCaptor<Watcher<Endpoints>> watcher = ArgumentCaptor.forClass(Watcher.class);
+		when(this.endpointsOperation.watch(eq("42"), watcher.capture())).thenReturn(mock(Watch.class));
+
+		eventBased.catalogServicesWatch();
+		// the watch is running, nothing is listed again
+		eventBased.catalogServicesWatch();
+
+		verify(this.endpointsOperation).list();
+		verify(this.applicationEventPublisher).publishEvent(this.heartbeatEventArgumentCaptor.capture());
+		assertThat(this.heartbeatEventArgumentCaptor.getValue().getValue()).isEqualTo(1L);
+
+		// an update that keeps the same pods
+		Endpoints unchanged = createEndpointsByPodName("api-service-singlePodUniqueId");
+		watcher.getValue().eventReceived(Watcher.Action.MODIFIED, unchanged);
+		verify(this.applicationEventPublisher).publishEvent(any(HeartbeatEvent.class));
+
+		Endpoints added = createEndpointsByPodName("other-pod");
+		added.setMetadata(new ObjectMetaBuilder().withName("other-service").withNamespace("test").build());
+		watcher.getValue().eventReceived(Watcher.Action.ADDED, added);
+		watcher.getValue().eventReceived(Watcher.Action.DELETED, added);
+
+		verify(this.applicationEventPublisher, times(3)).publishEvent(this.heartbeatEventArgumentCaptor.capture());
+		assertThat(this.heartbeatEventArgumentCaptor.getValue().getValue()).isEqualTo(3L);
+
+		// a watch closed by an error is re-established right away
+		watcher.getValue().onClose(new KubernetesClientException("gone"));
+		verify(this.endpointsOperation, timeout(5000).times(2)).list();
+		verify(this.applicationEventPublisher, timeout(5000).times(4)).publishEvent(any(HeartbeatEvent.class));
+
+		// a watch closed otherwise is re-established on the next run
+		verify(this.endpointsOperation, timeout(5000).times(2)).watch(eq("42"), watcher.capture());
+		watcher.getValue().onClose(null);
+		verify(this.endpointsOperation, times(2)).list();
+		eventBased.catalogServicesWatch();
+		verify(this.endpointsOperation, times(3)).list();
+		eventBased.destroy();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testConfiguredNamespaces() {
+		when(this.properties.getNamespaces()).thenReturn(new LinkedHashSet<>(Arrays.asList("a", "b")));
+		MixedOperation<Endpoints, EndpointsList, DoneableEndpoints, Resource<Endpoints, DoneableEndpoints>> otherOperation = mock(
+				MixedOperation.class);
+		when(this.endpointsOperation.list()).thenReturn(createSingleEndpointEndpointListByPodName("api-pod"));
+		when(otherOperation.list()).thenReturn(createSingleEndpointEndpointListByPodName("other-pod"));
+		when(this.kubernetesClient.endpoints()).thenReturn(this.endpointsOperation);
+		when(this.endpointsOperation.inNamespace("a")).thenReturn(this.endpointsOperation);
+		when(this.endpointsOperation.inNamespace("b")).thenReturn(otherOperation);
+		when(this.endpointsOperation.withLabels(anyMap())).thenReturn(this.endpointsOperation);
+		when(otherOperation.withLabels(anyMap())).thenReturn(otherOperation);
+
+		KubernetesCatalogWatch watch = new KubernetesCatalogWatch(this.kubernetesClient, this.properties);
+		watch.setApplicationEventPublisher(this.applicationEventPublisher);
+		watch.catalogServicesWatch();
+
+		verify(this.applicationEventPublisher).publishEvent(this.heartbeatEventArgumentCaptor.capture());
+		assertThat(this.heartbeatEventArgumentCaptor.getValue().getValue())
+				.isEqualTo(Arrays.asList("api-pod", "other-pod"));
+
+		// event based, each namespace is watched from its own resource version
+		when(this.properties.isCatalogServicesWatchEventBased()).thenReturn(true);
+		EndpointsList inA = createEndpointsListByServiceName("api-service");
+		inA.setMetadata(new ListMetaBuilder().withResourceVersion("1").build());
+		EndpointsList inB = createEndpointsListByServiceName("other-service");
+		inB.setMetadata(new ListMetaBuilder().withResourceVersion("2").build());
+		when(this.endpointsOperation.list()).thenReturn(inA);
+		when(otherOperation.list()).thenReturn(inB);
+		Watch watchA = mock(Watch.class);
+		Watch watchB = mock(Watch.class);
+		ArgumentCaptor<Watcher<Endpoints>> watcher = ArgumentCaptor.forClass(Watcher.class);
+		when(this.endpointsOperation.watch(eq("1"), watcher.capture())).thenReturn(watchA);
+		when(otherOperation.watch(eq("2"), any(Watcher.class))).thenReturn(watchB);
+
+		KubernetesCatalogWatch eventBased = new KubernetesCatalogWatch(this.kubernetesClient, this.properties);
+		eventBased.setApplicationEventPublisher(this.applicationEventPublisher);
+		eventBased.catalogServicesWatch();
+		verify(otherOperation).watch(eq("2"), any(Watcher.class));
+
+		// closing one watch closes the other, both are re-established together
+		watcher.getValue().onClose(new KubernetesClientException("gone"));
+		verify(watchB).close();
+		verify(otherOperation, timeout(5000).times(2)).watch(eq("2"), any(Watcher.class));
+		eventBased.destroy();
+	}
+
 	private EndpointsList createEndpointsListByServiceName(String... serviceNames) {
 		List<Endpoints> endpoints = stream(serviceNames).map(s -> createEndpointsByPodName(s + "-singlePodUniqueId"))
 				.collect(Collectors.toList());
@@ -18,6 +18,8 @@ package org.springframework.cloud.kubernetes.fabric8.discovery;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 
 import io.fabric8.kubernetes.api.model.DoneableService;
@@ -131,6 +133,45 @@ public class KubernetesDiscoveryClientFilterTest {
 
 	}
 
+	@Test
+	public void testFilteredServicesByLabelsAndAnnotations() {
+		List<Service> services = createSpringBootServiceByName(Arrays.asList("store", "canary", "legacy"));
+		services.forEach(s -> s.getMetadata().setLabels(new HashMap<>(Collections.singletonMap("app", "store"))));
+		services.get(1).getMetadata().getLabels().put("canary", "true");
+		services.forEach(s -> s.getMetadata().setAnnotations(Collections.singletonMap("team", "shop")));
+		services.get(2).getMetadata().setAnnotations(Collections.singletonMap("team", "legacy"));
+
+		ServiceList serviceList = new ServiceList();
+		serviceList.setItems(services);
+		when(this.serviceOperation.list()).thenReturn(serviceList);
+		when(this.kubernetesClient.services()).thenReturn(this.serviceOperation);
+
+		when(this.properties.getLabelFilter()).thenReturn("app=store,!canary");
+		when(this.properties.getAnnotationFilter()).thenReturn("team!=legacy");
+
+		List<String> filteredServices = this.underTest.getServices();
+
+		assertThat(filteredServices).containsExactly("store");
+	}
+
+	@Test
+	public void testFilterChange() {
+		List<String> springBootServiceNames = Arrays.asList("serviceA", "serviceB");
+		List<Service> services = createSpringBootServiceByName(springBootServiceNames);
+
+		ServiceList serviceList = new ServiceList();
+		serviceList.setItems(services);
+		when(this.serviceOperation.list()).thenReturn(serviceList);
+		when(this.kubernetesClient.services()).thenReturn(this.serviceOperation);
+
+		when(this.properties.getFilter()).thenReturn("metadata.name.endsWith('A')", "metadata.name.endsWith('A')",
+				"metadata.name.endsWith('B')");
+
+		assertThat(this.underTest.getServices()).containsExactly("serviceA");
+		assertThat(this.underTest.getServices()).containsExactly("serviceA");
+		assertThat(this.underTest.getServices()).containsExactly("serviceB");
+	}
+
 	private List<Service> createSpringBootServiceByName(List<String> serviceNames) {
 		List<Service> serviceCollection = new ArrayList<>(serviceNames.size());
 		for (String serviceName : serviceNames) {
@@ -17,8 +17,10 @@
 package org.springframework.cloud.kubernetes.fabric8.discovery;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -151,6 +153,112 @@ public class KubernetesDiscoveryClientTest {
 				.hasSize(1);
 	}
 
+	@Test
+	public void getInstancesOfSeveralServicesShouldListOnce() {
+		Map<String, String> labels = Collections.singletonMap("batch", "true");
+
+		Endpoints endpointsA = new EndpointsBuilder().withNewMetadata().withName("service-a").withNamespace("test")
+				.withLabels(labels).endMetadata().addNewSubset().addNewAddress().withIp("ip1").endAddress()
+				.addNewPort("http", "http_tcp", 80, "TCP").endSubset().build();
+		Endpoints endpointsB = new EndpointsBuilder().withNewMetadata().withName("service-b").withNamespace("test")
+				.withLabels(labels).endMetadata().addNewSubset().addNewAddress().withIp("ip2").endAddress()
+				.addNewAddress().withIp("ip3").endAddress().addNewPort("http", "http_tcp", 8080, "TCP").endSubset()
+				.build();
+		Endpoints endpointsOther = new EndpointsBuilder().withNewMetadata().withName("service-other")
+				.withNamespace("test").withLabels(labels).endMetadata().addNewSubset().addNewAddress().withIp("ip4")
+				.endAddress().addNewPort("http", "http_tcp", 80, "TCP").endSubset().build();
+
+		EndpointsList endpoints = new EndpointsList();
+		endpoints.setItems(new ArrayList<>(Arrays.asList(endpointsA, endpointsB, endpointsOther)));
+		mockServer.expect().get().withPath("/api/v1/namespaces/test/endpoints?labelSelector=batch%3Dtrue")
+				.andReturn(200, endpoints).once();
+
+		ServiceList services = new ServiceListBuilder().addNewItem().withNewMetadata().withName("service-a")
+				.withNamespace("test").withLabels(labels).endMetadata().endItem().addNewItem().withNewMetadata()
+				.withName("service-b").withNamespace("test").withLabels(labels).endMetadata().endItem().addNewItem()
+				.withNewMetadata().withName("service-other").withNamespace("test").withLabels(labels).endMetadata()
+				.endItem().build();
+		mockServer.expect().get().withPath("/api/v1/namespaces/test/services?labelSelector=batch%3Dtrue")
+				.andReturn(200, services).once();
+
+		final KubernetesDiscoveryProperties properties = new KubernetesDiscoveryProperties();
+		properties.setServiceLabels(labels);
+
+		final KubernetesDiscoveryClient discoveryClient = new KubernetesDiscoveryClient(mockClient, properties,
+				client -> client.services().withLabels(labels), new ServicePortSecureResolver(properties));
+		discoveryClient.setBatchListThreshold(1);
+
+		final Map<String, List<ServiceInstance>> instances = discoveryClient
+				.getInstances(Arrays.asList("service-b", "service-a", "service-missing"));
+
+		assertThat(instances).containsOnlyKeys("service-b", "service-a", "service-missing");
+		assertThat(instances.keySet()).containsExactly("service-b", "service-a", "service-missing");
+		assertThat(instances.get("service-a")).extracting(ServiceInstance::getHost).containsExactly("ip1");
+		assertThat(instances.get("service-b")).extracting(ServiceInstance::getHost).containsExactly("ip2", "ip3");
+		assertThat(instances.get("service-b")).extracting(ServiceInstance::getPort).containsOnly(8080);
+		assertThat(instances.get("service-missing")).isEmpty();
+	}
+
+	@Test
+	public void getInstancesOfFewServicesShouldSelectEachByName() {
+		for (String name : Arrays.asList("service-a", "service-b")) {
+			Endpoints endpoints = new EndpointsBuilder().withNewMetadata().withName(name).withNamespace("test")
+					.endMetadata().addNewSubset().addNewAddress().withIp("ip-" + name).endAddress()
+					.addNewPort("http", "http_tcp", 80, "TCP").endSubset().build();
+			mockServer.expect().get()
+					.withPath("/api/v1/namespaces/test/endpoints?fieldSelector=metadata.name%3D" + name)
+					.andReturn(200, new EndpointsList(null, Collections.singletonList(endpoints), null, null)).once();
+			mockServer.expect().get().withPath("/api/v1/namespaces/test/services?fieldSelector=metadata.name%3D" + name)
+					.andReturn(200, new ServiceListBuilder().addNewItem().withNewMetadata().withName(name)
+							.withNamespace("test").endMetadata().endItem().build())
+					.once();
+		}
+		mockServer.expect().get()
+				.withPath("/api/v1/namespaces/test/endpoints?fieldSelector=metadata.name%3Dservice-missing")
+				.andReturn(200, new EndpointsList()).once();
+
+		final KubernetesDiscoveryProperties properties = new KubernetesDiscoveryProperties();
+		final KubernetesDiscoveryClient discoveryClient = new KubernetesDiscoveryClient(mockClient, properties,
+				KubernetesClient::services, new ServicePortSecureResolver(properties));
+
+		final Map<String, List<ServiceInstance>> instances = discoveryClient
+				.getInstances(Arrays.asList("service-b", "service-a", "service-missing"));
+
+		assertThat(instances.keySet()).containsExactly("service-b", "service-a", "service-missing");
+		assertThat(instances.get("service-a")).extracting(ServiceInstance::getHost).containsExactly("ip-service-a");
+		assertThat(instances.get("service-b")).extracting(ServiceInstance::getHost).containsExactly("ip-service-b");
+		assertThat(instances.get("service-missing")).isEmpty();
+	}
+
+	@Test
+	public void getInstancesShouldMergeConfiguredNamespaces() {
+		for (String namespace : Arrays.asList("ns-a", "ns-b")) {
+			Endpoints endpoints = new EndpointsBuilder().withNewMetadata().withName("service-ns")
+					.withNamespace(namespace).endMetadata().addNewSubset().addNewAddress().withIp("ip-" + namespace)
+					.endAddress().addNewPort("http", "http_tcp", 80, "TCP").endSubset().build();
+			EndpointsList endpointsList = new EndpointsList();
+			endpointsList.setItems(Collections.singletonList(endpoints));
+			mockServer.expect().get()
+					.withPath("/api/v1/namespaces/" + namespace + "/endpoints?fieldSelector=metadata.name%3Dservice-ns")
+					.andReturn(200, endpointsList).once();
+			mockServer.expect().get().withPath("/api/v1/namespaces/" + namespace + "/services/service-ns")
+					.andReturn(200, new ServiceBuilder().withNewMetadata().withName("service-ns")
+							.withNamespace(namespace).endMetadata().build())
+					.once();
+		}
+
+		final KubernetesDiscoveryProperties properties = new KubernetesDiscoveryProperties();
+		properties.setNamespaces(new LinkedHashSet<>(Arrays.asList("ns-a", "ns-b")));
+
+		final DiscoveryClient discoveryClient = new KubernetesDiscoveryClient(mockClient, properties,
+				KubernetesClient::services, new ServicePortSecureResolver(properties));
+
+		final List<ServiceInstance> instances = discoveryClient.getInstances("service-ns");
+		assertThat(instances).extracting(ServiceInstance::getHost).containsExactly("ip-ns-a", "ip-ns-b");
+		assertThat(instances).extracting(instance -> instance.getMetadata().get("k8s_namespace"))
+				.containsExactly("ns-a", "ns-b");
+	}
+
 	@Test
 	public void getEndPointsListTest() {
 		Map<String, String> labels = new HashMap<>();
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.fabric8.discovery;
+
+import java.util.List;
+
+import io.fabric8.kubernetes.api.model.EndpointsBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KubernetesInformerDiscoveryClientTest {
+
+	@Rule
+	public KubernetesServer mockServer = new KubernetesServer(false, true);
+
+	private KubernetesClient mockClient;
+
+	private KubernetesInformerDiscoveryClient discoveryClient;
+
+	@Before
+	public void setup() {
+		mockClient = mockServer.getClient();
+
+		createService("test", "service-a", "10.0.0.1");
+		createService("other", "service-a", "10.0.0.2");
+		createService("test", "service-b", "10.0.0.3");
+	}
+
+	@After
+	public void tearDown() {
+		if (discoveryClient != null) {
+			discoveryClient.destroy();
+		}
+	}
+
+	@Test
+	public void getInstancesShouldBeServedFromTheClientNamespace() throws Exception {
+		KubernetesDiscoveryProperties properties = new KubernetesDiscoveryProperties();
+		discoveryClient = new KubernetesInformerDiscoveryClient(mockClient, properties, KubernetesClient::services);
+		discoveryClient.afterPropertiesSet();
+
+		List<ServiceInstance> instances = discoveryClient.getInstances("service-a");
+
+		assertThat(instances).hasSize(1).extracting(ServiceInstance::getHost).containsOnly("10.0.0.1");
+		assertThat(discoveryClient.getInstances("service-c")).isEmpty();
+		assertThat(discoveryClient.getServices()).containsOnly("service-a", "service-b");
+	}
+
+	@Test
+	public void getInstancesShouldBeServedFromAllNamespaces() throws Exception {
+		KubernetesDiscoveryProperties properties = new KubernetesDiscoveryProperties();
+		properties.setAllNamespaces(true);
+		discoveryClient = new KubernetesInformerDiscoveryClient(mockClient, properties, KubernetesClient::services);
+		discoveryClient.afterPropertiesSet();
+
+		List<ServiceInstance> instances = discoveryClient.getInstances("service-a");
+
+		assertThat(instances).hasSize(2).extracting(ServiceInstance::getHost).containsOnly("10.0.0.1", "10.0.0.2");
+		assertThat(discoveryClient.getServices()).containsOnly("service-a", "service-a", "service-b");
+	}
+
+	@Test
+	public void lookupsShouldBeServedWhileTheCacheIsLoadedInBackground() throws Exception {
+		KubernetesDiscoveryProperties properties = new KubernetesDiscoveryProperties();
+		properties.setLoadCacheInBackground(true);
+		discoveryClient = new KubernetesInformerDiscoveryClient(mockClient, properties, KubernetesClient::services);
+		discoveryClient.afterPropertiesSet();
+
+		assertThat(discoveryClient.getServices()).containsOnly("service-a", "service-b");
+
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!discoveryClient.isCacheLoaded() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(discoveryClient.isCacheLoaded()).isTrue();
+		assertThat(discoveryClient.getInstances("service-a")).extracting(ServiceInstance::getHost)
+				.containsOnly("10.0.0.1");
+	}
+
+	private void createService(String namespace, String name, String ip) {
+		mockClient.services().inNamespace(namespace).create(
+				new ServiceBuilder().withNewMetadata().withName(name).withNamespace(namespace).endMetadata().build());
+		mockClient.endpoints().inNamespace(namespace)
+				.create(new EndpointsBuilder().withNewMetadata().withName(name).withNamespace(namespace).endMetadata()
+						.addNewSubset().addNewAddress().withIp(ip).endAddress()
+						.addNewPort("http", "http_tcp", 80, "TCP").endSubset().build());
+	}
+
+}
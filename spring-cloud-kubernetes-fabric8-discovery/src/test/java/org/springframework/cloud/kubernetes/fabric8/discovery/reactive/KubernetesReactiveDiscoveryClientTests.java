@@ -17,7 +17,10 @@
 package org.springframework.cloud.kubernetes.fabric8.discovery.reactive;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 
 import io.fabric8.kubernetes.api.model.Endpoints;
@@ -26,6 +29,7 @@ import io.fabric8.kubernetes.api.model.EndpointsList;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.ServiceList;
 import io.fabric8.kubernetes.api.model.ServiceListBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
@@ -188,6 +192,85 @@ class KubernetesReactiveDiscoveryClientTests {
 		StepVerifier.create(instances).expectNextCount(1).expectComplete().verify();
 	}
 
+	@Test
+	public void watchInstancesShouldEmitWhenEndpointsChange(
+			@KubernetesExtension.Client KubernetesClient kubernetesClient,
+			@KubernetesExtension.Server KubernetesServer kubernetesServer) {
+		Endpoints endpoints1 = new EndpointsBuilder().withNewMetadata().withName("existing-service")
+				.withNamespace("test").endMetadata().addNewSubset().addNewAddress().withIp("ip1").endAddress()
+				.addNewPort("http", "http_tcp", 80, "TCP").endSubset().build();
+		Endpoints endpoints2 = new EndpointsBuilder(endpoints1).editFirstSubset().editFirstAddress().withIp("ip2")
+				.endAddress().endSubset().build();
+
+		kubernetesServer.expect().get()
+				.withPath("/api/v1/namespaces/test/endpoints?fieldSelector=metadata.name%3Dexisting-service")
+				.andReturn(200, new EndpointsList(null, singletonList(endpoints1), null, null)).once();
+		kubernetesServer.expect().get()
+				.withPath("/api/v1/namespaces/test/endpoints?fieldSelector=metadata.name%3Dexisting-service")
+				.andReturn(200, new EndpointsList(null, singletonList(endpoints2), null, null)).once();
+		kubernetesServer.expect().get().withPath("/api/v1/namespaces/test/services/existing-service")
+				.andReturn(200, new ServiceBuilder().withNewMetadata().withName("existing-service")
+						.withNamespace("test").endMetadata().build())
+				.times(2);
+		kubernetesServer.expect().get()
+				.withPath("/api/v1/namespaces/test/endpoints?fieldSelector=metadata.name%3Dexisting-service&watch=true")
+				.andUpgradeToWebSocket().open().waitFor(500).andEmit(new WatchEvent(endpoints2, "MODIFIED")).done()
+				.once();
+
+		KubernetesDiscoveryProperties properties = new KubernetesDiscoveryProperties();
+		KubernetesReactiveDiscoveryClient client = new KubernetesReactiveDiscoveryClient(kubernetesClient, properties,
+				KubernetesClient::services);
+		StepVerifier.create(client.watchInstances("existing-service"))
+				.assertNext(instances -> assertThat(instances).extracting(ServiceInstance::getHost).containsOnly("ip1"))
+				.assertNext(instances -> assertThat(instances).extracting(ServiceInstance::getHost).containsOnly("ip2"))
+				.thenCancel().verify();
+	}
+
+	@Test
+	public void watchInstancesShouldWatchEveryConfiguredNamespace(
+			@KubernetesExtension.Client KubernetesClient kubernetesClient,
+			@KubernetesExtension.Server KubernetesServer kubernetesServer) {
+		Endpoints endpoints1 = new EndpointsBuilder().withNewMetadata().withName("existing-service")
+				.withNamespace("ns1").endMetadata().addNewSubset().addNewAddress().withIp("ip1").endAddress()
+				.addNewPort("http", "http_tcp", 80, "TCP").endSubset().build();
+		Endpoints endpoints2 = new EndpointsBuilder(endpoints1).editMetadata().withNamespace("ns2").endMetadata()
+				.editFirstSubset().editFirstAddress().withIp("ip2").endAddress().endSubset().build();
+
+		kubernetesServer.expect().get()
+				.withPath("/api/v1/namespaces/ns1/endpoints?fieldSelector=metadata.name%3Dexisting-service")
+				.andReturn(200, new EndpointsList(null, singletonList(endpoints1), null, null)).always();
+		kubernetesServer.expect().get()
+				.withPath("/api/v1/namespaces/ns2/endpoints?fieldSelector=metadata.name%3Dexisting-service")
+				.andReturn(200, new EndpointsList(null, Collections.emptyList(), null, null)).once();
+		kubernetesServer.expect().get()
+				.withPath("/api/v1/namespaces/ns2/endpoints?fieldSelector=metadata.name%3Dexisting-service")
+				.andReturn(200, new EndpointsList(null, singletonList(endpoints2), null, null)).always();
+		kubernetesServer.expect().get().withPath("/api/v1/namespaces/ns1/services/existing-service")
+				.andReturn(200, new ServiceBuilder().withNewMetadata().withName("existing-service").withNamespace("ns1")
+						.endMetadata().build())
+				.always();
+		kubernetesServer.expect().get().withPath("/api/v1/namespaces/ns2/services/existing-service")
+				.andReturn(200, new ServiceBuilder().withNewMetadata().withName("existing-service").withNamespace("ns2")
+						.endMetadata().build())
+				.always();
+		kubernetesServer.expect().get()
+				.withPath("/api/v1/namespaces/ns1/endpoints?fieldSelector=metadata.name%3Dexisting-service&watch=true")
+				.andUpgradeToWebSocket().open().done().once();
+		kubernetesServer.expect().get()
+				.withPath("/api/v1/namespaces/ns2/endpoints?fieldSelector=metadata.name%3Dexisting-service&watch=true")
+				.andUpgradeToWebSocket().open().waitFor(500).andEmit(new WatchEvent(endpoints2, "ADDED")).done().once();
+
+		KubernetesDiscoveryProperties properties = new KubernetesDiscoveryProperties();
+		properties.setNamespaces(new HashSet<>(Arrays.asList("ns1", "ns2")));
+		KubernetesReactiveDiscoveryClient client = new KubernetesReactiveDiscoveryClient(kubernetesClient, properties,
+				KubernetesClient::services);
+		StepVerifier.create(client.watchInstances("existing-service"))
+				.assertNext(instances -> assertThat(instances).extracting(ServiceInstance::getHost).containsOnly("ip1"))
+				.assertNext(instances -> assertThat(instances).extracting(ServiceInstance::getHost).containsOnly("ip1",
+						"ip2"))
+				.thenCancel().verify();
+	}
+
 	@Test
 	public void shouldReturnFluxWithPrefixedMetadata(@KubernetesExtension.Client KubernetesClient kubernetesClient,
 			@KubernetesExtension.Server KubernetesServer kubernetesServer) {
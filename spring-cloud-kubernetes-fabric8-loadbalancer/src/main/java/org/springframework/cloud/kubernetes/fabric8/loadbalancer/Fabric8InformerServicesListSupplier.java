@@ -0,0 +1,120 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.fabric8.loadbalancer;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesInformerServicesListSupplier;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link KubernetesInformerServicesListSupplier} backed by a Fabric8 informer watching
+ * the services named after the load balanced service, in the namespace of the client or
+ * in all namespaces.
+ */
+public class Fabric8InformerServicesListSupplier extends KubernetesInformerServicesListSupplier {
+
+	private final KubernetesClient kubernetesClient;
+
+	private volatile SharedInformerFactory sharedInformerFactory;
+
+	private volatile SharedIndexInformer<Service> informer;
+
+	Fabric8InformerServicesListSupplier(Environment environment, KubernetesClient kubernetesClient,
+			Fabric8ServiceInstanceMapper mapper, KubernetesDiscoveryProperties discoveryProperties) {
+		super(environment, mapper, discoveryProperties);
+		this.kubernetesClient = kubernetesClient;
+	}
+
+	@Override
+	protected void startInformer() {
+		OperationContext context = new OperationContext()
+				.withFields(Collections.singletonMap("metadata.name", getServiceId()));
+		if (discoveryProperties.isAllNamespaces() && this.kubernetesClient instanceof NamespacedKubernetesClient) {
+			// informers created with a custom OperationContext fall back to the namespace
+			// of the client
+			this.sharedInformerFactory = ((NamespacedKubernetesClient) this.kubernetesClient).inAnyNamespace()
+					.informers();
+		}
+		else {
+			this.sharedInformerFactory = this.kubernetesClient.informers();
+			if (StringUtils.hasText(this.kubernetesClient.getNamespace())) {
+				context = context.withNamespace(this.kubernetesClient.getNamespace());
+			}
+		}
+		this.informer = this.sharedInformerFactory.sharedIndexInformerFor(Service.class, ServiceList.class, context, 0);
+		this.informer.addEventHandler(new ResourceEventHandler<Service>() {
+			@Override
+			public void onAdd(Service service) {
+				refresh();
+			}
+
+			@Override
+			public void onUpdate(Service oldService, Service newService) {
+				refresh();
+			}
+
+			@Override
+			public void onDelete(Service service, boolean deletedFinalStateUnknown) {
+				refresh();
+			}
+		});
+		this.sharedInformerFactory.startAllRegisteredInformers();
+	}
+
+	@Override
+	protected boolean hasSynced() {
+		return this.informer != null && this.informer.hasSynced();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected List<ServiceInstance> instances() {
+		if (this.informer == null) {
+			return Collections.emptyList();
+		}
+		List<Service> services = this.informer.getIndexer().list().stream()
+				.filter(service -> getServiceId().equals(service.getMetadata().getName()))
+				.sorted(Comparator.comparing(service -> service.getMetadata().getNamespace(),
+						Comparator.nullsFirst(Comparator.naturalOrder())))
+				.collect(Collectors.toList());
+		return (List<ServiceInstance>) mapper.mapAll(getServiceId(), services);
+	}
+
+	@Override
+	protected void stopInformer() {
+		if (this.sharedInformerFactory != null) {
+			this.sharedInformerFactory.stopAllRegisteredInformers();
+		}
+	}
+
+}
@@ -16,13 +16,36 @@
 
 package org.springframework.cloud.kubernetes.fabric8.loadbalancer;
 
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.KubernetesClient;
 
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.PodUtils;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.ConditionalOnKubernetesPodsListSupplier;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLeastOutstandingRequestsLoadBalancer;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerMode;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesOutlierDetectionServiceInstanceListSupplier;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesOutlierDetector;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesOutlierDetectorMetrics;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesPodsListSupplier;
 import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesServicesListSupplier;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesWeightedLoadBalancer;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesZonePreferenceServiceInstanceListSupplier;
+import org.springframework.cloud.kubernetes.fabric8.discovery.reactive.KubernetesReactiveDiscoveryClient;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
 
 /**
  * Kubernetes load balancer client configuration.
@@ -31,12 +54,98 @@ import org.springframework.core.env.Environment;
  */
 public class Fabric8LoadBalancerClientConfiguration {
 
+	private static final boolean MICROMETER_PRESENT = ClassUtils.isPresent(
+			"io.micrometer.core.instrument.MeterRegistry",
+			Fabric8LoadBalancerClientConfiguration.class.getClassLoader());
+
 	@Bean
 	@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.mode", havingValue = "SERVICE")
 	KubernetesServicesListSupplier kubernetesServicesListSupplier(Environment environment,
 			KubernetesClient kubernetesClient, Fabric8ServiceInstanceMapper mapper,
 			KubernetesDiscoveryProperties discoveryProperties) {
-		return new Fabric8ServicesListSupplier(environment, kubernetesClient, mapper, discoveryProperties);
+		return new Fabric8InformerServicesListSupplier(environment, kubernetesClient, mapper, discoveryProperties);
+	}
+
+	@Bean
+	@ConditionalOnKubernetesPodsListSupplier
+	@ConditionalOnBean(KubernetesReactiveDiscoveryClient.class)
+	ServiceInstanceListSupplier kubernetesPodsListSupplier(Environment environment,
+			KubernetesReactiveDiscoveryClient discoveryClient, KubernetesLoadBalancerProperties properties,
+			ConfigurableApplicationContext context, ObjectProvider<PodUtils<Pod>> podUtils,
+			KubernetesClient kubernetesClient, ObjectProvider<KubernetesOutlierDetector> outlierDetector) {
+		ServiceInstanceListSupplier supplier = properties.isWatchInstances()
+				? new KubernetesPodsListSupplier(environment, discoveryClient::watchInstances)
+				: ServiceInstanceListSupplier.builder().withDiscoveryClient().withCaching().build(context);
+		KubernetesOutlierDetector detector = outlierDetector.getIfAvailable();
+		if (detector != null) {
+			supplier = new KubernetesOutlierDetectionServiceInstanceListSupplier(supplier, detector);
+		}
+		if (!properties.getZonePreference().isEnabled()) {
+			return supplier;
+		}
+		return new KubernetesZonePreferenceServiceInstanceListSupplier(supplier, properties.getZonePreference(),
+				() -> localNode(podUtils.getIfAvailable()), node -> nodeZone(kubernetesClient, node));
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.algorithm",
+			havingValue = "LEAST_OUTSTANDING_REQUESTS")
+	KubernetesLeastOutstandingRequestsLoadBalancer kubernetesLeastOutstandingRequestsLoadBalancer(
+			Environment environment, LoadBalancerClientFactory loadBalancerClientFactory) {
+		String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		return new KubernetesLeastOutstandingRequestsLoadBalancer(
+				loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), name);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.algorithm", havingValue = "WEIGHTED")
+	KubernetesWeightedLoadBalancer kubernetesWeightedLoadBalancer(Environment environment,
+			LoadBalancerClientFactory loadBalancerClientFactory, KubernetesLoadBalancerProperties properties,
+			KubernetesClient kubernetesClient) {
+		String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		String weightKey = properties.getWeightMetadataKey();
+		return new KubernetesWeightedLoadBalancer(
+				loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), name, weightKey,
+				properties.getMode() == KubernetesLoadBalancerMode.POD
+						? instance -> podAnnotation(kubernetesClient, instance, weightKey) : null);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.kubernetes.loadbalancer.outlier-detection.enabled",
+			havingValue = "true")
+	KubernetesOutlierDetector kubernetesOutlierDetector(Environment environment,
+			KubernetesLoadBalancerProperties properties, BeanFactory beanFactory) {
+		KubernetesOutlierDetector outlierDetector = new KubernetesOutlierDetector(
+				environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME), properties.getOutlierDetection());
+		if (MICROMETER_PRESENT) {
+			KubernetesOutlierDetectorMetrics.bind(outlierDetector, beanFactory);
+		}
+		return outlierDetector;
+	}
+
+	private static String localNode(PodUtils<Pod> podUtils) {
+		Pod pod = podUtils != null ? podUtils.currentPod().get() : null;
+		return pod != null && pod.getSpec() != null ? pod.getSpec().getNodeName() : null;
+	}
+
+	private static String podAnnotation(KubernetesClient kubernetesClient, ServiceInstance instance,
+			String annotation) {
+		String namespace = instance.getMetadata() != null
+				? instance.getMetadata().get(KubernetesServiceInstance.NAMESPACE_METADATA_KEY) : null;
+		if (namespace == null) {
+			namespace = kubernetesClient.getNamespace();
+		}
+		return kubernetesClient.pods().inNamespace(namespace).withField("status.podIP", instance.getHost()).list()
+				.getItems().stream()
+				.filter(pod -> instance.getInstanceId().equals(pod.getMetadata().getUid())
+						&& pod.getMetadata().getAnnotations() != null)
+				.findFirst().map(pod -> pod.getMetadata().getAnnotations().get(annotation)).orElse(null);
+	}
+
+	private static String nodeZone(KubernetesClient kubernetesClient, String nodeName) {
+		Node node = kubernetesClient.nodes().withName(nodeName).get();
+		return node != null && node.getMetadata().getLabels() != null
+				? node.getMetadata().getLabels().get(KubernetesServiceInstance.ZONE_METADATA_KEY) : null;
 	}
 
 }
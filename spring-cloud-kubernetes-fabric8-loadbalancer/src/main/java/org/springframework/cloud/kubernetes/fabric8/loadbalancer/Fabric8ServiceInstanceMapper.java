@@ -16,10 +16,14 @@
 
 package org.springframework.cloud.kubernetes.fabric8.loadbalancer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.Service;
@@ -29,6 +33,7 @@ import io.fabric8.kubernetes.client.utils.Utils;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
 import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesServiceInstanceCache;
 import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesServiceInstanceMapper;
 
 /**
@@ -42,6 +47,8 @@ public class Fabric8ServiceInstanceMapper implements KubernetesServiceInstanceMa
 
 	private final KubernetesDiscoveryProperties discoveryProperties;
 
+	private final KubernetesServiceInstanceCache cache = new KubernetesServiceInstanceCache();
+
 	Fabric8ServiceInstanceMapper(KubernetesLoadBalancerProperties properties,
 			KubernetesDiscoveryProperties discoveryProperties) {
 		this.properties = properties;
@@ -50,28 +57,80 @@ public class Fabric8ServiceInstanceMapper implements KubernetesServiceInstanceMa
 
 	@Override
 	public KubernetesServiceInstance map(Service service) {
+		List<KubernetesServiceInstance> instances = mapAll(service);
+		return instances.size() == 1 ? instances.get(0) : null;
+	}
+
+	@Override
+	public List<KubernetesServiceInstance> mapAll(Service service) {
+		final ObjectMeta meta = service.getMetadata();
+		return this.cache.get(meta.getName(), meta.getUid(), meta.getResourceVersion(), () -> mapService(service));
+	}
+
+	@Override
+	public List<KubernetesServiceInstance> mapAll(String serviceName, Collection<Service> services) {
+		this.cache.retain(serviceName,
+				services.stream().map(service -> service.getMetadata().getUid()).collect(Collectors.toSet()));
+		return KubernetesServiceInstanceMapper.super.mapAll(serviceName, services);
+	}
+
+	private List<KubernetesServiceInstance> mapService(Service service) {
 		final ObjectMeta meta = service.getMetadata();
 		final List<ServicePort> ports = service.getSpec().getPorts();
-		ServicePort port = null;
-		if (ports.size() == 1) {
-			port = ports.get(0);
+		if (ports == null || ports.isEmpty()) {
+			return Collections.emptyList();
 		}
-		else if (ports.size() > 1 && Utils.isNotNullOrEmpty(this.properties.getPortName())) {
-			Optional<ServicePort> optPort = ports.stream().filter(it -> properties.getPortName().endsWith(it.getName()))
+		final Map<String, String> serviceMetadata = getServiceMetadata(service);
+		final ServicePort port = getPreferredPort(ports, meta.getAnnotations());
+		if (port != null) {
+			return Collections.singletonList(
+					createInstance(service, port, meta.getUid(), Collections.unmodifiableMap(serviceMetadata)));
+		}
+		if (!this.properties.isExpandPorts()) {
+			return Collections.emptyList();
+		}
+		final List<KubernetesServiceInstance> instances = new ArrayList<>(ports.size());
+		for (ServicePort it : ports) {
+			final String portName = it.getName() != null ? it.getName() : String.valueOf(it.getPort());
+			final Map<String, String> portMetadata = new HashMap<>(serviceMetadata);
+			portMetadata.put(KubernetesServiceInstanceMapper.PORT_NAME_METADATA_KEY, portName);
+			instances.add(createInstance(service, it, meta.getUid() + "-" + portName,
+					Collections.unmodifiableMap(portMetadata)));
+		}
+		return Collections.unmodifiableList(instances);
+	}
+
+	private ServicePort getPreferredPort(List<ServicePort> ports, Map<String, String> annotations) {
+		final String annotatedPortName = annotations != null
+				? annotations.get(KubernetesServiceInstanceMapper.PORT_NAME_ANNOTATION) : null;
+		if (Utils.isNotNullOrEmpty(annotatedPortName)) {
+			Optional<ServicePort> optPort = ports.stream().filter(it -> annotatedPortName.equals(it.getName()))
 					.findAny();
 			if (optPort.isPresent()) {
-				port = optPort.get();
+				return optPort.get();
 			}
 		}
-		if (port == null) {
-			return null;
+		if (ports.size() == 1) {
+			return ports.get(0);
 		}
+		if (Utils.isNotNullOrEmpty(this.properties.getPortName())) {
+			Optional<ServicePort> optPort = ports.stream()
+					.filter(it -> it.getName() != null && properties.getPortName().endsWith(it.getName())).findAny();
+			if (optPort.isPresent()) {
+				return optPort.get();
+			}
+		}
+		return null;
+	}
+
+	private KubernetesServiceInstance createInstance(Service service, ServicePort port, String instanceId,
+			Map<String, String> metadata) {
 		final String host = KubernetesServiceInstanceMapper.createHost(service.getMetadata().getName(),
 				service.getMetadata().getNamespace(), properties.getClusterDomain());
 		final boolean secure = KubernetesServiceInstanceMapper.isSecure(service.getMetadata().getLabels(),
 				service.getMetadata().getAnnotations(), port.getName(), port.getPort());
-		return new KubernetesServiceInstance(meta.getUid(), meta.getName(), host, port.getPort(),
-				getServiceMetadata(service), secure);
+		return new KubernetesServiceInstance(instanceId, service.getMetadata().getName(), host, port.getPort(),
+				metadata, secure);
 	}
 
 	private Map<String, String> getServiceMetadata(Service service) {
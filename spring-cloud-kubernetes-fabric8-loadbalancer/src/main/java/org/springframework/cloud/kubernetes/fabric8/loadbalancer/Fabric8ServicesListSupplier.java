@@ -17,6 +17,7 @@
 package org.springframework.cloud.kubernetes.fabric8.loadbalancer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import io.fabric8.kubernetes.api.model.Service;
@@ -48,21 +49,19 @@ public class Fabric8ServicesListSupplier extends KubernetesServicesListSupplier
 
 	@Override
 	public Flux<List<ServiceInstance>> get() {
-		List<ServiceInstance> result = new ArrayList<>();
+		List<Service> services;
 		if (discoveryProperties.isAllNamespaces()) {
-			List<Service> services = this.kubernetesClient.services().inAnyNamespace()
-					.withField("metadata.name", this.getServiceId()).list().getItems();
-			services.forEach(service -> result.add(mapper.map(service)));
+			services = this.kubernetesClient.services().inAnyNamespace().withField("metadata.name", this.getServiceId())
+					.list().getItems();
 		}
 		else {
 			Service service = StringUtils.hasText(this.kubernetesClient.getNamespace())
 					? this.kubernetesClient.services().inNamespace(this.kubernetesClient.getNamespace())
 							.withName(this.getServiceId()).get()
 					: this.kubernetesClient.services().withName(this.getServiceId()).get();
-			if (service != null) {
-				result.add(mapper.map(service));
-			}
+			services = service != null ? Collections.singletonList(service) : Collections.emptyList();
 		}
+		List<ServiceInstance> result = new ArrayList<>(mapper.mapAll(this.getServiceId(), services));
 		return Flux.defer(() -> Flux.just(result));
 	}
 
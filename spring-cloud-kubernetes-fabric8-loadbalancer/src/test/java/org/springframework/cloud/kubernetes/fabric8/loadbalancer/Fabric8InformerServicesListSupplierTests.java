@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.fabric8.loadbalancer;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerProperties;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Fabric8InformerServicesListSupplierTests {
+
+	private final KubernetesServer server = new KubernetesServer(false, true);
+
+	private KubernetesClient client;
+
+	private Fabric8InformerServicesListSupplier supplier;
+
+	@BeforeEach
+	void setup() {
+		this.server.before();
+		this.client = this.server.getClient().inNamespace("test");
+		this.client.services().create(buildService("test-service", 8080));
+		this.client.services().create(buildService("other-service", 9090));
+
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty(LoadBalancerClientFactory.PROPERTY_NAME, "test-service");
+		KubernetesDiscoveryProperties discoveryProperties = new KubernetesDiscoveryProperties();
+		this.supplier = new Fabric8InformerServicesListSupplier(environment, this.client,
+				new Fabric8ServiceInstanceMapper(new KubernetesLoadBalancerProperties(), discoveryProperties),
+				discoveryProperties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.supplier.destroy();
+		this.server.after();
+	}
+
+	@Test
+	void instancesShouldBeEmittedWhenTheServiceChanges() {
+		List<ServiceInstance> instances = this.supplier.get().blockFirst(Duration.ofSeconds(30));
+		assertThat(instances).extracting(ServiceInstance::getPort).containsExactly(8080);
+
+		this.client.services().createOrReplace(buildService("test-service", 8081));
+
+		List<ServiceInstance> updated = this.supplier.get().filter(latest -> latest != instances)
+				.blockFirst(Duration.ofSeconds(30));
+		assertThat(updated).extracting(ServiceInstance::getPort).containsExactly(8081);
+	}
+
+	@Test
+	void laterSubscribersShouldReceiveTheCachedInstances() {
+		List<ServiceInstance> first = this.supplier.get().blockFirst(Duration.ofSeconds(30));
+		List<ServiceInstance> second = this.supplier.get().blockFirst(Duration.ofSeconds(1));
+
+		assertThat(first).hasSize(1);
+		assertThat(second).isSameAs(first);
+	}
+
+	private Service buildService(String name, int port) {
+		return new ServiceBuilder().withNewMetadata().withName(name).withNamespace("test").withUid(name).endMetadata()
+				.withNewSpec().addNewPort().withName("http").withPort(port).endPort().endSpec().build();
+	}
+
+}
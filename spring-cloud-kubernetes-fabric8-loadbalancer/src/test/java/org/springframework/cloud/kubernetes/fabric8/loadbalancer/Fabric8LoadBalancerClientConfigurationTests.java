@@ -0,0 +1,70 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.kubernetes.fabric8.loadbalancer;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesPodsListSupplier;
+import org.springframework.cloud.kubernetes.fabric8.discovery.KubernetesDiscoveryClient;
+import org.springframework.cloud.kubernetes.fabric8.discovery.reactive.KubernetesReactiveDiscoveryClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClientConfiguration;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class Fabric8LoadBalancerClientConfigurationTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(Fabric8LoadBalancerClientConfiguration.class, LoadBalancerClientConfiguration.class,
+					PropertiesConfiguration.class)
+			.withBean(KubernetesDiscoveryClient.class, () -> mock(KubernetesDiscoveryClient.class))
+			.withBean(KubernetesReactiveDiscoveryClient.class, () -> mock(KubernetesReactiveDiscoveryClient.class))
+			.withBean(KubernetesClient.class, () -> mock(KubernetesClient.class))
+			.withBean(LoadBalancerClientFactory.class, () -> mock(LoadBalancerClientFactory.class))
+			.withPropertyValues(LoadBalancerClientFactory.PROPERTY_NAME + "=service1");
+
+	@Test
+	void podModeShouldKeepTheLoadBalancerSupplierByDefault() {
+		this.contextRunner.run(context -> {
+			assertThat(context).doesNotHaveBean("kubernetesPodsListSupplier");
+			assertThat(context).hasSingleBean(ServiceInstanceListSupplier.class);
+			assertThat(context).hasBean("discoveryClientServiceInstanceListSupplier");
+		});
+	}
+
+	@Test
+	void watchedInstancesShouldReplaceTheLoadBalancerSupplier() {
+		this.contextRunner.withPropertyValues("spring.cloud.kubernetes.loadbalancer.watch-instances=true")
+				.run(context -> {
+					assertThat(context).hasSingleBean(ServiceInstanceListSupplier.class);
+					assertThat(context.getBean(ServiceInstanceListSupplier.class))
+							.isInstanceOf(KubernetesPodsListSupplier.class);
+				});
+	}
+
+	@EnableConfigurationProperties(KubernetesLoadBalancerProperties.class)
+	static class PropertiesConfiguration {
+
+	}
+
+}
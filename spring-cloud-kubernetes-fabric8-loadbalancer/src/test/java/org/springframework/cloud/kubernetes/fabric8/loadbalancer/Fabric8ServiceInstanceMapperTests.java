@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesDiscoveryProperties;
 import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceInstance;
 import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesLoadBalancerProperties;
+import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesServiceInstanceMapper;
 
 class Fabric8ServiceInstanceMapperTests {
 
@@ -64,6 +65,64 @@ class Fabric8ServiceInstanceMapperTests {
 		Assertions.assertEquals(9000, instance.getPort());
 	}
 
+	@Test
+	void testMapperMultiplePortsOnlyUsesThePreferredPort() {
+		KubernetesLoadBalancerProperties properties = new KubernetesLoadBalancerProperties();
+		KubernetesDiscoveryProperties discoveryProperties = new KubernetesDiscoveryProperties();
+		List<ServicePort> ports = new ArrayList<>();
+		ports.add(new ServicePortBuilder().withPort(9090).withName("grpc").build());
+		ports.add(new ServicePortBuilder().withPort(8080).withName("http").build());
+		ports.add(new ServicePortBuilder().withPort(9091).withName("metrics").build());
+		Service service = buildService("test", "abc", ports, new HashMap<>());
+		List<KubernetesServiceInstance> instances = new Fabric8ServiceInstanceMapper(properties, discoveryProperties)
+				.mapAll(service);
+		Assertions.assertEquals(1, instances.size());
+		Assertions.assertEquals(8080, instances.get(0).getPort());
+
+		properties.setPortName("web");
+		Fabric8ServiceInstanceMapper mapper = new Fabric8ServiceInstanceMapper(properties, discoveryProperties);
+		Assertions.assertNull(mapper.map(service));
+		Assertions.assertTrue(mapper.mapAll(service).isEmpty());
+	}
+
+	@Test
+	void testMapperMultiplePortsWithoutPreferredPort() {
+		KubernetesLoadBalancerProperties properties = new KubernetesLoadBalancerProperties();
+		properties.setExpandPorts(true);
+		KubernetesDiscoveryProperties discoveryProperties = new KubernetesDiscoveryProperties();
+		List<ServicePort> ports = new ArrayList<>();
+		ports.add(new ServicePortBuilder().withPort(8080).withName("web").build());
+		ports.add(new ServicePortBuilder().withPort(9090).withName("grpc").build());
+		Service service = buildService("test", "abc", ports, new HashMap<>());
+		Fabric8ServiceInstanceMapper mapper = new Fabric8ServiceInstanceMapper(properties, discoveryProperties);
+		Assertions.assertNull(mapper.map(service));
+		List<KubernetesServiceInstance> instances = mapper.mapAll(service);
+		Assertions.assertEquals(2, instances.size());
+		Assertions.assertEquals("abc-web", instances.get(0).getInstanceId());
+		Assertions.assertEquals(8080, instances.get(0).getPort());
+		Assertions.assertEquals("web",
+				instances.get(0).getMetadata().get(KubernetesServiceInstanceMapper.PORT_NAME_METADATA_KEY));
+		Assertions.assertEquals("abc-grpc", instances.get(1).getInstanceId());
+		Assertions.assertEquals(9090, instances.get(1).getPort());
+	}
+
+	@Test
+	void testMapperMultiplePortsWithAnnotatedPort() {
+		KubernetesLoadBalancerProperties properties = new KubernetesLoadBalancerProperties();
+		properties.setPortName("http");
+		KubernetesDiscoveryProperties discoveryProperties = new KubernetesDiscoveryProperties();
+		List<ServicePort> ports = new ArrayList<>();
+		ports.add(new ServicePortBuilder().withPort(8080).withName("http").build());
+		ports.add(new ServicePortBuilder().withPort(9090).withName("grpc").build());
+		Service service = buildService("test", "abc", ports, new HashMap<>(),
+				Collections.singletonMap(KubernetesServiceInstanceMapper.PORT_NAME_ANNOTATION, "grpc"));
+		List<KubernetesServiceInstance> instances = new Fabric8ServiceInstanceMapper(properties, discoveryProperties)
+				.mapAll(service);
+		Assertions.assertEquals(1, instances.size());
+		Assertions.assertEquals("abc", instances.get(0).getInstanceId());
+		Assertions.assertEquals(9090, instances.get(0).getPort());
+	}
+
 	@Test
 	void testMapperSecure() {
 		KubernetesLoadBalancerProperties properties = new KubernetesLoadBalancerProperties();
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.kubernetes.fabric8.loadbalancer;
 
+import java.util.Collections;
 import java.util.List;
 
 import io.fabric8.kubernetes.api.model.DoneableService;
@@ -40,7 +41,8 @@ import org.springframework.cloud.kubernetes.commons.discovery.KubernetesServiceI
 import org.springframework.cloud.kubernetes.commons.loadbalancer.KubernetesServicesListSupplier;
 import org.springframework.core.env.Environment;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -70,7 +72,8 @@ class KubernetesServiceListSupplierTests {
 	@Test
 	void testPositiveMatch() {
 		when(environment.getProperty("loadbalancer.client.name")).thenReturn("test-service");
-		when(mapper.map(any(Service.class))).thenReturn(new KubernetesServiceInstance("", "", "", 0, null, false));
+		when(mapper.mapAll(eq("test-service"), anyCollection()))
+				.thenReturn(Collections.singletonList(new KubernetesServiceInstance("", "", "", 0, null, false)));
 		when(this.client.getNamespace()).thenReturn("test");
 		when(this.client.services()).thenReturn(this.serviceOperation);
 		when(this.serviceOperation.inNamespace("test")).thenReturn(namespaceOperation);
@@ -86,7 +89,8 @@ class KubernetesServiceListSupplierTests {
 	@Test
 	void testPositiveMatchAllNamespaces() {
 		when(environment.getProperty("loadbalancer.client.name")).thenReturn("test-service");
-		when(mapper.map(any(Service.class))).thenReturn(new KubernetesServiceInstance("", "", "", 0, null, false));
+		when(mapper.mapAll(eq("test-service"), anyCollection()))
+				.thenReturn(Collections.singletonList(new KubernetesServiceInstance("", "", "", 0, null, false)));
 		when(this.client.services()).thenReturn(this.serviceOperation);
 		when(this.serviceOperation.inAnyNamespace()).thenReturn(this.multiDeletable);
 		when(this.multiDeletable.withField("metadata.name", "test-service")).thenReturn(this.multiDeletable);